@@ -0,0 +1,35 @@
+package com.accenture.charge;
+
+import com.accenture.configuration.CompteurRequetesSql;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Assertions sur le nombre d'instructions SQL émises par un appel, pour faire échouer le build
+ * lorsqu'une modification introduit un N+1. L'appel doit s'exécuter sur le thread du test.
+ */
+public final class AssertionsSql {
+
+    private AssertionsSql() {
+    }
+
+    /**
+     * Exécute l'appel et vérifie qu'il émet exactement {@code attendu} instructions SQL.
+     *
+     * @return le résultat de l'appel.
+     */
+    public static <T> T assertNombreRequetes(int attendu, String description, Supplier<T> appel) {
+        CompteurRequetesSql.demarrer();
+        T resultat;
+        int nombre;
+        try {
+            resultat = appel.get();
+        } finally {
+            nombre = CompteurRequetesSql.arreter();
+        }
+        assertEquals(attendu, nombre, STR."\{description} : nombre d'instructions SQL");
+        return resultat;
+    }
+}
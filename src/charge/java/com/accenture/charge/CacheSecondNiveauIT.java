@@ -0,0 +1,32 @@
+package com.accenture.charge;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sans le profil "cache", le cache de second niveau Hibernate reste désactivé, bien que le
+ * fournisseur JCache soit présent dans le classpath.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+class CacheSecondNiveauIT {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("Le profil par défaut n'active ni le cache de second niveau ni le cache de requêtes")
+    @Test
+    void testCacheDesactiveParDefaut() {
+        SessionFactoryOptions options = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions();
+        assertFalse(options.isSecondLevelCacheEnabled());
+        assertFalse(options.isQueryCacheEnabled());
+    }
+}
@@ -0,0 +1,102 @@
+package com.accenture.charge;
+
+import com.accenture.service.dto.vehicules.VoitureRequestDTO;
+import com.accenture.service.generation.GenerateurDonnees;
+import com.accenture.service.generation.ParametresGeneration;
+import com.accenture.shared.enumerations.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tir de charge de bout en bout : l'application démarre sur un Postgres embarqué, un jeu de données synthétique
+ * est généré, puis chaque endpoint est sollicité à la concurrence demandée. Le rapport JSON (débit, p50/p95/p99
+ * par endpoint) est écrit dans {@code target/charge/rapport-charge.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("charge")
+class ChargeIT {
+
+    @LocalServerPort
+    int port;
+    @Autowired
+    GenerateurDonnees generateurDonnees;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @DisplayName("Tir de charge sur la recherche, les filtres, les informations client et l'ajout de voiture")
+    @Test
+    void tirDeCharge() throws Exception {
+        ConfigurationCharge config = ConfigurationCharge.depuisProprietes();
+        generateurDonnees.generer(new ParametresGeneration(config.nbVehicules(), config.nbClients(),
+                (long) config.nbVehicules() * config.locationsParVehicule(), config.graine()));
+
+        String base = STR."http://localhost:\{port}";
+        LocalDate aujourdhui = LocalDate.now();
+        List<ScenarioCharge> scenarios = List.of(
+                new ScenarioCharge("GET /vehicules/search/", aleatoire -> {
+                    LocalDate debut = aujourdhui.plusDays(aleatoire.nextInt(300));
+                    return get(STR."\{base}/vehicules/search/?dateDebut=\{debut}&dateFin=\{debut.plusDays(1 + aleatoire.nextInt(7))}");
+                }),
+                new ScenarioCharge("GET /vehicules/filtre", aleatoire ->
+                        get(STR."\{base}/vehicules/filtre?filtre=\{Filtre.values()[aleatoire.nextInt(4)]}")),
+                new ScenarioCharge("GET /clients/informations", aleatoire ->
+                        get(STR."\{base}/clients/informations?login=\{GenerateurDonnees.login(aleatoire.nextInt(config.nbClients()))}&password=\{GenerateurDonnees.MOT_DE_PASSE.replace("#", "%23")}")),
+                new ScenarioCharge("POST /voitures", aleatoire -> post(STR."\{base}/voitures", nouvelleVoiture(aleatoire))));
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        LanceurCharge lanceur = new LanceurCharge(httpClient, config);
+        List<ResultatEndpoint> resultats = new ArrayList<>();
+        for (ScenarioCharge scenario : scenarios)
+            resultats.add(lanceur.executer(scenario));
+        new RapportCharge(config, resultats).ecrire(config);
+
+        for (ResultatEndpoint resultat : resultats) {
+            assertTrue(resultat.requetes() > 0, resultat.nom());
+            assertEquals(0, resultat.erreurs(), resultat.nom());
+        }
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private HttpRequest post(String url, Object corps) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corps)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static VoitureRequestDTO nouvelleVoiture(Random aleatoire) {
+        return new VoitureRequestDTO(STR."Marque\{aleatoire.nextInt(40)}", STR."Modele\{aleatoire.nextInt(400)}", "Bleu",
+                Type.BERLINE, 5, Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3,
+                60, aleatoire.nextInt(100_000), true, false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.accenture.charge;
+
+import java.nio.file.Path;
+
+/**
+ * Paramètres du tir de charge, lus depuis les propriétés système (transmises par le profil Maven "charge").
+ *
+ * @param version              : version de l'application testée (reprise dans le rapport)
+ * @param concurrence          : nombre de clients HTTP simultanés
+ * @param dureeSecondes        : durée de mesure par endpoint
+ * @param echauffementSecondes : durée d'échauffement (non mesurée) par endpoint
+ * @param nbVehicules          : taille de la flotte générée
+ * @param nbClients            : nombre de clients générés
+ * @param locationsParVehicule : nombre de locations générées par véhicule
+ * @param graine               : graine des générateurs aléatoires (jeu de données et requêtes)
+ * @param rapport              : fichier JSON du rapport
+ */
+public record ConfigurationCharge(
+        String version,
+        int concurrence,
+        int dureeSecondes,
+        int echauffementSecondes,
+        int nbVehicules,
+        int nbClients,
+        int locationsParVehicule,
+        long graine,
+        Path rapport
+) {
+
+    public static ConfigurationCharge depuisProprietes() {
+        return new ConfigurationCharge(
+                System.getProperty("charge.version", "local"),
+                Integer.getInteger("charge.concurrence", 16),
+                Integer.getInteger("charge.duree", 30),
+                Integer.getInteger("charge.echauffement", 5),
+                Integer.getInteger("charge.vehicules", 2000),
+                Integer.getInteger("charge.clients", 500),
+                Integer.getInteger("charge.locationsParVehicule", 5),
+                Long.getLong("charge.graine", 42L),
+                Path.of(System.getProperty("charge.rapport", "target/charge/rapport-charge.json")));
+    }
+}
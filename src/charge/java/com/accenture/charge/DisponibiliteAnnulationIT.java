@@ -0,0 +1,99 @@
+package com.accenture.charge;
+
+import com.accenture.repository.MotoDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.VoitureDAO;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.service.generation.GenerateurDonnees;
+import com.accenture.service.generation.ParametresGeneration;
+import com.accenture.shared.enumerations.EtatLocation;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Les requêtes de disponibilité en base (utilisées lorsque l'index en mémoire est désactivé) ignorent les locations
+ * annulées, comme la réservation ({@code existeChevauchement}) et la contrainte d'exclusion.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("charge")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DisponibiliteAnnulationIT {
+
+    private static final String INSERTION = """
+            INSERT INTO location (client_id, vehicule_id, date_debut, date_fin, etat_location)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    GenerateurDonnees generateurDonnees;
+    @Autowired
+    VehiculeDAO vehiculeDAO;
+    @Autowired
+    MotoDAO motoDAO;
+    @Autowired
+    VoitureDAO voitureDAO;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    LocalDate debut = LocalDate.now().plusYears(20);
+    LocalDate fin = debut.plusDays(5);
+    long moto;
+    long voitureAnnulee;
+    long voitureReservee;
+
+    @BeforeAll
+    void genererDonnees() throws SQLException {
+        generateurDonnees.generer(new ParametresGeneration(12, 5, 0, 42L));
+        jdbcTemplate.update("DELETE FROM location WHERE date_debut >= ?", debut.minusDays(10));
+        moto = jdbcTemplate.queryForObject("SELECT MAX(id) FROM motos", Long.class);
+        List<Long> voitures = jdbcTemplate.queryForList("SELECT id FROM voitures ORDER BY id DESC LIMIT 2", Long.class);
+        voitureAnnulee = voitures.get(0);
+        voitureReservee = voitures.get(1);
+        long client = jdbcTemplate.queryForObject("SELECT MAX(id) FROM clients", Long.class);
+
+        jdbcTemplate.update(INSERTION, client, moto, debut, fin, EtatLocation.ANNULEE.name());
+        jdbcTemplate.update(INSERTION, client, voitureAnnulee, debut, fin, EtatLocation.ANNULEE.name());
+        jdbcTemplate.update(INSERTION, client, voitureReservee, debut, fin, EtatLocation.RESERVER.name());
+    }
+
+    @DisplayName("Une location annulée qui chevauche la période ne masque pas le véhicule")
+    @Test
+    void testLocationAnnulee() {
+        List<Long> tous = ids(vehiculeDAO.trouverDisponibles(debut.plusDays(1), fin, null, true, true));
+        assertTrue(tous.contains(moto));
+        assertTrue(tous.contains(voitureAnnulee));
+        assertTrue(ids(motoDAO.trouverDisponibles(debut.plusDays(1), fin, null)).contains(moto));
+        assertTrue(ids(voitureDAO.trouverDisponibles(debut.plusDays(1), fin, null)).contains(voitureAnnulee));
+    }
+
+    @DisplayName("Une location non annulée qui chevauche la période masque toujours le véhicule")
+    @Test
+    void testLocationReservee() {
+        assertFalse(ids(vehiculeDAO.trouverDisponibles(debut.plusDays(1), fin, null, true, true)).contains(voitureReservee));
+        assertFalse(ids(voitureDAO.trouverDisponibles(debut.plusDays(1), fin, null)).contains(voitureReservee));
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static List<Long> ids(List<? extends Vehicule> vehicules) {
+        return vehicules.stream().map(Vehicule::getId).toList();
+    }
+}
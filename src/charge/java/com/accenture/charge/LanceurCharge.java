@@ -0,0 +1,110 @@
+package com.accenture.charge;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sollicite un endpoint avec {@code concurrence} clients en boucle fermée (chaque client envoie sa requête
+ * suivante dès réception de la réponse), d'abord pendant l'échauffement puis pendant la durée mesurée.
+ */
+public class LanceurCharge {
+
+    private final HttpClient httpClient;
+    private final ConfigurationCharge config;
+
+    public LanceurCharge(HttpClient httpClient, ConfigurationCharge config) {
+        this.httpClient = httpClient;
+        this.config = config;
+    }
+
+    public ResultatEndpoint executer(ScenarioCharge scenario) throws Exception {
+        solliciter(scenario, Duration.ofSeconds(config.echauffementSecondes()));
+        long debut = System.nanoTime();
+        List<Mesures> mesures = solliciter(scenario, Duration.ofSeconds(config.dureeSecondes()));
+        double dureeSecondes = (System.nanoTime() - debut) / 1e9;
+
+        long erreurs = mesures.stream().mapToLong(m -> m.erreurs).sum();
+        long[] latences = mesures.stream()
+                .flatMapToLong(m -> Arrays.stream(m.latences, 0, m.nombre))
+                .sorted()
+                .toArray();
+        return new ResultatEndpoint(scenario.nom(), latences.length, erreurs, latences.length / dureeSecondes,
+                percentile(latences, 50), percentile(latences, 95), percentile(latences, 99),
+                latences.length == 0 ? 0 : enMillis(latences[latences.length - 1]));
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private List<Mesures> solliciter(ScenarioCharge scenario, Duration duree) throws Exception {
+        long fin = System.nanoTime() + duree.toNanos();
+        try (ExecutorService executeur = Executors.newFixedThreadPool(config.concurrence())) {
+            List<Future<Mesures>> clients = new ArrayList<>();
+            for (int i = 0; i < config.concurrence(); i++) {
+                Random aleatoire = new Random(config.graine() + i);
+                clients.add(executeur.submit(() -> boucler(scenario, aleatoire, fin)));
+            }
+            List<Mesures> mesures = new ArrayList<>();
+            for (Future<Mesures> client : clients)
+                mesures.add(client.get());
+            return mesures;
+        }
+    }
+
+    private Mesures boucler(ScenarioCharge scenario, Random aleatoire, long fin) {
+        Mesures mesures = new Mesures();
+        while (System.nanoTime() < fin) {
+            long debut = System.nanoTime();
+            boolean erreur;
+            try {
+                HttpResponse<Void> reponse = httpClient.send(scenario.requete().apply(aleatoire), HttpResponse.BodyHandlers.discarding());
+                erreur = reponse.statusCode() >= 400;
+            } catch (Exception e) {
+                erreur = true;
+            }
+            mesures.ajouter(System.nanoTime() - debut, erreur);
+        }
+        return mesures;
+    }
+
+    private static double percentile(long[] latencesTriees, int rang) {
+        if (latencesTriees.length == 0)
+            return 0;
+        int index = (int) Math.ceil(rang / 100.0 * latencesTriees.length) - 1;
+        return enMillis(latencesTriees[Math.max(0, index)]);
+    }
+
+    private static double enMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+
+    /**
+     * Latences (en nanosecondes) et erreurs relevées par un client ; propre à un thread, sans synchronisation.
+     */
+    private static final class Mesures {
+
+        private long[] latences = new long[1024];
+        private int nombre;
+        private long erreurs;
+
+        void ajouter(long latence, boolean erreur) {
+            if (nombre == latences.length)
+                latences = Arrays.copyOf(latences, nombre * 2);
+            latences[nombre++] = latence;
+            if (erreur)
+                erreurs++;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.accenture.charge;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.entity.utilisateurs.Location;
+import com.accenture.service.generation.GenerateurDonnees;
+import com.accenture.service.generation.ParametresGeneration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mesure la mémoire nécessaire pour lire toutes les locations (un million par défaut, cf. {@code charge.memoire.locations})
+ * selon trois plans de chargement :
+ * <ul>
+ *     <li>graphe complet (client, adresse, véhicule), équivalent de l'ancien chargement EAGER ;</li>
+ *     <li>entités seules, associations paresseuses ;</li>
+ *     <li>périodes (identifiants et dates), utilisées pour le calcul de disponibilité.</li>
+ * </ul>
+ * Pour chacun sont relevés les octets alloués par le thread et la hausse du tas tant que le résultat est conservé.
+ * Le rapport JSON est écrit dans {@code target/charge/memoire-locations.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("charge")
+class MemoireLocationsIT {
+
+    @Autowired
+    GenerateurDonnees generateurDonnees;
+    @Autowired
+    LocationDAO locationDAO;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @DisplayName("Le chargement paresseux et les périodes réduisent la mémoire de lecture des locations")
+    @Test
+    void mesurerMemoire() throws Exception {
+        long nbLocations = Long.getLong("charge.memoire.locations", 1_000_000L);
+        generateurDonnees.generer(new ParametresGeneration(5_000, 20_000, nbLocations, 42L));
+
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        List<MesureMemoire> mesures = new ArrayList<>();
+        mesures.add(lecture.execute(statut -> mesurer("graphe complet", locationDAO::findAll)));
+        mesures.add(lecture.execute(statut -> mesurer("associations paresseuses", () ->
+                entityManager.createQuery("SELECT l FROM Location l", Location.class).getResultList())));
+        mesures.add(lecture.execute(statut -> mesurer("périodes", locationDAO::trouverToutesLesPeriodes)));
+        ecrireRapport(mesures);
+
+        MesureMemoire complet = mesures.get(0);
+        MesureMemoire paresseux = mesures.get(1);
+        MesureMemoire periodes = mesures.get(2);
+        mesures.forEach(mesure -> assertEquals(nbLocations, mesure.nbLignes(), mesure.plan()));
+        assertTrue(paresseux.octetsAlloues() < complet.octetsAlloues(), "associations paresseuses / graphe complet");
+        assertTrue(periodes.octetsAlloues() < paresseux.octetsAlloues(), "périodes / associations paresseuses");
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private MesureMemoire mesurer(String plan, Supplier<List<?>> lecture) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tasAvant = tasUtilise();
+        long allouesAvant = threads.getCurrentThreadAllocatedBytes();
+        long debut = System.nanoTime();
+        List<?> resultat = lecture.get();
+        long dureeMs = (System.nanoTime() - debut) / 1_000_000;
+        long octetsAlloues = threads.getCurrentThreadAllocatedBytes() - allouesAvant;
+        long octetsRetenus = tasUtilise() - tasAvant;
+        MesureMemoire mesure = new MesureMemoire(plan, resultat.size(), octetsAlloues, octetsRetenus, dureeMs);
+        entityManager.clear();
+        return mesure;
+    }
+
+    private static long tasUtilise() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void ecrireRapport(List<MesureMemoire> mesures) throws Exception {
+        Path rapport = Path.of(System.getProperty("charge.memoire.rapport", "target/charge/memoire-locations.json"));
+        if (rapport.getParent() != null)
+            Files.createDirectories(rapport.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(rapport.toFile(), mesures);
+    }
+
+    record MesureMemoire(String plan, long nbLignes, long octetsAlloues, long octetsRetenus, long dureeMs) {
+    }
+}
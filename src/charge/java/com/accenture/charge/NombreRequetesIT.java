@@ -0,0 +1,83 @@
+package com.accenture.charge;
+
+import com.accenture.service.*;
+import com.accenture.service.generation.GenerateurDonnees;
+import com.accenture.service.generation.ParametresGeneration;
+import com.accenture.shared.enumerations.Filtre;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.SQLException;
+
+import static com.accenture.charge.AssertionsSql.assertNombreRequetes;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Nombre d'instructions SQL émises par les listes, sur un jeu de données où chaque table contient
+ * de nombreuses lignes : un N+1 (association chargée ligne par ligne) fait échouer le test.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("charge")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NombreRequetesIT {
+
+    @Autowired
+    GenerateurDonnees generateurDonnees;
+    @Autowired
+    ClientService clientService;
+    @Autowired
+    AdministrateurService administrateurService;
+    @Autowired
+    VoitureService voitureService;
+    @Autowired
+    MotoService motoService;
+    @Autowired
+    VehiculeService vehiculeService;
+    @Autowired
+    LocationService locationService;
+
+    @BeforeAll
+    void genererDonnees() throws SQLException {
+        generateurDonnees.generer(new ParametresGeneration(60, 40, 300, 42L));
+    }
+
+    @DisplayName("La liste des clients (avec adresse) tient en une requête")
+    @Test
+    void testClients() {
+        assertFalse(assertNombreRequetes(1, "clients", clientService::trouverTous).isEmpty());
+    }
+
+    @DisplayName("La liste des administrateurs tient en une requête")
+    @Test
+    void testAdministrateurs() {
+        assertNombreRequetes(1, "administrateurs", administrateurService::trouverTous);
+    }
+
+    @DisplayName("Les listes de voitures et de motos tiennent en une requête chacune")
+    @Test
+    void testVoituresEtMotos() {
+        assertFalse(assertNombreRequetes(1, "voitures", voitureService::trouverTous).isEmpty());
+        assertFalse(assertNombreRequetes(1, "motos", motoService::trouverTous).isEmpty());
+        assertNombreRequetes(1, "voitures actives", () -> voitureService.filtrer(Filtre.ACTIF));
+    }
+
+    @DisplayName("La liste et le filtre des véhicules tiennent en une requête par catégorie")
+    @Test
+    void testVehicules() {
+        assertNombreRequetes(2, "véhicules", vehiculeService::trouverTous);
+        assertNombreRequetes(2, "véhicules dans le parc", () -> vehiculeService.filtrer(Filtre.DANSLEPARC));
+    }
+
+    @DisplayName("La liste des locations charge clients, adresses et véhicules en une requête")
+    @Test
+    void testLocations() {
+        assertEquals(300, assertNombreRequetes(1, "locations", locationService::trouverTous).size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.accenture.charge;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rapport du tir de charge, écrit en JSON indenté pour pouvoir être comparé d'une version à l'autre.
+ */
+public record RapportCharge(
+        String version,
+        Instant date,
+        int concurrence,
+        int dureeSecondes,
+        int nbVehicules,
+        int nbClients,
+        int locationsParVehicule,
+        List<ResultatEndpoint> endpoints
+) {
+
+    public RapportCharge(ConfigurationCharge config, List<ResultatEndpoint> endpoints) {
+        this(config.version(), Instant.now(), config.concurrence(), config.dureeSecondes(), config.nbVehicules(),
+                config.nbClients(), config.locationsParVehicule(), endpoints);
+    }
+
+    public void ecrire(ConfigurationCharge config) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        if (config.rapport().getParent() != null)
+            Files.createDirectories(config.rapport().getParent());
+        objectMapper.writeValue(config.rapport().toFile(), this);
+    }
+}
@@ -0,0 +1,157 @@
+package com.accenture.charge;
+
+import com.accenture.repository.MotoDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.VoitureDAO;
+import com.accenture.service.generation.GenerateurDonnees;
+import com.accenture.service.generation.ParametresGeneration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compare, sur une flotte de 100 000 véhicules par défaut (cf. {@code charge.requetes.vehicules}), la recherche de
+ * disponibilité d'une seule catégorie selon deux formes de requête :
+ * <ul>
+ *     <li>polymorphe sur {@code Vehicule} ({@link VehiculeDAO#trouverDisponibles}) : l'héritage JOINED impose une
+ *     jointure externe sur les deux sous-tables pour déterminer la classe de chaque ligne ;</li>
+ *     <li>par sous-classe ({@link MotoDAO#trouverDisponibles}, {@link VoitureDAO#trouverDisponibles}) : seules
+ *     {@code vehicule} et la sous-table concernée sont lues.</li>
+ * </ul>
+ * Les temps (médiane et 95e centile) sont mesurés sur les appels des DAO, les plans par
+ * {@code EXPLAIN (ANALYZE, BUFFERS)} sur le SQL équivalent à celui généré par Hibernate.
+ * Le rapport JSON est écrit dans {@code target/charge/requetes-vehicules.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("charge")
+class RequetesVehiculesIT {
+
+    private static final int ECHAUFFEMENT = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String NON_LOUE = """
+            NOT EXISTS (SELECT 1 FROM location l
+                        WHERE l.vehicule_id = v.id AND l.date_debut < ? AND l.date_fin > ?
+                        AND l.etat_location IS DISTINCT FROM 'ANNULEE')
+            """;
+    private static final String POLYMORPHE = STR."""
+            SELECT v.*, m.*, vo.*
+            FROM vehicule v
+            LEFT JOIN motos m ON m.id = v.id
+            LEFT JOIN voitures vo ON vo.id = v.id
+            WHERE CASE WHEN m.id IS NOT NULL THEN 1 WHEN vo.id IS NOT NULL THEN 2 END = ?
+            AND \{NON_LOUE}""";
+    private static final String SOUS_TABLE = STR."""
+            SELECT v.*, s.*
+            FROM %s s
+            JOIN vehicule v ON v.id = s.id
+            WHERE \{NON_LOUE}""";
+
+    @Autowired
+    GenerateurDonnees generateurDonnees;
+    @Autowired
+    VehiculeDAO vehiculeDAO;
+    @Autowired
+    MotoDAO motoDAO;
+    @Autowired
+    VoitureDAO voitureDAO;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @DisplayName("La requête par sous-classe ne lit que sa sous-table et renvoie les mêmes véhicules que la requête polymorphe")
+    @Test
+    void comparerRequetes() throws Exception {
+        int nbVehicules = Integer.getInteger("charge.requetes.vehicules", 100_000);
+        generateurDonnees.generer(new ParametresGeneration(nbVehicules, 5_000, 3L * nbVehicules, 42L));
+        jdbcTemplate.execute("ANALYZE");
+        LocalDate dateDebut = LocalDate.now().plusDays(30);
+        LocalDate dateFin = dateDebut.plusDays(7);
+
+        List<MesureRequete> mesures = List.of(
+                mesurer("polymorphe JOINED", "motos", () -> vehiculeDAO.trouverDisponibles(dateDebut, dateFin, null, true, false),
+                        expliquer(POLYMORPHE, 1, dateFin, dateDebut)),
+                mesurer("sous-table", "motos", () -> motoDAO.trouverDisponibles(dateDebut, dateFin, null),
+                        expliquer(SOUS_TABLE.formatted("motos"), dateFin, dateDebut)),
+                mesurer("polymorphe JOINED", "voitures", () -> vehiculeDAO.trouverDisponibles(dateDebut, dateFin, null, false, true),
+                        expliquer(POLYMORPHE, 2, dateFin, dateDebut)),
+                mesurer("sous-table", "voitures", () -> voitureDAO.trouverDisponibles(dateDebut, dateFin, null),
+                        expliquer(SOUS_TABLE.formatted("voitures"), dateFin, dateDebut)));
+        ecrireRapport(mesures);
+
+        assertEquals(mesures.get(0).nbLignes(), mesures.get(1).nbLignes(), "motos disponibles");
+        assertEquals(mesures.get(2).nbLignes(), mesures.get(3).nbLignes(), "voitures disponibles");
+        assertTrue(lit(mesures.get(0), "voitures"), "la requête polymorphe lit la sous-table des voitures");
+        assertFalse(lit(mesures.get(1), "voitures"), "la requête sur les motos ne lit pas la sous-table des voitures");
+        assertTrue(lit(mesures.get(2), "motos"), "la requête polymorphe lit la sous-table des motos");
+        assertFalse(lit(mesures.get(3), "motos"), "la requête sur les voitures ne lit pas la sous-table des motos");
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private MesureRequete mesurer(String requete, String categorie, Supplier<List<?>> appel, List<String> plan) {
+        TransactionTemplate lecture = new TransactionTemplate(transactionManager);
+        lecture.setReadOnly(true);
+        long[] durees = new long[ITERATIONS];
+        int nbLignes = 0;
+        for (int i = -ECHAUFFEMENT; i < ITERATIONS; i++) {
+            long debut = System.nanoTime();
+            int lignes = lecture.execute(statut -> {
+                int taille = appel.get().size();
+                entityManager.clear();
+                return taille;
+            });
+            if (i >= 0) {
+                durees[i] = System.nanoTime() - debut;
+                nbLignes = lignes;
+            }
+        }
+        Arrays.sort(durees);
+        return new MesureRequete(requete, categorie, nbLignes, durees[ITERATIONS / 2] / 1_000_000.0,
+                durees[(int) Math.ceil(ITERATIONS * 0.95) - 1] / 1_000_000.0, plan);
+    }
+
+    private List<String> expliquer(String sql, Object... parametres) {
+        return jdbcTemplate.queryForList(STR."EXPLAIN (ANALYZE, BUFFERS) \{sql}", String.class, parametres);
+    }
+
+    private static boolean lit(MesureRequete mesure, String table) {
+        return mesure.plan().stream().anyMatch(ligne -> ligne.contains(STR." on \{table} "));
+    }
+
+    private static void ecrireRapport(List<MesureRequete> mesures) throws Exception {
+        Path rapport = Path.of(System.getProperty("charge.requetes.rapport", "target/charge/requetes-vehicules.json"));
+        if (rapport.getParent() != null)
+            Files.createDirectories(rapport.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(rapport.toFile(), mesures);
+    }
+
+    record MesureRequete(String requete, String categorie, int nbLignes, double medianeMs, double p95Ms, List<String> plan) {
+    }
+}
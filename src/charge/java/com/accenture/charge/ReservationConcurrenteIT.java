@@ -0,0 +1,155 @@
+package com.accenture.charge;
+
+import com.accenture.exception.ReservationConflitException;
+import com.accenture.service.LocationService;
+import com.accenture.service.dto.LocationRequestDTO;
+import com.accenture.service.generation.GenerateurDonnees;
+import com.accenture.service.generation.ParametresGeneration;
+import com.accenture.service.verrou.VerrousVehicules;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Réservations concurrentes : plusieurs centaines de demandes simultanées sur quelques véhicules et des périodes
+ * qui se recouvrent largement. Aucune paire de locations d'un même véhicule ne doit se chevaucher, et chaque
+ * demande acceptée doit correspondre à exactement une ligne en base.
+ * La durée, le débit et l'attente sur les verrous en mémoire sont écrits dans
+ * {@code target/charge/reservations-<mode>.json} ; {@link ReservationVerrouBaseIT} rejoue le même scénario
+ * avec le seul verrou en base pour comparaison.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@ActiveProfiles("charge")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext
+class ReservationConcurrenteIT {
+
+    private static final int NB_VEHICULES = 5;
+    private static final int NB_DEMANDES = 600;
+    private static final int NB_THREADS = 64;
+    private static final String CHEVAUCHEMENTS = """
+            SELECT COUNT(*) FROM location a
+            JOIN location b ON a.vehicule_id = b.vehicule_id AND a.id < b.id
+                AND a.date_debut < b.date_fin AND b.date_debut < a.date_fin
+            WHERE a.date_debut >= ?
+            """;
+
+    @Autowired
+    GenerateurDonnees generateurDonnees;
+    @Autowired
+    LocationService locationService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    VerrousVehicules verrousVehicules;
+    @Autowired
+    MeterRegistry registry;
+
+    List<Long> vehicules;
+    List<Long> clients;
+    LocalDate origine = LocalDate.now().plusYears(10);
+
+    @BeforeAll
+    void genererDonnees() throws SQLException {
+        generateurDonnees.generer(new ParametresGeneration(4 * NB_VEHICULES, 50, 0, 42L));
+        vehicules = jdbcTemplate.queryForList("SELECT id FROM vehicule WHERE retire_du_parc = false AND actif = true ORDER BY id DESC LIMIT ?",
+                Long.class, NB_VEHICULES);
+        assertEquals(NB_VEHICULES, vehicules.size(), "véhicules réservables générés");
+        clients = jdbcTemplate.queryForList("SELECT id FROM clients", Long.class);
+        jdbcTemplate.update("DELETE FROM location WHERE date_debut >= ?", origine);
+    }
+
+    @DisplayName("Des centaines de réservations simultanées ne produisent aucune double réservation")
+    @Test
+    void testAucuneDoubleReservation() throws Exception {
+        Random aleatoire = new Random(42);
+        List<Callable<Boolean>> demandes = new ArrayList<>(NB_DEMANDES);
+        for (int i = 0; i < NB_DEMANDES; i++) {
+            long client = clients.get(aleatoire.nextInt(clients.size()));
+            LocalDate debut = origine.plusDays(aleatoire.nextInt(60));
+            LocationRequestDTO demande = new LocationRequestDTO(vehicules.get(aleatoire.nextInt(NB_VEHICULES)),
+                    debut, debut.plusDays(1 + aleatoire.nextInt(7)));
+            demandes.add(() -> reserver(client, demande));
+        }
+
+        long acceptees = 0;
+        long debut = System.nanoTime();
+        try (ExecutorService executeur = Executors.newFixedThreadPool(NB_THREADS)) {
+            for (Future<Boolean> resultat : executeur.invokeAll(demandes))
+                if (resultat.get())
+                    acceptees++;
+        }
+        long dureeMs = (System.nanoTime() - debut) / 1_000_000;
+        ecrireRapport(acceptees, dureeMs);
+
+        Long enBase = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM location WHERE date_debut >= ? AND date_debut < ?",
+                Long.class, origine, origine.plusDays(60));
+        assertEquals(0L, jdbcTemplate.queryForObject(CHEVAUCHEMENTS, Long.class, origine));
+        assertEquals(acceptees, enBase);
+        assertTrue(acceptees > 0 && acceptees < NB_DEMANDES, STR."\{acceptees} réservations acceptées");
+    }
+
+    @DisplayName("La contrainte d'exclusion rejette un chevauchement inséré sans passer par le service")
+    @Test
+    void testContrainteExclusion() {
+        LocalDate debut = origine.plusYears(1);
+        String insertion = "INSERT INTO location (client_id, vehicule_id, date_debut, date_fin) VALUES (?, ?, ?, ?)";
+        jdbcTemplate.update(insertion, clients.getFirst(), vehicules.getFirst(), debut, debut.plusDays(5));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update(insertion, clients.getFirst(), vehicules.getFirst(), debut.plusDays(4), debut.plusDays(6)));
+        jdbcTemplate.update(insertion, clients.getFirst(), vehicules.getFirst(), debut.plusDays(5), debut.plusDays(6));
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private boolean reserver(long client, LocationRequestDTO demande) {
+        try {
+            locationService.reserver(client, demande);
+            return true;
+        } catch (ReservationConflitException e) {
+            return false;
+        }
+    }
+
+    private void ecrireRapport(long acceptees, long dureeMs) throws Exception {
+        String mode = verrousVehicules.nombreBandes() == 0 ? "base" : STR."verrous-\{verrousVehicules.nombreBandes()}";
+        Timer attente = registry.get(VerrousVehicules.TIMER_ATTENTE).timer();
+        MesureReservations mesure = new MesureReservations(mode, NB_DEMANDES, NB_THREADS, acceptees, dureeMs,
+                NB_DEMANDES * 1000.0 / Math.max(dureeMs, 1), attente.mean(TimeUnit.MILLISECONDS), attente.max(TimeUnit.MILLISECONDS));
+        Path rapport = Path.of(STR."target/charge/reservations-\{mode}.json");
+        Files.createDirectories(rapport.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(rapport.toFile(), mesure);
+    }
+
+    record MesureReservations(String mode, int nbDemandes, int nbThreads, long nbAcceptees, long dureeMs,
+                              double demandesParSeconde, double attenteMoyenneMs, double attenteMaxMs) {
+    }
+}
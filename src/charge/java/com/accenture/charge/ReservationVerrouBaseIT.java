@@ -0,0 +1,11 @@
+package com.accenture.charge;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Même scénario que {@link ReservationConcurrenteIT}, sans verrous en mémoire : les réservations concurrentes
+ * ne sont sérialisées que par le verrou de ligne du véhicule en base ({@code target/charge/reservations-base.json}).
+ */
+@TestPropertySource(properties = "location.reservation.verrous=0")
+class ReservationVerrouBaseIT extends ReservationConcurrenteIT {
+}
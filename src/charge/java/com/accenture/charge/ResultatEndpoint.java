@@ -0,0 +1,25 @@
+package com.accenture.charge;
+
+/**
+ * Mesures d'un endpoint sur la durée du tir.
+ *
+ * @param nom             : méthode et chemin de l'endpoint
+ * @param requetes        : nombre de requêtes mesurées
+ * @param erreurs         : nombre de réponses en erreur (statut >= 400 ou exception)
+ * @param debitParSeconde : requêtes traitées par seconde
+ * @param p50Ms           : latence médiane en millisecondes
+ * @param p95Ms           : 95e percentile de latence en millisecondes
+ * @param p99Ms           : 99e percentile de latence en millisecondes
+ * @param maxMs           : latence maximale en millisecondes
+ */
+public record ResultatEndpoint(
+        String nom,
+        long requetes,
+        long erreurs,
+        double debitParSeconde,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs
+) {
+}
@@ -0,0 +1,11 @@
+package com.accenture.charge;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Un endpoint à solliciter : son nom dans le rapport et la fabrique de requêtes (paramètres tirés au hasard).
+ */
+public record ScenarioCharge(String nom, Function<Random, HttpRequest> requete) {
+}
@@ -0,0 +1,147 @@
+package com.accenture.benchmarks;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.MotoDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.VoitureDAO;
+import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Flotte synthétique (un tiers de motos) et locations aléatoires mais reproductibles, servies par des DAO
+ * en mémoire : les benchmarks mesurent le code applicatif, pas la base de données.
+ */
+final class Flotte {
+
+    private static final Type[] TYPES_VOITURE = {Type.CITADINE, Type.BERLINE, Type.SUV, Type.FAMILIALE, Type.ELECTRIQUE, Type.LUXE};
+    private static final Type[] TYPES_MOTO = {Type.ROUTIERE, Type.SPORTIVE, Type.ROADSTER, Type.TRAIL, Type.CUSTOM};
+
+    final LocalDate origine = LocalDate.now();
+    final List<Vehicule> vehicules;
+    final List<PeriodeLocationDTO> periodes;
+    private final Map<Long, Vehicule> parId;
+
+    Flotte(int nbVehicules, int locationsParVehicule, long graine) {
+        Random aleatoire = new Random(graine);
+        vehicules = new ArrayList<>(nbVehicules);
+        parId = new HashMap<>(nbVehicules * 2);
+        periodes = new ArrayList<>(nbVehicules * locationsParVehicule);
+        long locationId = 1;
+        for (long id = 1; id <= nbVehicules; id++) {
+            Vehicule vehicule = id % 3 == 0 ? creerMoto(id, aleatoire) : creerVoiture(id, aleatoire);
+            vehicules.add(vehicule);
+            parId.put(id, vehicule);
+            for (int i = 0; i < locationsParVehicule; i++) {
+                LocalDate debut = origine.plusDays(aleatoire.nextInt(360));
+                periodes.add(new PeriodeLocationDTO(locationId++, id, debut, debut.plusDays(1 + aleatoire.nextInt(7))));
+            }
+        }
+    }
+
+    VehiculeDAO vehiculeDAO() {
+        return bouchon(VehiculeDAO.class, Map.of(
+                "trouverTousIndexes", args -> vehicules.stream().map(Flotte::indexer).toList(),
+                "findAllById", args -> chercher((Iterable<?>) args[0], Vehicule.class)));
+    }
+
+    MotoDAO motoDAO() {
+        return bouchon(MotoDAO.class, Map.of("findAllById", args -> chercher((Iterable<?>) args[0], Moto.class)));
+    }
+
+    VoitureDAO voitureDAO() {
+        return bouchon(VoitureDAO.class, Map.of("findAllById", args -> chercher((Iterable<?>) args[0], Voiture.class)));
+    }
+
+    LocationDAO locationDAO() {
+        return bouchon(LocationDAO.class, Map.of(
+                "trouverToutesLesPeriodes", args -> periodes,
+                "trouverPeriodesEntre", args -> periodes.stream()
+                        .filter(p -> p.dateDebut().isBefore((LocalDate) args[1]) && p.dateFin().isAfter((LocalDate) args[0]))
+                        .toList()));
+    }
+
+    /**
+     * Implémente une interface en ne répondant qu'aux méthodes fournies ; les autres lèvent une exception.
+     */
+    static <T> T bouchon(Class<T> type, Map<String, Function<Object[], Object>> reponses) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, methode, args) -> {
+            Function<Object[], Object> reponse = reponses.get(methode.getName());
+            if (reponse != null)
+                return reponse.apply(args);
+            return switch (methode.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> STR."Bouchon \{type.getSimpleName()}";
+                default -> throw new UnsupportedOperationException(methode.getName());
+            };
+        }));
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private <V extends Vehicule> List<V> chercher(Iterable<?> ids, Class<V> categorie) {
+        List<V> resultat = new ArrayList<>();
+        for (Object id : ids) {
+            Vehicule vehicule = parId.get((Long) id);
+            if (categorie.isInstance(vehicule))
+                resultat.add(categorie.cast(vehicule));
+        }
+        return resultat;
+    }
+
+    private static VehiculeIndexeDTO indexer(Vehicule vehicule) {
+        return new VehiculeIndexeDTO(vehicule.getId(), vehicule.getType(), vehicule instanceof Moto,
+                vehicule.getActif(), vehicule.getRetireDuParc());
+    }
+
+    private static Voiture creerVoiture(long id, Random aleatoire) {
+        Voiture voiture = new Voiture();
+        remplir(voiture, id, TYPES_VOITURE[aleatoire.nextInt(TYPES_VOITURE.length)], aleatoire);
+        voiture.setNbrPlaces(2 + aleatoire.nextInt(6));
+        voiture.setCarburant(Carburant.values()[aleatoire.nextInt(Carburant.values().length)]);
+        voiture.setNbrPortes(NombrePortes.values()[aleatoire.nextInt(NombrePortes.values().length)]);
+        voiture.setClim(aleatoire.nextBoolean());
+        voiture.setTransmission(aleatoire.nextBoolean() ? Transmission.AUTO : Transmission.MANUEL);
+        voiture.setBagages(aleatoire.nextInt(6));
+        voiture.setPermis(Permis.B);
+        return voiture;
+    }
+
+    private static Moto creerMoto(long id, Random aleatoire) {
+        Moto moto = new Moto();
+        remplir(moto, id, TYPES_MOTO[aleatoire.nextInt(TYPES_MOTO.length)], aleatoire);
+        moto.setNbrCylindres(1 + aleatoire.nextInt(4));
+        moto.setCylindree(125 + aleatoire.nextInt(1200));
+        moto.setPoids(120 + aleatoire.nextInt(200));
+        moto.setPuissance(10 + aleatoire.nextInt(150));
+        moto.setHauteurSelle(700 + aleatoire.nextInt(200));
+        moto.setTransmission(Transmission.MANUEL);
+        moto.setPermis(Permis.A);
+        return moto;
+    }
+
+    private static void remplir(Vehicule vehicule, long id, Type type, Random aleatoire) {
+        vehicule.setId(id);
+        vehicule.setMarque(STR."Marque\{aleatoire.nextInt(40)}");
+        vehicule.setModele(STR."Modele\{aleatoire.nextInt(400)}");
+        vehicule.setCouleur(aleatoire.nextBoolean() ? "Rouge" : "Noir");
+        vehicule.setType(type);
+        vehicule.setTarifJournee(30 + aleatoire.nextInt(200));
+        vehicule.setKilometrage(aleatoire.nextInt(200_000));
+        vehicule.setActif(aleatoire.nextInt(10) != 0);
+        vehicule.setRetireDuParc(aleatoire.nextInt(20) == 0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.accenture.benchmarks;
+
+import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.mapper.MotoMapper;
+import com.accenture.service.mapper.MotoMapperImpl;
+import com.accenture.service.mapper.VoitureMapper;
+import com.accenture.service.mapper.VoitureMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entité vers DTO par les mappers MapStruct, pour toute une flotte.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int nbVehicules;
+
+    private final MotoMapper motoMapper = new MotoMapperImpl();
+    private final VoitureMapper voitureMapper = new VoitureMapperImpl();
+    private List<Vehicule> vehicules;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        vehicules = new Flotte(nbVehicules, 0, 42L).vehicules;
+    }
+
+    @Benchmark
+    public void convertirFlotte(Blackhole trou) {
+        for (Vehicule vehicule : vehicules) {
+            if (vehicule instanceof Moto moto)
+                trou.consume(motoMapper.toMotoResponseDTO(moto));
+            else
+                trou.consume(voitureMapper.toVoitureResponseDTO((Voiture) vehicule));
+        }
+    }
+}
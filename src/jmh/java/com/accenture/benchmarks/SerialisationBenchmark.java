@@ -0,0 +1,56 @@
+package com.accenture.benchmarks;
+
+import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.dto.vehicules.MotoResponseDTO;
+import com.accenture.service.dto.vehicules.VehiculeDTO;
+import com.accenture.service.dto.vehicules.VoitureResponseDTO;
+import com.accenture.service.mapper.MotoMapperImpl;
+import com.accenture.service.mapper.VoitureMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sérialisation JSON d'un {@link VehiculeDTO} (réponse des recherches et des listes de véhicules).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SerialisationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int nbVehicules;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private VehiculeDTO vehiculeDTO;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        MotoMapperImpl motoMapper = new MotoMapperImpl();
+        VoitureMapperImpl voitureMapper = new VoitureMapperImpl();
+        List<MotoResponseDTO> motos = new ArrayList<>();
+        List<VoitureResponseDTO> voitures = new ArrayList<>();
+        for (Vehicule vehicule : new Flotte(nbVehicules, 0, 42L).vehicules) {
+            if (vehicule instanceof Moto moto)
+                motos.add(motoMapper.toMotoResponseDTO(moto));
+            else
+                voitures.add(voitureMapper.toVoitureResponseDTO((Voiture) vehicule));
+        }
+        vehiculeDTO = new VehiculeDTO(motos, voitures);
+    }
+
+    @Benchmark
+    public byte[] serialiser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(vehiculeDTO);
+    }
+}
@@ -0,0 +1,80 @@
+package com.accenture.benchmarks;
+
+import com.accenture.exception.ClientException;
+import com.accenture.service.dto.utilisateurs.AdresseDTO;
+import com.accenture.service.dto.utilisateurs.ClientRequestDTO;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.shared.enumerations.ModeValidation;
+import com.accenture.shared.enumerations.Permis;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation d'un client à l'inscription : {@link ValidationRequetes} (expressions régulières précompilées,
+ * règles construites une seule fois) comparée à l'ancienne chaîne de contrôles à base de {@link String#matches},
+ * qui recompile les deux expressions régulières à chaque requête.
+ * Le cas invalide cumule trois violations, pour mesurer aussi le mode {@link ModeValidation#TOUTES_LES_ERREURS}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ValidationClientBenchmark {
+
+    private static final String REGEX_MOT_DE_PASSE = "^(?=.*?[A-Z])(?=.*?[a-z])(?=.*?[0-9])(?=.*?[&#@_§-]).{8,16}$";
+    private static final String REGEX_EMAIL = "^[\\w.%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+
+    @Param({"PREMIERE_ERREUR", "TOUTES_LES_ERREURS"})
+    private ModeValidation mode;
+
+    private ValidationRequetes validation;
+    private ClientRequestDTO clientValide;
+    private ClientRequestDTO clientInvalide;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        validation = new ValidationRequetes(mode);
+        AdresseDTO adresse = new AdresseDTO("1 rue des Lilas", "44000", "Nantes");
+        clientValide = new ClientRequestDTO("Dupont", "Jean", "jean.dupont@mail.fr", "Motdepasse1#",
+                adresse, LocalDate.of(1990, 1, 1), Permis.B);
+        clientInvalide = new ClientRequestDTO("Dupont", " ", "jean.dupont-mail.fr", "motdepasse",
+                adresse, LocalDate.of(1990, 1, 1), Permis.B);
+    }
+
+    @Benchmark
+    public ClientRequestDTO verifierClientValide() {
+        validation.verifierClient(clientValide, true);
+        return clientValide;
+    }
+
+    @Benchmark
+    public Object verifierClientInvalide() {
+        try {
+            validation.verifierClient(clientInvalide, true);
+            return clientInvalide;
+        } catch (ClientException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Référence : contrôles tels qu'ils étaient écrits dans le service avant {@link ValidationRequetes}
+     * (indépendante du paramètre {@code mode}).
+     */
+    @Benchmark
+    public ClientRequestDTO referenceStringMatches() {
+        ClientRequestDTO dto = clientValide;
+        if (dto.nom() == null || dto.nom().isBlank() || dto.prenom() == null || dto.prenom().isBlank()
+                || dto.dateNaissance() == null || dto.dateNaissance().plusYears(18).isAfter(LocalDate.now())
+                || dto.password() == null || dto.password().isBlank() || dto.email() == null || dto.email().isBlank()
+                || dto.adresse() == null)
+            throw new ClientException("Client invalide");
+        if (!dto.password().matches(REGEX_MOT_DE_PASSE) || !dto.email().matches(REGEX_EMAIL))
+            throw new ClientException("Client invalide");
+        return dto;
+    }
+}
@@ -0,0 +1,71 @@
+package com.accenture.benchmarks;
+
+import com.accenture.service.VehiculeServiceImpl;
+import com.accenture.service.disponibilite.CalendrierDisponibilite;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.dto.vehicules.DisponibiliteJourDTO;
+import com.accenture.service.dto.vehicules.VehiculeDTO;
+import com.accenture.service.mapper.MotoMapperImpl;
+import com.accenture.service.mapper.VoitureMapperImpl;
+import com.accenture.shared.enumerations.Filtre;
+import com.accenture.shared.enumerations.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche de véhicules disponibles (index en mémoire + conversion en DTO) et comptage des véhicules libres
+ * par jour avec filtre, selon la taille de la flotte et le nombre de locations par véhicule.
+ * Les DAO sont simulés en mémoire ({@link Flotte}) : aucune requête SQL n'est émise. Les plans et temps des requêtes
+ * par sous-classe et polymorphe sont mesurés sur base réelle par {@code RequetesVehiculesIT} (profil Maven "charge").
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class VehiculeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int nbVehicules;
+
+    @Param({"1", "10"})
+    int locationsParVehicule;
+
+    private VehiculeServiceImpl service;
+    private CalendrierDisponibilite calendrier;
+    private LocalDate dateDebut;
+    private LocalDate dateFin;
+
+    @Setup(Level.Trial)
+    public void preparer() {
+        Flotte flotte = new Flotte(nbVehicules, locationsParVehicule, 42L);
+        IndexDisponibilite index = new IndexDisponibilite(flotte.locationDAO(), flotte.vehiculeDAO());
+        index.reconstruire();
+        service = new VehiculeServiceImpl(flotte.vehiculeDAO(), flotte.motoDAO(), flotte.voitureDAO(),
+                new MotoMapperImpl(), new VoitureMapperImpl(), Optional.of(index));
+        calendrier = new CalendrierDisponibilite(flotte.locationDAO(), flotte.vehiculeDAO(), 365, Duration.ofDays(1));
+        dateDebut = flotte.origine.plusDays(30);
+        dateFin = dateDebut.plusDays(7);
+    }
+
+    @Benchmark
+    public VehiculeDTO rechercherParDate() {
+        return service.rechercherParDateEtTypeEtCategorie(dateDebut, dateFin, true, true, null);
+    }
+
+    @Benchmark
+    public VehiculeDTO rechercherMotosParDateEtType() {
+        return service.rechercherParDateEtTypeEtCategorie(dateDebut, dateFin, true, false, Type.ROADSTER);
+    }
+
+    @Benchmark
+    public List<DisponibiliteJourDTO> compterLibresDansLeParc() {
+        return calendrier.compterLibresParJour(dateDebut, dateFin, null, Filtre.DANSLEPARC);
+    }
+}
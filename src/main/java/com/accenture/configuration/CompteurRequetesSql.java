@@ -0,0 +1,60 @@
+package com.accenture.configuration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Compte les instructions SQL préparées par Hibernate sur le thread courant, entre {@link #demarrer()}
+ * et {@link #arreter()}. Enregistré comme {@link StatementInspector} de la session factory, il ne modifie pas le SQL.
+ * Utilisé par {@link FiltreRequetesSql} pour chaque requête HTTP, et par les tests pour détecter les N+1.
+ * Hors d'une mesure démarrée, l'inspection ne coûte qu'une lecture de {@link ThreadLocal}.
+ */
+
+@Component
+public class CompteurRequetesSql implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COMPTEUR = new ThreadLocal<>();
+
+    /**
+     * Démarre (ou remet à zéro) le comptage sur le thread courant.
+     */
+    public static void demarrer() {
+        COMPTEUR.set(new int[1]);
+    }
+
+    /**
+     * @return le nombre d'instructions SQL depuis {@link #demarrer()}, ou 0 si aucune mesure n'est en cours.
+     */
+    public static int nombre() {
+        int[] compteur = COMPTEUR.get();
+        return compteur == null ? 0 : compteur[0];
+    }
+
+    /**
+     * Termine la mesure du thread courant.
+     *
+     * @return le nombre d'instructions SQL comptées.
+     */
+    public static int arreter() {
+        int nombre = nombre();
+        COMPTEUR.remove();
+        return nombre;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] compteur = COMPTEUR.get();
+        if (compteur != null)
+            compteur[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> proprietes) {
+        proprietes.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,60 @@
+package com.accenture.configuration;
+
+import com.accenture.service.jeton.JetonService;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.shared.ErreurReponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Lit l'en-tête {@code Authorization: Bearer <jeton>}, vérifie le jeton localement avec {@link JetonService}
+ * et place la {@link SessionUtilisateur} dans l'attribut de requête {@value SessionUtilisateur#ATTRIBUT}.
+ * Un jeton invalide ou expiré est refusé (401) ; une requête sans jeton continue (identifiants en paramètres).
+ */
+
+@Component
+public class FiltreJeton extends OncePerRequestFilter {
+
+    private static final String PREFIXE = JetonService.TYPE + " ";
+
+    private final JetonService jetonService;
+    private final ObjectMapper objectMapper;
+
+    public FiltreJeton(JetonService jetonService, ObjectMapper objectMapper) {
+        this.jetonService = jetonService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest requete, HttpServletResponse reponse, FilterChain chaine)
+            throws ServletException, IOException {
+        String entete = requete.getHeader(HttpHeaders.AUTHORIZATION);
+        if (entete == null || !entete.startsWith(PREFIXE)) {
+            chaine.doFilter(requete, reponse);
+            return;
+        }
+        Optional<SessionUtilisateur> session = jetonService.verifier(entete.substring(PREFIXE.length()).trim());
+        if (session.isEmpty()) {
+            reponse.setStatus(HttpStatus.UNAUTHORIZED.value());
+            reponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            reponse.setHeader(HttpHeaders.WWW_AUTHENTICATE, JetonService.TYPE);
+            objectMapper.writeValue(reponse.getOutputStream(),
+                    new ErreurReponse(LocalDateTime.now(), "Non authentifié ", "Jeton invalide ou expiré"));
+            return;
+        }
+        requete.setAttribute(SessionUtilisateur.ATTRIBUT, session.get());
+        chaine.doFilter(requete, reponse);
+    }
+}
@@ -0,0 +1,57 @@
+package com.accenture.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Compte les instructions SQL exécutées pendant chaque requête HTTP (via {@link CompteurRequetesSql}) :
+ * le nombre est publié dans la distribution "location.http.requetes.sql" (étiquetée par méthode et route),
+ * et la requête est journalisée en WARN lorsqu'elle dépasse le seuil {@code location.sql.seuil-requetes}.
+ * Les réponses produites sur un autre thread (exports en flux) ne sont pas comptées.
+ */
+
+@Slf4j
+@Component
+public class FiltreRequetesSql extends OncePerRequestFilter {
+
+    public static final String DISTRIBUTION_REQUETES = "location.http.requetes.sql";
+    private static final String ROUTE_INCONNUE = "inconnue";
+
+    private final MeterRegistry registry;
+    private final int seuil;
+
+    public FiltreRequetesSql(MeterRegistry registry, @Value("${location.sql.seuil-requetes:20}") int seuil) {
+        this.registry = registry;
+        this.seuil = seuil;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest requete, HttpServletResponse reponse, FilterChain chaine)
+            throws ServletException, IOException {
+        CompteurRequetesSql.demarrer();
+        try {
+            chaine.doFilter(requete, reponse);
+        } finally {
+            int nombre = CompteurRequetesSql.arreter();
+            Object route = requete.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String routeTag = route == null ? ROUTE_INCONNUE : route.toString();
+            DistributionSummary.builder(DISTRIBUTION_REQUETES)
+                    .tags("methode", requete.getMethod(), "route", routeTag)
+                    .register(registry)
+                    .record(nombre);
+            if (nombre > seuil)
+                log.warn("{} {} : {} instructions SQL (seuil {})", requete.getMethod(), routeTag, nombre, seuil);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.accenture.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mesure chaque appel d'une méthode publique des {@code *ServiceImpl} :
+ * un timer "location.service" (avec histogramme de latence) étiqueté par classe, méthode et exception
+ * éventuelle, et un compteur "location.service.erreurs" par type d'exception.
+ * Les appels aux DAO sont mesurés par Spring Boot (métrique "spring.data.repository.invocations").
+ */
+
+@Aspect
+@Component
+public class MetriquesServices {
+
+    public static final String TIMER_SERVICE = "location.service";
+    public static final String COMPTEUR_ERREURS = "location.service.erreurs";
+    private static final String AUCUNE = "aucune";
+
+    private final MeterRegistry registry;
+
+    public MetriquesServices(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.accenture.service..*ServiceImpl.*(..))")
+    public Object mesurer(ProceedingJoinPoint appel) throws Throwable {
+        String classe = appel.getSignature().getDeclaringType().getSimpleName();
+        String methode = appel.getSignature().getName();
+        Timer.Sample debut = Timer.start(registry);
+        String exception = AUCUNE;
+        try {
+            return appel.proceed();
+        } catch (Throwable erreur) {
+            exception = erreur.getClass().getSimpleName();
+            registry.counter(COMPTEUR_ERREURS, "classe", classe, "methode", methode, "exception", exception).increment();
+            throw erreur;
+        } finally {
+            debut.stop(Timer.builder(TIMER_SERVICE)
+                    .tags("classe", classe, "methode", methode, "exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+}
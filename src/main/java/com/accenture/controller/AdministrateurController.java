@@ -3,13 +3,21 @@ package com.accenture.controller;
 import com.accenture.service.AdministrateurService;
 import com.accenture.service.dto.utilisateurs.AdministrateurRequestDTO;
 import com.accenture.service.dto.utilisateurs.AdministrateurResponseDTO;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.shared.ResumeLog;
+import com.accenture.shared.enumerations.Role;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -39,10 +47,47 @@ public class AdministrateurController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     List<AdministrateurResponseDTO> admin() {
         List<AdministrateurResponseDTO> dto = adminService.trouverTous();
-        log.info("Afficher une liste d'administrateurs : {} " , dto);
+        log.info("Afficher une liste d'administrateurs : {}", ResumeLog.resume(dto, AdministrateurResponseDTO::id));
         return dto;
     }
 
+    /**
+     * Récupère une page de administrateurs, triée selon les paramètres fournis.
+     *
+     * @param pageable  Numéro de page, taille et tri (ex : {@code ?page=0&size=20&sort=id,desc}).
+     * @param avecTotal Indique s'il faut calculer le nombre total d'éléments (requête count supplémentaire).
+     * @return Un {@link PageDTO} contenant les administrateurs de la page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Page de administrateurs", description = "Récupère une page de administrateurs, triée et éventuellement accompagnée du total.")
+    @ApiResponse(responseCode = "200", description = "Page trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides")
+    ResponseEntity<PageDTO<List<AdministrateurResponseDTO>>> trouverPage(@PageableDefault(size = 20, sort = "id") Pageable pageable,
+                                                 @RequestParam(required = false, defaultValue = "false") boolean avecTotal) {
+        PageDTO<List<AdministrateurResponseDTO>> page = adminService.trouverPage(pageable, avecTotal);
+        log.info("Afficher la page {} de administrateurs : {} éléments", page.page(), page.contenu().size());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Récupère les administrateurs qui suivent le curseur fourni (pagination par clé sur l'identifiant).
+     * Contrairement à la pagination par numéro de page, le coût ne dépend pas de la profondeur de lecture.
+     *
+     * @param curseur Curseur opaque renvoyé par l'appel précédent (absent pour commencer au début).
+     * @param taille  Nombre maximal d'éléments à renvoyer.
+     * @return Un {@link CurseurDTO} contenant les administrateurs et le curseur suivant.
+     */
+    @GetMapping("/curseur")
+    @Operation(summary = "Parcours de administrateurs par curseur", description = "Récupère les administrateurs qui suivent le curseur fourni.")
+    @ApiResponse(responseCode = "200", description = "Portion trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Curseur ou taille invalide")
+    ResponseEntity<CurseurDTO<List<AdministrateurResponseDTO>>> trouverApresCurseur(@RequestParam(required = false) String curseur,
+                                                            @RequestParam(required = false, defaultValue = "20") int taille) {
+        CurseurDTO<List<AdministrateurResponseDTO>> curseurDTO = adminService.trouverApresCurseur(curseur, taille);
+        log.info("Afficher les administrateurs après curseur : {} éléments", curseurDTO.contenu().size());
+        return ResponseEntity.ok(curseurDTO);
+    }
+
     /**
      * Récupère un administrateur spécifique par son identifiant.
      *
@@ -81,27 +126,37 @@ public class AdministrateurController {
     }
 
     /**
-     * Récupère les informations d'un administrateur en vérifiant ses identifiants.
+     * Récupère les informations d'un administrateur, authentifié par jeton ou en vérifiant ses identifiants.
      *
-     * @param login    : L'email de l'administrateur.
-     * @param password : Le mot de passe de l'administrateur.
+     * @param login    : L'email de l'administrateur (sans jeton).
+     * @param password : Le mot de passe de l'administrateur (sans jeton).
+     * @param session  : La session du jeton {@code Authorization: Bearer}, le cas échéant.
      * @return Un {@link AdministrateurResponseDTO} contenant les informations de l'administrateur si l'authentification réussit.
      */
     @GetMapping("/informations")
     @Operation(summary = "Informations administrateurs", description = "Donne les informations d'un administrateur.")
     @ApiResponse(responseCode = "200", description = "Administrateur trouvé avec succès")
     @ApiResponse(responseCode = "400", description = "Données invalides")
-    ResponseEntity<AdministrateurResponseDTO> recupererinfosCompte(@RequestParam String login, @RequestParam String password) {
-        AdministrateurResponseDTO infosCompte = adminService.recupererinfosCompte(login, password);
+    @ApiResponse(responseCode = "401", description = "Jeton ou identifiants absents")
+    ResponseEntity<AdministrateurResponseDTO> recupererinfosCompte(@RequestParam(required = false) String login, @RequestParam(required = false) String password,
+                                                                   @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        AdministrateurResponseDTO infosCompte;
+        if (session != null) {
+            infosCompte = adminService.trouver(session.idPour(Role.ADMINISTRATEUR, null));
+        } else {
+            SessionUtilisateur.exigerIdentifiants(login, password);
+            infosCompte = adminService.recupererinfosCompte(login, password);
+        }
         log.info("Afficher les informations d'un administrateur : {}", infosCompte);
         return ResponseEntity.ok(infosCompte);
     }
 
     /**
-     * Supprime un administrateur de la base de données en vérifiant ses identifiants.
+     * Supprime un administrateur de la base de données, authentifié par jeton ou en vérifiant ses identifiants.
      *
-     * @param login    : L'email de l'administrateur à supprimer.
-     * @param password : Le mot de passe de l'administrateur.
+     * @param login    : L'email de l'administrateur à supprimer (sans jeton).
+     * @param password : Le mot de passe de l'administrateur (sans jeton).
+     * @param session  : La session du jeton {@code Authorization: Bearer}, le cas échéant.
      * @return Un code de statut HTTP 204 indiquant que l'administrateur a été supprimé avec succès.
      */
 
@@ -109,8 +164,16 @@ public class AdministrateurController {
     @Operation(summary = "Supprimer un administrateur", description = "Supprime un administrateur de la base.")
     @ApiResponse(responseCode = "204", description = "Administrateur supprimé avec succès")
     @ApiResponse(responseCode = "404", description = "Administrateur non trouvé")
-    ResponseEntity<AdministrateurResponseDTO> supprimer(@PathVariable("id") Long id, @RequestParam String login, @RequestParam String password) {
-        AdministrateurResponseDTO suppCompte = adminService.supprimer(login, password);
+    @ApiResponse(responseCode = "403", description = "Le jeton ne correspond pas à cet administrateur")
+    ResponseEntity<AdministrateurResponseDTO> supprimer(@PathVariable("id") Long id, @RequestParam(required = false) String login, @RequestParam(required = false) String password,
+                                                        @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        AdministrateurResponseDTO suppCompte;
+        if (session != null) {
+            suppCompte = adminService.supprimer(session.idPour(Role.ADMINISTRATEUR, id));
+        } else {
+            SessionUtilisateur.exigerIdentifiants(login, password);
+            suppCompte = adminService.supprimer(login, password);
+        }
         log.info("Supprimer un administrateur : {}", suppCompte);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
@@ -118,17 +181,27 @@ public class AdministrateurController {
     /**
      * Modifie partiellement les informations d'un administrateur dans la base de données.
      *
-     * @param login           : L'email de l'administrateur à modifier.
-     * @param password        : Le mot de passe de l'administrateur à modifier.
+     * @param login           : L'email de l'administrateur à modifier (sans jeton).
+     * @param password        : Le mot de passe de l'administrateur à modifier (sans jeton).
      * @param adminRequestDTO : L'objet contenant les nouvelles valeurs des champs à mettre à jour.
+     * @param session         : La session du jeton {@code Authorization: Bearer}, le cas échéant.
      * @return Un {@link AdministrateurResponseDTO} contenant les informations mises à jour de l'administrateur.
      */
     @PatchMapping("/{id}")
     @Operation(summary = "Modifier complètement ou partiellement un administrateur", description = "Modifie un administrateur dans la base.")
     @ApiResponse(responseCode = "200", description = "Administrateur modifié avec succès")
     @ApiResponse(responseCode = "400", description = "Données invalides")
-    ResponseEntity<AdministrateurResponseDTO> modifier(@PathVariable("id") Long id, @RequestParam String login, @RequestParam String password, @RequestBody AdministrateurRequestDTO adminRequestDTO) {
-        AdministrateurResponseDTO reponse = adminService.modifPartielle(login, password, adminRequestDTO);
+    @ApiResponse(responseCode = "403", description = "Le jeton ne correspond pas à cet administrateur")
+    ResponseEntity<AdministrateurResponseDTO> modifier(@PathVariable("id") Long id, @RequestParam(required = false) String login, @RequestParam(required = false) String password,
+                                                       @RequestBody AdministrateurRequestDTO adminRequestDTO,
+                                                       @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        AdministrateurResponseDTO reponse;
+        if (session != null) {
+            reponse = adminService.modifPartielle(session.idPour(Role.ADMINISTRATEUR, id), adminRequestDTO);
+        } else {
+            SessionUtilisateur.exigerIdentifiants(login, password);
+            reponse = adminService.modifPartielle(login, password, adminRequestDTO);
+        }
         log.info("Modifier un compte administrateur : {}", reponse);
         return ResponseEntity.ok(reponse);
     }
@@ -0,0 +1,89 @@
+package com.accenture.controller;
+
+import com.accenture.exception.AuthentificationException;
+import com.accenture.service.AdministrateurService;
+import com.accenture.service.ClientService;
+import com.accenture.service.dto.utilisateurs.AdministrateurResponseDTO;
+import com.accenture.service.dto.utilisateurs.ClientResponseDTO;
+import com.accenture.service.dto.utilisateurs.ConnexionDTO;
+import com.accenture.service.dto.utilisateurs.JetonDTO;
+import com.accenture.service.jeton.JetonService;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.shared.enumerations.Role;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/authentification")
+@Slf4j
+@Schema
+@Tag(name = "Authentification", description = "API de connexion par jeton de session")
+public class AuthentificationController {
+
+    private final ClientService clientService;
+    private final AdministrateurService adminService;
+    private final JetonService jetonService;
+
+    public AuthentificationController(ClientService clientService, AdministrateurService adminService, JetonService jetonService) {
+        this.clientService = clientService;
+        this.adminService = adminService;
+        this.jetonService = jetonService;
+    }
+
+    /**
+     * Vérifie les identifiants d'un client et lui délivre un jeton de session.
+     *
+     * @param connexionDTO : Le login et le mot de passe du client.
+     * @return Un {@link JetonDTO} à transmettre dans l'en-tête {@code Authorization: Bearer}.
+     */
+    @PostMapping("/clients")
+    @Operation(summary = "Connexion client", description = "Délivre un jeton de session à un client.")
+    @ApiResponse(responseCode = "200", description = "Jeton délivré")
+    @ApiResponse(responseCode = "404", description = "Erreur dans l'email ou le mot de passe")
+    ResponseEntity<JetonDTO> connecterClient(@RequestBody @Valid ConnexionDTO connexionDTO) {
+        ClientResponseDTO client = clientService.recupererinfosCompte(connexionDTO.login(), connexionDTO.password());
+        log.info("Connexion du client {}", client.id());
+        return ResponseEntity.ok(jetonService.emettre(Role.CLIENT, client.id(), client.email()));
+    }
+
+    /**
+     * Vérifie les identifiants d'un administrateur et lui délivre un jeton de session.
+     *
+     * @param connexionDTO : Le login et le mot de passe de l'administrateur.
+     * @return Un {@link JetonDTO} à transmettre dans l'en-tête {@code Authorization: Bearer}.
+     */
+    @PostMapping("/administrateurs")
+    @Operation(summary = "Connexion administrateur", description = "Délivre un jeton de session à un administrateur.")
+    @ApiResponse(responseCode = "200", description = "Jeton délivré")
+    @ApiResponse(responseCode = "404", description = "Erreur dans l'email ou le mot de passe")
+    ResponseEntity<JetonDTO> connecterAdministrateur(@RequestBody @Valid ConnexionDTO connexionDTO) {
+        AdministrateurResponseDTO admin = adminService.recupererinfosCompte(connexionDTO.login(), connexionDTO.password());
+        log.info("Connexion de l'administrateur {}", admin.id());
+        return ResponseEntity.ok(jetonService.emettre(Role.ADMINISTRATEUR, admin.id(), admin.email()));
+    }
+
+    /**
+     * Révoque le jeton de la requête : il est refusé jusqu'à son expiration.
+     *
+     * @param session : La session du jeton {@code Authorization: Bearer}.
+     * @return Un code de statut HTTP 204.
+     */
+    @DeleteMapping
+    @Operation(summary = "Déconnexion", description = "Révoque le jeton de session transmis.")
+    @ApiResponse(responseCode = "204", description = "Jeton révoqué")
+    @ApiResponse(responseCode = "401", description = "Aucun jeton transmis")
+    ResponseEntity<Void> deconnecter(@Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        if (session == null)
+            throw new AuthentificationException("Aucun jeton de session transmis");
+        jetonService.revoquer(session);
+        log.info("Déconnexion de {} {}", session.role(), session.id());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.accenture.controller;
+
+import com.accenture.service.disponibilite.CalendrierDisponibilite;
+import com.accenture.service.dto.vehicules.CalendrierDTO;
+import com.accenture.service.dto.vehicules.DisponibiliteJourDTO;
+import com.accenture.shared.enumerations.Filtre;
+import com.accenture.shared.enumerations.Type;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/vehicules/calendrier")
+@Slf4j
+@Schema
+@Tag(name = "Calendrier des véhicules", description = "API de disponibilité journalière de la flotte")
+public class CalendrierController {
+
+    private final CalendrierDisponibilite calendrierDisponibilite;
+
+    public CalendrierController(CalendrierDisponibilite calendrierDisponibilite) {
+        this.calendrierDisponibilite = calendrierDisponibilite;
+    }
+
+    /**
+     * Donne, pour chaque véhicule correspondant aux critères, ses jours libres sur la période.
+     *
+     * @param dateDebut Premier jour de la période (inclus).
+     * @param dateFin   Dernier jour de la période (exclu).
+     * @param type      Type de véhicule (optionnel).
+     * @param filtre    Statut des véhicules : actif, inactif, dans le parc ou hors du parc (optionnel).
+     * @return Un {@link CalendrierDTO} contenant la disponibilité jour par jour de chaque véhicule.
+     */
+    @GetMapping
+    @Operation(summary = "Calendrier de disponibilité", description = "Donne les jours libres de chaque véhicule sur une période.")
+    @ApiResponse(responseCode = "200", description = "Calendrier calculé avec succès")
+    @ApiResponse(responseCode = "400", description = "Période invalide")
+    ResponseEntity<CalendrierDTO> calendrier(@RequestParam LocalDate dateDebut,
+                                             @RequestParam LocalDate dateFin,
+                                             @RequestParam(required = false) Type type,
+                                             @RequestParam(required = false) Filtre filtre) {
+        CalendrierDTO calendrier = calendrierDisponibilite.calculerMatrice(dateDebut, dateFin, type, filtre);
+        log.info("Calendrier de disponibilité du {} au {} : {} véhicules", dateDebut, dateFin, calendrier.vehicules().size());
+        return ResponseEntity.ok(calendrier);
+    }
+
+    /**
+     * Donne, pour chaque jour de la période, le nombre de véhicules libres correspondant aux critères.
+     *
+     * @param dateDebut Premier jour de la période (inclus).
+     * @param dateFin   Dernier jour de la période (exclu).
+     * @param type      Type de véhicule (optionnel).
+     * @param filtre    Statut des véhicules : actif, inactif, dans le parc ou hors du parc (optionnel).
+     * @return Une liste de {@link DisponibiliteJourDTO}, un élément par jour.
+     */
+    @GetMapping("/compte")
+    @Operation(summary = "Nombre de véhicules libres par jour", description = "Compte les véhicules libres pour chaque jour d'une période.")
+    @ApiResponse(responseCode = "200", description = "Comptage effectué avec succès")
+    @ApiResponse(responseCode = "400", description = "Période invalide")
+    ResponseEntity<List<DisponibiliteJourDTO>> compterParJour(@RequestParam LocalDate dateDebut,
+                                                              @RequestParam LocalDate dateFin,
+                                                              @RequestParam(required = false) Type type,
+                                                              @RequestParam(required = false) Filtre filtre) {
+        List<DisponibiliteJourDTO> compte = calendrierDisponibilite.compterLibresParJour(dateDebut, dateFin, type, filtre);
+        log.info("Nombre de véhicules libres du {} au {} : {} jours", dateDebut, dateFin, compte.size());
+        return ResponseEntity.ok(compte);
+    }
+}
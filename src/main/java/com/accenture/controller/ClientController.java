@@ -3,13 +3,23 @@ package com.accenture.controller;
 import com.accenture.service.ClientService;
 import com.accenture.service.dto.utilisateurs.ClientRequestDTO;
 import com.accenture.service.dto.utilisateurs.ClientResponseDTO;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.shared.ResumeLog;
+import com.accenture.shared.Versions;
+import com.accenture.shared.enumerations.Role;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -39,15 +49,52 @@ public class ClientController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     List<ClientResponseDTO> clients() {
         List<ClientResponseDTO> dto = clientService.trouverTous();
-        log.info("Afficher une liste de clients : {}", dto);
+        log.info("Afficher une liste de clients : {}", ResumeLog.resume(dto, ClientResponseDTO::id));
         return dto;
     }
 
+    /**
+     * Récupère une page de clients, triée selon les paramètres fournis.
+     *
+     * @param pageable  Numéro de page, taille et tri (ex : {@code ?page=0&size=20&sort=id,desc}).
+     * @param avecTotal Indique s'il faut calculer le nombre total d'éléments (requête count supplémentaire).
+     * @return Un {@link PageDTO} contenant les clients de la page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Page de clients", description = "Récupère une page de clients, triée et éventuellement accompagnée du total.")
+    @ApiResponse(responseCode = "200", description = "Page trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides")
+    ResponseEntity<PageDTO<List<ClientResponseDTO>>> trouverPage(@PageableDefault(size = 20, sort = "id") Pageable pageable,
+                                                 @RequestParam(required = false, defaultValue = "false") boolean avecTotal) {
+        PageDTO<List<ClientResponseDTO>> page = clientService.trouverPage(pageable, avecTotal);
+        log.info("Afficher la page {} de clients : {} éléments", page.page(), page.contenu().size());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Récupère les clients qui suivent le curseur fourni (pagination par clé sur l'identifiant).
+     * Contrairement à la pagination par numéro de page, le coût ne dépend pas de la profondeur de lecture.
+     *
+     * @param curseur Curseur opaque renvoyé par l'appel précédent (absent pour commencer au début).
+     * @param taille  Nombre maximal d'éléments à renvoyer.
+     * @return Un {@link CurseurDTO} contenant les clients et le curseur suivant.
+     */
+    @GetMapping("/curseur")
+    @Operation(summary = "Parcours de clients par curseur", description = "Récupère les clients qui suivent le curseur fourni.")
+    @ApiResponse(responseCode = "200", description = "Portion trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Curseur ou taille invalide")
+    ResponseEntity<CurseurDTO<List<ClientResponseDTO>>> trouverApresCurseur(@RequestParam(required = false) String curseur,
+                                                            @RequestParam(required = false, defaultValue = "20") int taille) {
+        CurseurDTO<List<ClientResponseDTO>> curseurDTO = clientService.trouverApresCurseur(curseur, taille);
+        log.info("Afficher les clients après curseur : {} éléments", curseurDTO.contenu().size());
+        return ResponseEntity.ok(curseurDTO);
+    }
+
     /**
      * Récupère un client spécifique par son identifiant.
      *
      * @param id L'identifiant du client à récupérer.
-     * @return Un {@link ClientResponseDTO} représentant le client trouvé.
+     * @return Un {@link ClientResponseDTO} représentant le client trouvé, avec sa version dans l'en-tête {@code ETag}.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Trouve un client", description = "Trouve un client dans le parc.")
@@ -56,7 +103,7 @@ public class ClientController {
     ResponseEntity<ClientResponseDTO> trouverUnClient(@PathVariable("id") Long id) {
         ClientResponseDTO trouver = clientService.trouver(id);
         log.info("Afficher un client : {}", trouver);
-        return ResponseEntity.ok(trouver);
+        return ResponseEntity.ok().eTag(Versions.etag(trouver.version())).body(trouver);
     }
 
     /**
@@ -81,35 +128,53 @@ public class ClientController {
     }
 
     /**
-     * Récupère les informations d'un client en vérifiant ses identifiants.
+     * Récupère les informations d'un client, authentifié par jeton ou en vérifiant ses identifiants.
      *
-     * @param login    : L'email du client.
-     * @param password : Le mot de passe du client.
+     * @param login    : L'email du client (sans jeton).
+     * @param password : Le mot de passe du client (sans jeton).
+     * @param session  : La session du jeton {@code Authorization: Bearer}, le cas échéant.
      * @return Un {@link ClientResponseDTO} contenant les informations du client si l'authentification réussit.
      */
     @GetMapping("/informations")
     @Operation(summary = "Informations clients", description = "Donne les informations d'un client.")
     @ApiResponse(responseCode = "200", description = "Client trouvé avec succès")
     @ApiResponse(responseCode = "400", description = "Données invalides")
-    ResponseEntity<ClientResponseDTO> recupererinfosCompte(@RequestParam String login, @RequestParam String password) {
-        ClientResponseDTO infosCompte = clientService.recupererinfosCompte(login, password);
+    @ApiResponse(responseCode = "401", description = "Jeton ou identifiants absents")
+    ResponseEntity<ClientResponseDTO> recupererinfosCompte(@RequestParam(required = false) String login, @RequestParam(required = false) String password,
+                                                           @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        ClientResponseDTO infosCompte;
+        if (session != null) {
+            infosCompte = clientService.trouver(session.idPour(Role.CLIENT, null));
+        } else {
+            SessionUtilisateur.exigerIdentifiants(login, password);
+            infosCompte = clientService.recupererinfosCompte(login, password);
+        }
         log.info("Obtenir les infos d'un client : {}", infosCompte);
         return ResponseEntity.ok(infosCompte);
     }
 
     /**
-     * Supprime un client de la base de données en vérifiant ses identifiants.
+     * Supprime un client de la base de données, authentifié par jeton ou en vérifiant ses identifiants.
      *
-     * @param login    : L'email du client à supprimer.
-     * @param password : Le mot de passe du client.
+     * @param login    : L'email du client à supprimer (sans jeton).
+     * @param password : Le mot de passe du client (sans jeton).
+     * @param session  : La session du jeton {@code Authorization: Bearer}, le cas échéant.
      * @return Un code de statut HTTP 204 indiquant que le client a été supprimé avec succès.
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer un client", description = "Supprime un client de la base.")
     @ApiResponse(responseCode = "204", description = "Client supprimé avec succès")
     @ApiResponse(responseCode = "404", description = "Client non trouvé")
-    ResponseEntity<ClientResponseDTO> supprimer(@PathVariable("id") Long id, @RequestParam String login, @RequestParam String password) {
-        ClientResponseDTO suppCompte = clientService.suppprimer(login, password);
+    @ApiResponse(responseCode = "403", description = "Le jeton ne correspond pas à ce client")
+    ResponseEntity<ClientResponseDTO> supprimer(@PathVariable("id") Long id, @RequestParam(required = false) String login, @RequestParam(required = false) String password,
+                                                @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        ClientResponseDTO suppCompte;
+        if (session != null) {
+            suppCompte = clientService.supprimer(session.idPour(Role.CLIENT, id));
+        } else {
+            SessionUtilisateur.exigerIdentifiants(login, password);
+            suppCompte = clientService.suppprimer(login, password);
+        }
         log.info("Supprimer un compte : {}", suppCompte);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
@@ -117,18 +182,33 @@ public class ClientController {
     /**
      * Modifie partiellement ou complètement un client dans la base de données.
      *
-     * @param login           : L'email du client à modifier.
-     * @param password        : Le mot de passe du client à modifier.
+     * @param login           : L'email du client à modifier (sans jeton).
+     * @param password        : Le mot de passe du client à modifier (sans jeton).
      * @param clientRequestDTO : L'objet contenant les nouvelles valeurs des champs à mettre à jour.
-     * @return Un {@link ClientResponseDTO} contenant les informations mises à jour du client.
+     * @param session         : La session du jeton {@code Authorization: Bearer}, le cas échéant.
+     * @param ifMatch         : L'ETag de la version lue par le client ; absent, la modification n'est pas conditionnée.
+     * @return Un {@link ClientResponseDTO} contenant les informations mises à jour du client, avec sa nouvelle version dans l'en-tête {@code ETag}.
      */
     @PatchMapping("/{id}")
     @Operation(summary = "Modifier complètement ou partiellement un client", description = "Modifie un client dans la base.")
     @ApiResponse(responseCode = "200", description = "Client modifié avec succès")
     @ApiResponse(responseCode = "400", description = "Données invalides")
-    ResponseEntity<ClientResponseDTO> modifier(@PathVariable("id") Long id, @RequestParam String login, @RequestParam String password, @RequestBody ClientRequestDTO clientRequestDTO) {
-        ClientResponseDTO reponse = clientService.modifier(login, password, clientRequestDTO);
+    @ApiResponse(responseCode = "403", description = "Le jeton ne correspond pas à ce client")
+    @ApiResponse(responseCode = "409", description = "Client modifié simultanément par une autre requête")
+    @ApiResponse(responseCode = "412", description = "La version de l'en-tête If-Match n'est plus la version courante")
+    ResponseEntity<ClientResponseDTO> modifier(@PathVariable("id") Long id, @RequestParam(required = false) String login, @RequestParam(required = false) String password,
+                                               @RequestBody ClientRequestDTO clientRequestDTO,
+                                               @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long versionAttendue = Versions.versionAttendue(ifMatch);
+        ClientResponseDTO reponse;
+        if (session != null) {
+            reponse = clientService.modifier(session.idPour(Role.CLIENT, id), versionAttendue, clientRequestDTO);
+        } else {
+            SessionUtilisateur.exigerIdentifiants(login, password);
+            reponse = clientService.modifier(login, password, versionAttendue, clientRequestDTO);
+        }
         log.info("Modifier un compte : {}", reponse);
-        return ResponseEntity.ok(reponse);
+        return ResponseEntity.ok().eTag(Versions.etag(reponse.version())).body(reponse);
     }
 }
@@ -0,0 +1,90 @@
+package com.accenture.controller;
+
+import com.accenture.service.ExportService;
+import com.accenture.shared.enumerations.FormatExport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/exports")
+@Slf4j
+@Schema
+@Tag(name = "Exports", description = "API d'export en flux de la flotte, des clients et des locations")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Exporte toute la flotte (motos et voitures). La réponse est écrite au fil de la lecture en base.
+     *
+     * @param format Format d'export : NDJSON (par défaut) ou CSV.
+     * @return Le flux des véhicules.
+     */
+    @GetMapping("/vehicules")
+    @Operation(summary = "Exporter les véhicules", description = "Exporte tous les véhicules en NDJSON ou CSV.")
+    @ApiResponse(responseCode = "200", description = "Export en cours d'envoi")
+    ResponseEntity<StreamingResponseBody> exporterVehicules(@RequestParam(required = false, defaultValue = "NDJSON") FormatExport format) {
+        log.info("Export des véhicules demandé au format {}", format);
+        return reponse("vehicules", format, sortie -> exportService.exporterVehicules(format, sortie));
+    }
+
+    /**
+     * Exporte tous les clients, sans leur mot de passe.
+     *
+     * @param format Format d'export : NDJSON (par défaut) ou CSV.
+     * @return Le flux des clients.
+     */
+    @GetMapping("/clients")
+    @Operation(summary = "Exporter les clients", description = "Exporte tous les clients (sans mot de passe) en NDJSON ou CSV.")
+    @ApiResponse(responseCode = "200", description = "Export en cours d'envoi")
+    ResponseEntity<StreamingResponseBody> exporterClients(@RequestParam(required = false, defaultValue = "NDJSON") FormatExport format) {
+        log.info("Export des clients demandé au format {}", format);
+        return reponse("clients", format, sortie -> exportService.exporterClients(format, sortie));
+    }
+
+    /**
+     * Exporte l'historique complet des locations.
+     *
+     * @param format Format d'export : NDJSON (par défaut) ou CSV.
+     * @return Le flux des locations.
+     */
+    @GetMapping("/locations")
+    @Operation(summary = "Exporter les locations", description = "Exporte l'historique des locations en NDJSON ou CSV.")
+    @ApiResponse(responseCode = "200", description = "Export en cours d'envoi")
+    ResponseEntity<StreamingResponseBody> exporterLocations(@RequestParam(required = false, defaultValue = "NDJSON") FormatExport format) {
+        log.info("Export des locations demandé au format {}", format);
+        return reponse("locations", format, sortie -> exportService.exporterLocations(format, sortie));
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static ResponseEntity<StreamingResponseBody> reponse(String nom, FormatExport format, StreamingResponseBody corps) {
+        boolean csv = format == FormatExport.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, STR."attachment; filename=\"\{nom}.\{csv ? "csv" : "ndjson"}\"")
+                .body(corps);
+    }
+}
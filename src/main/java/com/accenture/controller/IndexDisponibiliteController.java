@@ -0,0 +1,56 @@
+package com.accenture.controller;
+
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.dto.VerificationIndexDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/vehicules/index-disponibilite")
+@Slf4j
+@Schema
+@Tag(name = "Index de disponibilité", description = "API de contrôle de l'index de disponibilité en mémoire")
+@ConditionalOnProperty(name = "location.index-disponibilite.actif", havingValue = "true")
+public class IndexDisponibiliteController {
+
+    private final IndexDisponibilite indexDisponibilite;
+
+    public IndexDisponibiliteController(IndexDisponibilite indexDisponibilite) {
+        this.indexDisponibilite = indexDisponibilite;
+    }
+
+    /**
+     * Compare l'index de disponibilité en mémoire avec les locations présentes en base.
+     *
+     * @return Un {@link VerificationIndexDTO} décrivant les écarts éventuels.
+     */
+    @GetMapping("/verification")
+    @Operation(summary = "Vérifier l'index", description = "Compare l'index de disponibilité avec la base de données.")
+    @ApiResponse(responseCode = "200", description = "Vérification effectuée")
+    ResponseEntity<VerificationIndexDTO> verifier() {
+        VerificationIndexDTO verification = indexDisponibilite.verifier();
+        log.info("Vérification de l'index de disponibilité : cohérent = {}", verification.coherent());
+        return ResponseEntity.ok(verification);
+    }
+
+    /**
+     * Reconstruit entièrement l'index de disponibilité à partir de la base de données.
+     *
+     * @return Le résultat de la vérification effectuée après reconstruction.
+     */
+    @PostMapping("/reconstruction")
+    @Operation(summary = "Reconstruire l'index", description = "Reconstruit l'index de disponibilité à partir de la base de données.")
+    @ApiResponse(responseCode = "200", description = "Index reconstruit avec succès")
+    ResponseEntity<VerificationIndexDTO> reconstruire() {
+        indexDisponibilite.reconstruire();
+        VerificationIndexDTO verification = indexDisponibilite.verifier();
+        log.info("Reconstruction de l'index de disponibilité : {} locations", verification.nbLocationsIndex());
+        return ResponseEntity.ok(verification);
+    }
+}
@@ -0,0 +1,90 @@
+package com.accenture.controller;
+
+import com.accenture.exception.AuthentificationException;
+import com.accenture.service.dto.vehicules.KilometrageDTO;
+import com.accenture.service.dto.vehicules.KilometrageMensuelDTO;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.service.kilometrage.KilometrageFlotte;
+import com.accenture.shared.enumerations.Role;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/vehicules/kilometrage")
+@Slf4j
+@Schema
+@Tag(name = "Kilométrage", description = "API de consultation du kilométrage pré-agrégé de la flotte")
+public class KilometrageController {
+
+    private final KilometrageFlotte kilometrageFlotte;
+
+    public KilometrageController(KilometrageFlotte kilometrageFlotte) {
+        this.kilometrageFlotte = kilometrageFlotte;
+    }
+
+    /**
+     * Renvoie le kilométrage cumulé d'un véhicule, total et mois par mois.
+     *
+     * @param vehiculeId L'identifiant du véhicule.
+     * @return Un {@link KilometrageDTO} contenant le compteur, le cumul des locations clôturées et le détail mensuel.
+     */
+    @GetMapping("/{vehiculeId}")
+    @Operation(summary = "Kilométrage d'un véhicule", description = "Renvoie le kilométrage cumulé d'un véhicule, total et par mois.")
+    @ApiResponse(responseCode = "200", description = "Kilométrage trouvé")
+    @ApiResponse(responseCode = "404", description = "Véhicule non trouvé")
+    ResponseEntity<KilometrageDTO> trouver(@PathVariable("vehiculeId") long vehiculeId) {
+        return ResponseEntity.ok(kilometrageFlotte.trouver(vehiculeId));
+    }
+
+    /**
+     * Renvoie la distance parcourue par chaque véhicule au cours du mois contenant la date donnée.
+     *
+     * @param mois Une date quelconque du mois recherché.
+     * @return La liste des {@link KilometrageMensuelDTO} du mois.
+     */
+    @GetMapping
+    @Operation(summary = "Kilométrage mensuel de la flotte", description = "Renvoie la distance parcourue par véhicule sur un mois.")
+    @ApiResponse(responseCode = "200", description = "Kilométrage du mois renvoyé")
+    ResponseEntity<List<KilometrageMensuelDTO>> trouverMois(@RequestParam LocalDate mois) {
+        return ResponseEntity.ok(kilometrageFlotte.trouverMois(mois));
+    }
+
+    /**
+     * Recalcule entièrement les cumuls de kilométrage à partir des locations clôturées (administrateurs uniquement).
+     *
+     * @param session : La session du jeton {@code Authorization: Bearer}.
+     * @return Une réponse vide.
+     */
+    @PostMapping("/reconstruction")
+    @Operation(summary = "Reconstruire les cumuls", description = "Recalcule le kilométrage pré-agrégé à partir des locations clôturées.")
+    @ApiResponse(responseCode = "204", description = "Cumuls reconstruits avec succès")
+    @ApiResponse(responseCode = "401", description = "Jeton absent")
+    @ApiResponse(responseCode = "403", description = "Réservé aux administrateurs")
+    ResponseEntity<Void> reconstruire(@Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        exigerSession(session).idPour(Role.ADMINISTRATEUR, null);
+        kilometrageFlotte.reconstruire();
+        log.info("Reconstruction du kilométrage pré-agrégé effectuée");
+        return ResponseEntity.noContent().build();
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static SessionUtilisateur exigerSession(SessionUtilisateur session) {
+        if (session == null)
+            throw new AuthentificationException("Un jeton (Authorization: Bearer) est requis");
+        return session;
+    }
+}
@@ -0,0 +1,138 @@
+package com.accenture.controller;
+
+import com.accenture.exception.AuthentificationException;
+import com.accenture.service.LocationService;
+import com.accenture.service.dto.LocationDTO;
+import com.accenture.service.dto.LocationRequestDTO;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.shared.enumerations.Role;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/locations")
+@Slf4j
+@Schema
+@Tag(name = "Gestion des locations", description = "API de réservation des véhicules")
+public class LocationController {
+
+    private final LocationService locationService;
+
+    public LocationController(LocationService locationService) {
+        this.locationService = locationService;
+    }
+
+    /**
+     * Réserve un véhicule pour le client authentifié par jeton.
+     * Deux demandes concurrentes sur des périodes qui se chevauchent ne peuvent pas aboutir toutes les deux.
+     *
+     * @param locationRequestDTO : Le véhicule et la période [dateDebut, dateFin[ demandés.
+     * @param session            : La session du jeton {@code Authorization: Bearer}.
+     * @return La location créée sous forme de {@link LocationDTO}.
+     */
+    @PostMapping
+    @Operation(summary = "Réserver un véhicule", description = "Réserve un véhicule pour le client authentifié sur la période demandée.")
+    @ApiResponse(responseCode = "201", description = "Véhicule réservé avec succès")
+    @ApiResponse(responseCode = "400", description = "Données invalides")
+    @ApiResponse(responseCode = "401", description = "Jeton absent")
+    @ApiResponse(responseCode = "404", description = "Véhicule non trouvé")
+    @ApiResponse(responseCode = "409", description = "Véhicule déjà réservé sur la période")
+    ResponseEntity<LocationDTO> reserver(@RequestBody @Valid LocationRequestDTO locationRequestDTO,
+                                         @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        if (session == null)
+            throw new AuthentificationException("Un jeton (Authorization: Bearer) est requis pour réserver");
+        LocationDTO location = locationService.reserver(session.idPour(Role.CLIENT, null), locationRequestDTO);
+        log.info("Réserver un véhicule : {}", location);
+        return ResponseEntity.status(HttpStatus.CREATED).body(location);
+    }
+
+    /**
+     * Valide une réservation (administrateur).
+     *
+     * @param id      : L'identifiant de la location.
+     * @param session : La session du jeton {@code Authorization: Bearer}.
+     * @return La location validée sous forme de {@link LocationDTO}.
+     */
+    @PatchMapping("/{id}/validation")
+    @Operation(summary = "Valider une réservation", description = "Fait passer une location réservée à l'état validé.")
+    @ApiResponse(responseCode = "200", description = "Location validée")
+    @ApiResponse(responseCode = "400", description = "La location n'est pas à l'état réservé")
+    @ApiResponse(responseCode = "401", description = "Jeton absent")
+    @ApiResponse(responseCode = "403", description = "Réservé aux administrateurs")
+    @ApiResponse(responseCode = "404", description = "Location non trouvée")
+    @ApiResponse(responseCode = "409", description = "Location modifiée simultanément par une autre requête")
+    ResponseEntity<LocationDTO> valider(@PathVariable("id") Long id,
+                                        @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        exigerSession(session).idPour(Role.ADMINISTRATEUR, null);
+        LocationDTO location = locationService.valider(id);
+        log.info("Valider une location : {}", location);
+        return ResponseEntity.ok(location);
+    }
+
+    /**
+     * Enregistre le retour du véhicule et les kilomètres parcourus (administrateur).
+     *
+     * @param id          : L'identifiant de la location.
+     * @param kmParcourus : Les kilomètres parcourus pendant la location.
+     * @param session     : La session du jeton {@code Authorization: Bearer}.
+     * @return La location rendue sous forme de {@link LocationDTO}.
+     */
+    @PatchMapping("/{id}/retour")
+    @Operation(summary = "Rendre un véhicule", description = "Fait passer une location en cours à l'état rendu.")
+    @ApiResponse(responseCode = "200", description = "Retour enregistré")
+    @ApiResponse(responseCode = "400", description = "Kilométrage invalide ou location non en cours")
+    @ApiResponse(responseCode = "401", description = "Jeton absent")
+    @ApiResponse(responseCode = "403", description = "Réservé aux administrateurs")
+    @ApiResponse(responseCode = "404", description = "Location non trouvée")
+    @ApiResponse(responseCode = "409", description = "Location modifiée simultanément par une autre requête")
+    ResponseEntity<LocationDTO> rendre(@PathVariable("id") Long id, @RequestParam int kmParcourus,
+                                       @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        exigerSession(session).idPour(Role.ADMINISTRATEUR, null);
+        LocationDTO location = locationService.rendre(id, kmParcourus);
+        log.info("Rendre un véhicule : {}", location);
+        return ResponseEntity.ok(location);
+    }
+
+    /**
+     * Annule une location qui n'a pas commencé : un client ne peut annuler que ses propres locations.
+     *
+     * @param id      : L'identifiant de la location.
+     * @param session : La session du jeton {@code Authorization: Bearer}.
+     * @return La location annulée sous forme de {@link LocationDTO}.
+     */
+    @PatchMapping("/{id}/annulation")
+    @Operation(summary = "Annuler une location", description = "Annule une location réservée ou validée qui n'a pas commencé.")
+    @ApiResponse(responseCode = "200", description = "Location annulée")
+    @ApiResponse(responseCode = "400", description = "La location a déjà commencé ou est terminée")
+    @ApiResponse(responseCode = "401", description = "Jeton absent")
+    @ApiResponse(responseCode = "403", description = "La location appartient à un autre client")
+    @ApiResponse(responseCode = "404", description = "Location non trouvée")
+    @ApiResponse(responseCode = "409", description = "Location modifiée simultanément par une autre requête")
+    ResponseEntity<LocationDTO> annuler(@PathVariable("id") Long id,
+                                        @Parameter(hidden = true) @RequestAttribute(name = SessionUtilisateur.ATTRIBUT, required = false) SessionUtilisateur session) {
+        Long clientId = exigerSession(session).role() == Role.CLIENT ? session.id() : null;
+        LocationDTO location = locationService.annuler(id, clientId);
+        log.info("Annuler une location : {}", location);
+        return ResponseEntity.ok(location);
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static SessionUtilisateur exigerSession(SessionUtilisateur session) {
+        if (session == null)
+            throw new AuthentificationException("Un jeton (Authorization: Bearer) est requis");
+        return session;
+    }
+}
@@ -3,17 +3,32 @@ package com.accenture.controller;
 import com.accenture.service.MotoService;
 import com.accenture.service.dto.vehicules.*;
 import com.accenture.shared.enumerations.Filtre;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.dto.RapportImportDTO;
+import com.accenture.shared.LecteurImport;
+import com.accenture.shared.LigneImport;
+import com.accenture.shared.ResumeLog;
+import com.accenture.shared.Versions;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -26,9 +41,11 @@ import java.util.List;
 public class MotoController {
 
     private final MotoService motoService;
+    private final ObjectMapper objectMapper;
 
-    public MotoController(MotoService motoService) {
+    public MotoController(MotoService motoService, ObjectMapper objectMapper) {
         this.motoService = motoService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -41,15 +58,52 @@ public class MotoController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     List<MotoResponseDTO> trouverUneMoto() {
         List<MotoResponseDTO> dto = motoService.trouverTous();
-        log.info("Afficher liste de véhicules : {}", dto);
+        log.info("Afficher liste de motos : {}", ResumeLog.resume(dto, MotoResponseDTO::id));
         return dto;
     }
 
+    /**
+     * Récupère une page de motos, triée selon les paramètres fournis.
+     *
+     * @param pageable  Numéro de page, taille et tri (ex : {@code ?page=0&size=20&sort=id,desc}).
+     * @param avecTotal Indique s'il faut calculer le nombre total d'éléments (requête count supplémentaire).
+     * @return Un {@link PageDTO} contenant les motos de la page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Page de motos", description = "Récupère une page de motos, triée et éventuellement accompagnée du total.")
+    @ApiResponse(responseCode = "200", description = "Page trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides")
+    ResponseEntity<PageDTO<List<MotoResponseDTO>>> trouverPage(@PageableDefault(size = 20, sort = "id") Pageable pageable,
+                                                 @RequestParam(required = false, defaultValue = "false") boolean avecTotal) {
+        PageDTO<List<MotoResponseDTO>> page = motoService.trouverPage(pageable, avecTotal);
+        log.info("Afficher la page {} de motos : {} éléments", page.page(), page.contenu().size());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Récupère les motos qui suivent le curseur fourni (pagination par clé sur l'identifiant).
+     * Contrairement à la pagination par numéro de page, le coût ne dépend pas de la profondeur de lecture.
+     *
+     * @param curseur Curseur opaque renvoyé par l'appel précédent (absent pour commencer au début).
+     * @param taille  Nombre maximal d'éléments à renvoyer.
+     * @return Un {@link CurseurDTO} contenant les motos et le curseur suivant.
+     */
+    @GetMapping("/curseur")
+    @Operation(summary = "Parcours de motos par curseur", description = "Récupère les motos qui suivent le curseur fourni.")
+    @ApiResponse(responseCode = "200", description = "Portion trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Curseur ou taille invalide")
+    ResponseEntity<CurseurDTO<List<MotoResponseDTO>>> trouverApresCurseur(@RequestParam(required = false) String curseur,
+                                                            @RequestParam(required = false, defaultValue = "20") int taille) {
+        CurseurDTO<List<MotoResponseDTO>> curseurDTO = motoService.trouverApresCurseur(curseur, taille);
+        log.info("Afficher les motos après curseur : {} éléments", curseurDTO.contenu().size());
+        return ResponseEntity.ok(curseurDTO);
+    }
+
     /**
      * Récupère une moto spécifique par son identifiant.
      *
      * @param id L'identifiant de la moto à récupérer.
-     * @return Un {@link MotoResponseDTO} représentant la moto trouvée.
+     * @return Un {@link MotoResponseDTO} représentant la moto trouvée, avec sa version dans l'en-tête {@code ETag}.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Trouve une moto", description = "Trouve une moto dans le parc.")
@@ -58,7 +112,7 @@ public class MotoController {
     ResponseEntity<MotoResponseDTO> trouverUneMoto(@PathVariable("id") Long id) {
         MotoResponseDTO trouver = motoService.trouver(id);
         log.info("Afficher une moto : {}", trouver);
-        return ResponseEntity.ok(trouver);
+        return ResponseEntity.ok().eTag(Versions.etag(trouver.version())).body(trouver);
     }
 
     /**
@@ -73,7 +127,7 @@ public class MotoController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     ResponseEntity<List<MotoResponseDTO>> filtrer(@RequestParam Filtre filtre) {
         List<MotoResponseDTO> motos = motoService.filtrer(filtre);
-        log.info("Filtrer les motos : {}", motos);
+        log.info("Filtrer les motos : {}", ResumeLog.resume(motos, MotoResponseDTO::id));
         return ResponseEntity.ok(motos);
     }
 
@@ -98,6 +152,41 @@ public class MotoController {
         return ResponseEntity.created(location).build();
     }
 
+    /**
+     * Importe un lot de motos au format JSON (tableau de MotoRequestDTO).
+     * Les lignes invalides sont rapportées avec leurs violations, sans empêcher l'import des autres.
+     * @param motos Les motos à importer.
+     * @return Un {@link RapportImportDTO} indiquant le nombre de motos importées et les lignes rejetées.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Importer des motos", description = "Ajoute un lot de motos (tableau JSON) dans le parc.")
+    @ApiResponse(responseCode = "200", description = "Import effectué, éventuellement avec des lignes rejetées")
+    @ApiResponse(responseCode = "400", description = "Données invalides")
+    ResponseEntity<RapportImportDTO> importer(@RequestBody List<MotoRequestDTO> motos) {
+        RapportImportDTO rapport = motoService.importer(LigneImport.numeroter(motos));
+        log.info("Importer des motos : {} importées, {} rejetées", rapport.nbImportes(), rapport.erreurs().size());
+        return ResponseEntity.ok(rapport);
+    }
+
+    /**
+     * Importe un lot de motos depuis un fichier CSV dont l'en-tête reprend les champs de MotoRequestDTO.
+     * @param fichier Le fichier CSV (UTF-8).
+     * @return Un {@link RapportImportDTO} indiquant le nombre de motos importées et les lignes rejetées.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importer des motos (CSV)", description = "Ajoute un lot de motos (fichier CSV) dans le parc.")
+    @ApiResponse(responseCode = "200", description = "Import effectué, éventuellement avec des lignes rejetées")
+    @ApiResponse(responseCode = "400", description = "En-tête du fichier invalide")
+    ResponseEntity<RapportImportDTO> importerCsv(@RequestParam("fichier") MultipartFile fichier) throws IOException {
+        List<LigneImport<MotoRequestDTO>> lignes;
+        try (InputStream entree = fichier.getInputStream()) {
+            lignes = LecteurImport.lireCsv(entree, MotoRequestDTO.class, objectMapper);
+        }
+        RapportImportDTO rapport = motoService.importer(lignes);
+        log.info("Importer des motos (CSV) : {} importées, {} rejetées", rapport.nbImportes(), rapport.erreurs().size());
+        return ResponseEntity.ok(rapport);
+    }
+
     /**
      * Supprime une moto du parc.
      *
@@ -119,16 +208,20 @@ public class MotoController {
      *
      * @param id               L'identifiant de la moto à modifier.
      * @param motoRequestDTO   L'objet contenant les nouvelles valeurs des champs à mettre à jour.
-     * @return Un {@link MotoResponseDTO} contenant les informations mises à jour de la moto.
+     * @param ifMatch          L'ETag de la version lue par le client ; absent, la modification n'est pas conditionnée.
+     * @return Un {@link MotoResponseDTO} contenant les informations mises à jour de la moto, avec sa nouvelle version dans l'en-tête {@code ETag}.
      */
     @PatchMapping("/{id}")
     @Operation(summary = "Modifier complètement ou partiellement une moto", description = "Modifie une moto dans le parc.")
     @ApiResponse(responseCode = "200", description = "Moto modifiée avec succès")
     @ApiResponse(responseCode = "400", description = "Données invalides")
-    ResponseEntity<MotoResponseDTO> modifier(@PathVariable("id") Long id, @RequestBody MotoRequestDTO motoRequestDTO) {
-        MotoResponseDTO reponse = motoService.modifier(id, motoRequestDTO);
+    @ApiResponse(responseCode = "409", description = "Moto modifiée simultanément par une autre requête")
+    @ApiResponse(responseCode = "412", description = "La version de l'en-tête If-Match n'est plus la version courante")
+    ResponseEntity<MotoResponseDTO> modifier(@PathVariable("id") Long id, @RequestBody MotoRequestDTO motoRequestDTO,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        MotoResponseDTO reponse = motoService.modifier(id, Versions.versionAttendue(ifMatch), motoRequestDTO);
         log.info("Modifier une moto : {}", reponse);
-        return ResponseEntity.ok(reponse);
+        return ResponseEntity.ok().eTag(Versions.etag(reponse.version())).body(reponse);
     }
 }
 
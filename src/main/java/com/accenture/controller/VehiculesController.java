@@ -4,11 +4,16 @@ import com.accenture.service.VehiculeService;
 import com.accenture.service.dto.vehicules.VehiculeDTO;
 import com.accenture.shared.enumerations.Filtre;
 import com.accenture.shared.enumerations.Type;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.shared.ResumeLog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -45,10 +50,47 @@ public class VehiculesController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     VehiculeDTO trouverTousLesVehicules() {
        VehiculeDTO dto = vehiculeService.trouverTous();
-        log.info("Afficher liste de véhicules : {} ", dto);
+        log.info("Afficher liste de véhicules : {}", ResumeLog.resume(dto));
         return dto;
     }
 
+    /**
+     * Récupère une page de véhicules, triée selon les paramètres fournis.
+     *
+     * @param pageable  Numéro de page, taille et tri (ex : {@code ?page=0&size=20&sort=id,desc}).
+     * @param avecTotal Indique s'il faut calculer le nombre total d'éléments (requête count supplémentaire).
+     * @return Un {@link PageDTO} contenant le {@link VehiculeDTO} de la page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Page de véhicules", description = "Récupère une page de véhicules, triée et éventuellement accompagnée du total.")
+    @ApiResponse(responseCode = "200", description = "Page trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides")
+    ResponseEntity<PageDTO<VehiculeDTO>> trouverPage(@PageableDefault(size = 20, sort = "id") Pageable pageable,
+                                                 @RequestParam(required = false, defaultValue = "false") boolean avecTotal) {
+        PageDTO<VehiculeDTO> page = vehiculeService.trouverPage(pageable, avecTotal);
+        log.info("Afficher la page {} de véhicules : {} éléments", page.page(), page.contenu().motos().size() + page.contenu().voitures().size());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Récupère les véhicules qui suivent le curseur fourni (pagination par clé sur l'identifiant).
+     * Contrairement à la pagination par numéro de page, le coût ne dépend pas de la profondeur de lecture.
+     *
+     * @param curseur Curseur opaque renvoyé par l'appel précédent (absent pour commencer au début).
+     * @param taille  Nombre maximal d'éléments à renvoyer.
+     * @return Un {@link CurseurDTO} contenant le {@link VehiculeDTO} et le curseur suivant.
+     */
+    @GetMapping("/curseur")
+    @Operation(summary = "Parcours de véhicules par curseur", description = "Récupère les véhicules qui suivent le curseur fourni.")
+    @ApiResponse(responseCode = "200", description = "Portion trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Curseur ou taille invalide")
+    ResponseEntity<CurseurDTO<VehiculeDTO>> trouverApresCurseur(@RequestParam(required = false) String curseur,
+                                                            @RequestParam(required = false, defaultValue = "20") int taille) {
+        CurseurDTO<VehiculeDTO> curseurDTO = vehiculeService.trouverApresCurseur(curseur, taille);
+        log.info("Afficher les véhicules après curseur : {} éléments", curseurDTO.contenu().motos().size() + curseurDTO.contenu().voitures().size());
+        return ResponseEntity.ok(curseurDTO);
+    }
+
 
     /**
      * Récupère un véhicule spécifique par son identifiant.
@@ -64,7 +106,7 @@ public class VehiculesController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     ResponseEntity<VehiculeDTO> trouverunVehicule(@PathVariable("id") long id) {
         VehiculeDTO trouver = vehiculeService.trouver(id);
-        log.info(STR."Rechercher une véhicule : \{trouver}");
+        log.info("Rechercher un véhicule : {}", ResumeLog.resume(trouver));
         return ResponseEntity.ok(trouver);
     }
 
@@ -82,7 +124,7 @@ public class VehiculesController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     ResponseEntity<List<VehiculeDTO>> filtrer(@RequestParam Filtre filtre) {
         VehiculeDTO filtrer = vehiculeService.filtrer(filtre);
-        log.info("Ajouter un véhicule : {}", filtrer);
+        log.info("Filtrer les véhicules : {}", ResumeLog.resume(filtrer));
         return ResponseEntity.ok(Collections.singletonList(filtrer));
     }
 
@@ -123,7 +165,7 @@ public class VehiculesController {
             @RequestParam(required = false, defaultValue = "true") Boolean inclureVoitures,
             @RequestParam(required = false) Type type) {
         VehiculeDTO parDatesEtCategorieEtType = vehiculeService.rechercherParDateEtTypeEtCategorie(dateDebut, dateFin, inclureMotos, inclureVoitures, type);
-        log.info("Recherche de véhicules par dates et catégories : {} ", parDatesEtCategorieEtType);
+        log.info("Recherche de véhicules par dates et catégories : {}", ResumeLog.resume(parDatesEtCategorieEtType));
         return ResponseEntity.ok(parDatesEtCategorieEtType);
     }
 
@@ -4,17 +4,32 @@ import com.accenture.service.VoitureService;
 import com.accenture.service.dto.vehicules.VoitureRequestDTO;
 import com.accenture.service.dto.vehicules.VoitureResponseDTO;
 import com.accenture.shared.enumerations.Filtre;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.dto.RapportImportDTO;
+import com.accenture.shared.LecteurImport;
+import com.accenture.shared.LigneImport;
+import com.accenture.shared.ResumeLog;
+import com.accenture.shared.Versions;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -26,9 +41,11 @@ import java.util.List;
 public class VoitureController {
 
     private final VoitureService voitureService;
+    private final ObjectMapper objectMapper;
 
-    public VoitureController(VoitureService voitureService) {
+    public VoitureController(VoitureService voitureService, ObjectMapper objectMapper) {
         this.voitureService = voitureService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -42,15 +59,52 @@ public class VoitureController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     public List<VoitureResponseDTO> TrouverToutesLesVoitures() {
         List<VoitureResponseDTO> dto = voitureService.trouverTous();
-        log.info("Afficher liste de véhicules : {} ", dto);
+        log.info("Afficher liste de voitures : {}", ResumeLog.resume(dto, VoitureResponseDTO::id));
         return dto;
     }
 
+    /**
+     * Récupère une page de voitures, triée selon les paramètres fournis.
+     *
+     * @param pageable  Numéro de page, taille et tri (ex : {@code ?page=0&size=20&sort=id,desc}).
+     * @param avecTotal Indique s'il faut calculer le nombre total d'éléments (requête count supplémentaire).
+     * @return Un {@link PageDTO} contenant les voitures de la page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Page de voitures", description = "Récupère une page de voitures, triée et éventuellement accompagnée du total.")
+    @ApiResponse(responseCode = "200", description = "Page trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Paramètres de pagination invalides")
+    public ResponseEntity<PageDTO<List<VoitureResponseDTO>>> trouverPage(@PageableDefault(size = 20, sort = "id") Pageable pageable,
+                                                 @RequestParam(required = false, defaultValue = "false") boolean avecTotal) {
+        PageDTO<List<VoitureResponseDTO>> page = voitureService.trouverPage(pageable, avecTotal);
+        log.info("Afficher la page {} de voitures : {} éléments", page.page(), page.contenu().size());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Récupère les voitures qui suivent le curseur fourni (pagination par clé sur l'identifiant).
+     * Contrairement à la pagination par numéro de page, le coût ne dépend pas de la profondeur de lecture.
+     *
+     * @param curseur Curseur opaque renvoyé par l'appel précédent (absent pour commencer au début).
+     * @param taille  Nombre maximal d'éléments à renvoyer.
+     * @return Un {@link CurseurDTO} contenant les voitures et le curseur suivant.
+     */
+    @GetMapping("/curseur")
+    @Operation(summary = "Parcours de voitures par curseur", description = "Récupère les voitures qui suivent le curseur fourni.")
+    @ApiResponse(responseCode = "200", description = "Portion trouvée avec succès")
+    @ApiResponse(responseCode = "400", description = "Curseur ou taille invalide")
+    public ResponseEntity<CurseurDTO<List<VoitureResponseDTO>>> trouverApresCurseur(@RequestParam(required = false) String curseur,
+                                                            @RequestParam(required = false, defaultValue = "20") int taille) {
+        CurseurDTO<List<VoitureResponseDTO>> curseurDTO = voitureService.trouverApresCurseur(curseur, taille);
+        log.info("Afficher les voitures après curseur : {} éléments", curseurDTO.contenu().size());
+        return ResponseEntity.ok(curseurDTO);
+    }
+
     /**
      * Recherche une voiture en particulier par son identifiant.
      * Cette méthode permet de récupérer les informations d'une voiture spécifiée par son ID.
      * @param id L'identifiant de la voiture à rechercher.
-     * @return La voiture trouvée sous forme de {@link VoitureResponseDTO}.
+     * @return La voiture trouvée sous forme de {@link VoitureResponseDTO}, avec sa version dans l'en-tête {@code ETag}.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Trouve une voiture", description = "Récupère les informations d'une voiture spécifique.")
@@ -59,7 +113,7 @@ public class VoitureController {
     public ResponseEntity<VoitureResponseDTO> trouverUneVoiture(@PathVariable("id") Long id) {
         VoitureResponseDTO trouver = voitureService.trouver(id);
         log.info("Afficher une voiture : {}", trouver);
-        return ResponseEntity.ok(trouver);
+        return ResponseEntity.ok().eTag(Versions.etag(trouver.version())).body(trouver);
     }
 
     /**
@@ -74,7 +128,7 @@ public class VoitureController {
     @ApiResponse(responseCode = "400", description = "Données invalides")
     public ResponseEntity<List<VoitureResponseDTO>> filtrer(@RequestParam Filtre filtre) {
         List<VoitureResponseDTO> voitures = voitureService.filtrer(filtre);
-        log.info("Filtrer les voitures : {}", voitures);
+        log.info("Filtrer les voitures : {}", ResumeLog.resume(voitures, VoitureResponseDTO::id));
         return ResponseEntity.ok(voitures);
     }
 
@@ -99,6 +153,41 @@ public class VoitureController {
         return ResponseEntity.created(location).build();
     }
 
+    /**
+     * Importe un lot de voitures au format JSON (tableau de VoitureRequestDTO).
+     * Les lignes invalides sont rapportées avec leurs violations, sans empêcher l'import des autres.
+     * @param voitures Les voitures à importer.
+     * @return Un {@link RapportImportDTO} indiquant le nombre de voitures importées et les lignes rejetées.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Importer des voitures", description = "Ajoute un lot de voitures (tableau JSON) dans le parc.")
+    @ApiResponse(responseCode = "200", description = "Import effectué, éventuellement avec des lignes rejetées")
+    @ApiResponse(responseCode = "400", description = "Données invalides")
+    public ResponseEntity<RapportImportDTO> importer(@RequestBody List<VoitureRequestDTO> voitures) {
+        RapportImportDTO rapport = voitureService.importer(LigneImport.numeroter(voitures));
+        log.info("Importer des voitures : {} importées, {} rejetées", rapport.nbImportes(), rapport.erreurs().size());
+        return ResponseEntity.ok(rapport);
+    }
+
+    /**
+     * Importe un lot de voitures depuis un fichier CSV dont l'en-tête reprend les champs de VoitureRequestDTO.
+     * @param fichier Le fichier CSV (UTF-8).
+     * @return Un {@link RapportImportDTO} indiquant le nombre de voitures importées et les lignes rejetées.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importer des voitures (CSV)", description = "Ajoute un lot de voitures (fichier CSV) dans le parc.")
+    @ApiResponse(responseCode = "200", description = "Import effectué, éventuellement avec des lignes rejetées")
+    @ApiResponse(responseCode = "400", description = "En-tête du fichier invalide")
+    public ResponseEntity<RapportImportDTO> importerCsv(@RequestParam("fichier") MultipartFile fichier) throws IOException {
+        List<LigneImport<VoitureRequestDTO>> lignes;
+        try (InputStream entree = fichier.getInputStream()) {
+            lignes = LecteurImport.lireCsv(entree, VoitureRequestDTO.class, objectMapper);
+        }
+        RapportImportDTO rapport = voitureService.importer(lignes);
+        log.info("Importer des voitures (CSV) : {} importées, {} rejetées", rapport.nbImportes(), rapport.erreurs().size());
+        return ResponseEntity.ok(rapport);
+    }
+
     /**
      * Supprime une voiture du parc.
      * Cette méthode permet de supprimer une voiture spécifiée par son ID du parc.
@@ -120,16 +209,20 @@ public class VoitureController {
      * Cette méthode permet de modifier les données d'une voiture existante, soit partiellement, soit complètement.
      * @param id L'identifiant de la voiture à modifier.
      * @param voitureRequestDTO Les données de la voiture à modifier.
-     * @return La voiture modifiée sous forme de {@link VoitureResponseDTO}.
+     * @param ifMatch L'ETag de la version lue par le client ; absent, la modification n'est pas conditionnée.
+     * @return La voiture modifiée sous forme de {@link VoitureResponseDTO}, avec sa nouvelle version dans l'en-tête {@code ETag}.
      */
     @PatchMapping("/{id}")
     @Operation(summary = "Modifier complètement ou partiellement une voiture", description = "Modifie une voiture dans le parc.")
     @ApiResponse(responseCode = "200", description = "Voiture modifiée avec succès")
     @ApiResponse(responseCode = "400", description = "Données invalides")
-    public ResponseEntity<VoitureResponseDTO> modifier(@PathVariable("id") Long id, @RequestBody VoitureRequestDTO voitureRequestDTO) {
-        VoitureResponseDTO reponse = voitureService.modifier(id, voitureRequestDTO);
+    @ApiResponse(responseCode = "409", description = "Voiture modifiée simultanément par une autre requête")
+    @ApiResponse(responseCode = "412", description = "La version de l'en-tête If-Match n'est plus la version courante")
+    public ResponseEntity<VoitureResponseDTO> modifier(@PathVariable("id") Long id, @RequestBody VoitureRequestDTO voitureRequestDTO,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        VoitureResponseDTO reponse = voitureService.modifier(id, Versions.versionAttendue(ifMatch), voitureRequestDTO);
         log.info("Modifier une voiture : {}", reponse);
-        return ResponseEntity.ok(reponse);
+        return ResponseEntity.ok().eTag(Versions.etag(reponse.version())).body(reponse);
     }
 
 }
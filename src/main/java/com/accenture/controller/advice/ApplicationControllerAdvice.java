@@ -3,10 +3,20 @@ import com.accenture.exception.MotoException;
 import com.accenture.exception.VoitureException;
 import com.accenture.repository.entity.vehicules.Moto;
 import com.accenture.shared.ErreurReponse;
+import com.accenture.exception.AccesRefuseException;
 import com.accenture.exception.AdministrateurException;
+import com.accenture.exception.AuthentificationException;
+import com.accenture.exception.AuthentificationSatureeException;
 import com.accenture.exception.ClientException;
+import com.accenture.exception.LocationException;
+import com.accenture.exception.ReservationConflitException;
+import com.accenture.exception.VersionObsoleteException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,11 +29,19 @@ import java.time.LocalDateTime;
 public class ApplicationControllerAdvice {
 
     public static final String ERREUR_FONCTIONNELLE = "Erreur fonctionnelle ";
+    public static final String COMPTEUR_ERREURS = "location.http.erreurs";
+
+    private final MeterRegistry registry;
+
+    public ApplicationControllerAdvice(MeterRegistry registry) {
+        this.registry = registry;
+    }
 
     @ExceptionHandler(ClientException.class)
     public ResponseEntity<ErreurReponse> gestionClientException(ClientException ex) {
-        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage());
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage(), ex.getViolations());
         log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
     }
 
@@ -31,28 +49,113 @@ public class ApplicationControllerAdvice {
     public ResponseEntity<ErreurReponse> entityNotFoundException(EntityNotFoundException ex) {
         ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Mauvaise requête ", ex.getMessage());
         log.error(er.message());
+        compter(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(er);
     }
 
     @ExceptionHandler(AdministrateurException.class)
     public ResponseEntity<ErreurReponse> gestionAdminException(AdministrateurException ex) {
-        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage());
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage(), ex.getViolations());
         log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
     }
 
     @ExceptionHandler(VoitureException.class)
     public ResponseEntity<ErreurReponse> gestionVoitureException(VoitureException ex) {
-        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage());
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage(), ex.getViolations());
         log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
     }
 
     @ExceptionHandler (MotoException.class)
     public ResponseEntity<ErreurReponse> gestionMotoException(MotoException ex) {
-        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage());
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage(), ex.getViolations());
+        log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
+    }
+
+    @ExceptionHandler(LocationException.class)
+    public ResponseEntity<ErreurReponse> gestionLocationException(LocationException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), ERREUR_FONCTIONNELLE, ex.getMessage(), ex.getViolations());
+        log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
+    }
+
+    @ExceptionHandler(ReservationConflitException.class)
+    public ResponseEntity<ErreurReponse> gestionReservationConflit(ReservationConflitException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Conflit ", ex.getMessage());
+        log.warn(er.message());
+        compter(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(er);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErreurReponse> gestionModificationConcurrente(OptimisticLockingFailureException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Conflit ", "La ressource a été modifiée simultanément par une autre requête, veuillez la relire");
+        log.warn("{} : {}", er.message(), ex.getMessage());
+        compter(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(er);
+    }
+
+    @ExceptionHandler(VersionObsoleteException.class)
+    public ResponseEntity<ErreurReponse> gestionVersionObsolete(VersionObsoleteException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Précondition non remplie ", ex.getMessage());
+        log.warn(er.message());
+        compter(ex, HttpStatus.PRECONDITION_FAILED);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(er);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErreurReponse> gestionIllegalArgumentException(IllegalArgumentException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Mauvaise requête ", ex.getMessage());
         log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
     }
 
+    @ExceptionHandler(PropertyReferenceException.class)
+    public ResponseEntity<ErreurReponse> gestionTriInconnu(PropertyReferenceException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Mauvaise requête ", ex.getMessage());
+        log.error(er.message());
+        compter(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(er);
+    }
+
+    @ExceptionHandler(AuthentificationSatureeException.class)
+    public ResponseEntity<ErreurReponse> gestionAuthentificationSaturee(AuthentificationSatureeException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Service indisponible ", ex.getMessage());
+        log.warn(er.message());
+        compter(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(er);
+    }
+
+    @ExceptionHandler(AuthentificationException.class)
+    public ResponseEntity<ErreurReponse> gestionAuthentification(AuthentificationException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Non authentifié ", ex.getMessage());
+        log.error(er.message());
+        compter(ex, HttpStatus.UNAUTHORIZED);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).header(HttpHeaders.WWW_AUTHENTICATE, "Bearer").body(er);
+    }
+
+    @ExceptionHandler(AccesRefuseException.class)
+    public ResponseEntity<ErreurReponse> gestionAccesRefuse(AccesRefuseException ex) {
+        ErreurReponse er = new ErreurReponse(LocalDateTime.now(), "Accès refusé ", ex.getMessage());
+        log.error(er.message());
+        compter(ex, HttpStatus.FORBIDDEN);
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(er);
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private void compter(Exception ex, HttpStatus statut) {
+        registry.counter(COMPTEUR_ERREURS, "exception", ex.getClass().getSimpleName(), "statut", String.valueOf(statut.value())).increment();
+    }
 }
@@ -0,0 +1,7 @@
+package com.accenture.exception;
+
+public class AccesRefuseException extends RuntimeException {
+    public AccesRefuseException(String message) {
+        super(message);
+    }
+}
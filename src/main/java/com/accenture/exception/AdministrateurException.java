@@ -1,7 +1,13 @@
 package com.accenture.exception;
 
-public class AdministrateurException extends RuntimeException {
+import java.util.List;
+
+public class AdministrateurException extends ViolationsException {
     public AdministrateurException(String message) {
         super(message);
     }
+
+    public AdministrateurException(List<String> violations) {
+        super(violations);
+    }
 }
@@ -0,0 +1,7 @@
+package com.accenture.exception;
+
+public class AuthentificationException extends RuntimeException {
+    public AuthentificationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.accenture.exception;
+
+public class AuthentificationSatureeException extends RuntimeException {
+    public AuthentificationSatureeException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,13 @@
 package com.accenture.exception;
 
-public class ClientException extends RuntimeException {
+import java.util.List;
+
+public class ClientException extends ViolationsException {
     public ClientException(String message) {
         super(message);
     }
+
+    public ClientException(List<String> violations) {
+        super(violations);
+    }
 }
@@ -0,0 +1,13 @@
+package com.accenture.exception;
+
+import java.util.List;
+
+public class LocationException extends ViolationsException {
+    public LocationException(String message) {
+        super(message);
+    }
+
+    public LocationException(List<String> violations) {
+        super(violations);
+    }
+}
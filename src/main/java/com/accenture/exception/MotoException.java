@@ -1,7 +1,13 @@
 package com.accenture.exception;
 
-public class MotoException extends RuntimeException {
+import java.util.List;
+
+public class MotoException extends ViolationsException {
     public MotoException(String message) {
         super(message);
     }
+
+    public MotoException(List<String> violations) {
+        super(violations);
+    }
 }
@@ -0,0 +1,7 @@
+package com.accenture.exception;
+
+public class ReservationConflitException extends RuntimeException {
+    public ReservationConflitException(String message) {
+        super(message);
+    }
+}
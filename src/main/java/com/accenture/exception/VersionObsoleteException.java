@@ -0,0 +1,7 @@
+package com.accenture.exception;
+
+public class VersionObsoleteException extends RuntimeException {
+    public VersionObsoleteException(String message) {
+        super(message);
+    }
+}
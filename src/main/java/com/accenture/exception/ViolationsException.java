@@ -0,0 +1,25 @@
+package com.accenture.exception;
+
+import java.util.List;
+
+/**
+ * Exception fonctionnelle portant une ou plusieurs violations de règles de validation.
+ */
+public class ViolationsException extends RuntimeException {
+
+    private final List<String> violations;
+
+    public ViolationsException(String message) {
+        super(message);
+        this.violations = List.of(message);
+    }
+
+    public ViolationsException(List<String> violations) {
+        super(String.join(" ; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
@@ -1,7 +1,13 @@
 package com.accenture.exception;
 
-public class VoitureException extends RuntimeException {
+import java.util.List;
+
+public class VoitureException extends ViolationsException {
     public VoitureException(String message) {
         super(message);
     }
+
+    public VoitureException(List<String> violations) {
+        super(violations);
+    }
 }
@@ -1,10 +1,16 @@
 package com.accenture.repository;
 
 import com.accenture.repository.entity.utilisateurs.Administrateur;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AdministrateurDAO extends JpaRepository<Administrateur, Long> {
+    Slice<Administrateur> findAllBy(Pageable pageable);
+    List<Administrateur> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
     Optional<Administrateur> findByLogin(String login);
 }
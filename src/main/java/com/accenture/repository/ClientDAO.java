@@ -1,10 +1,51 @@
 package com.accenture.repository;
 
 import com.accenture.repository.entity.utilisateurs.Client;
+import com.accenture.service.dto.utilisateurs.ClientExportDTO;
+import com.accenture.service.dto.utilisateurs.ClientResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ClientDAO extends JpaRepository<Client, Long> {
+    Slice<Client> findAllBy(Pageable pageable);
+    List<Client> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
     Optional<Client> findByLogin(String login);
+
+    /**
+     * Récupère tous les clients directement sous forme de {@link ClientResponseDTO}, sans charger les entités.
+     *
+     * @return la liste des clients.
+     */
+    @Query("""
+            SELECT new com.accenture.service.dto.utilisateurs.ClientResponseDTO(c.id, c.nom, c.prenom, c.login,
+                a.rue, a.codePostal, a.ville, c.dateNaissance, c.permis, c.dateInscription, c.version)
+            FROM Client c
+            LEFT JOIN c.adresse a
+            """)
+    List<ClientResponseDTO> trouverTousDTO();
+
+    /**
+     * Parcourt tous les clients sous forme de flux de projections (sans mot de passe), lus par lots côté base.
+     * Doit être consommé dans une transaction et fermé après usage.
+     *
+     * @return un {@link Stream} de {@link ClientExportDTO}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.accenture.service.dto.utilisateurs.ClientExportDTO(c.id, c.nom, c.prenom, c.login,
+                c.dateNaissance, c.dateInscription, c.permis, c.desactive, a.rue, a.codePostal, a.ville)
+            FROM Client c
+            LEFT JOIN c.adresse a
+            """)
+    Stream<ClientExportDTO> exporterTous();
 }
@@ -0,0 +1,64 @@
+package com.accenture.repository;
+
+import com.accenture.repository.entity.vehicules.KilometrageMensuel;
+import com.accenture.repository.entity.vehicules.KilometrageMensuelId;
+import com.accenture.service.dto.vehicules.KilometrageMensuelDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface KilometrageMensuelDAO extends JpaRepository<KilometrageMensuel, KilometrageMensuelId> {
+
+    /**
+     * Sélection commune des projections {@link KilometrageMensuelDTO}.
+     */
+    String SELECT_DTO = """
+            SELECT new com.accenture.service.dto.vehicules.KilometrageMensuelDTO(k.id.vehiculeId, k.id.mois, k.km, k.nbLocations)
+            FROM KilometrageMensuel k
+            """;
+
+    @Query(SELECT_DTO + "WHERE k.id.vehiculeId = :vehiculeId ORDER BY k.id.mois")
+    List<KilometrageMensuelDTO> trouverParVehicule(@Param("vehiculeId") long vehiculeId);
+
+    @Query(SELECT_DTO + "WHERE k.id.mois = :mois ORDER BY k.id.vehiculeId")
+    List<KilometrageMensuelDTO> trouverParMois(@Param("mois") LocalDate mois);
+
+    /**
+     * Ajoute aux cumuls mensuels les kilomètres des locations données (mois de la date de fin), en une seule requête.
+     *
+     * @param locationIds identifiants des locations clôturées.
+     * @return le nombre de lignes (véhicule, mois) mises à jour.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO kilometrage_mensuel (vehicule_id, mois, km, nb_locations)
+            SELECT vehicule_id, CAST(date_trunc('month', date_fin) AS date), SUM(km_parcourus), COUNT(*)
+            FROM location
+            WHERE id IN (:locationIds) AND km_parcourus IS NOT NULL AND vehicule_id IS NOT NULL
+            GROUP BY 1, 2
+            ON CONFLICT (vehicule_id, mois) DO UPDATE
+            SET km = kilometrage_mensuel.km + EXCLUDED.km,
+                nb_locations = kilometrage_mensuel.nb_locations + EXCLUDED.nb_locations
+            """, nativeQuery = true)
+    int cumuler(@Param("locationIds") List<Long> locationIds);
+
+    /**
+     * Recalcule tous les cumuls mensuels à partir des locations dans l'état donné (table préalablement vidée).
+     *
+     * @param etat nom de {@link com.accenture.shared.enumerations.EtatLocation#CLOTUREE}.
+     * @return le nombre de lignes (véhicule, mois).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO kilometrage_mensuel (vehicule_id, mois, km, nb_locations)
+            SELECT vehicule_id, CAST(date_trunc('month', date_fin) AS date), SUM(km_parcourus), COUNT(*)
+            FROM location
+            WHERE etat_location = :etat AND km_parcourus IS NOT NULL AND vehicule_id IS NOT NULL
+            GROUP BY 1, 2
+            """, nativeQuery = true)
+    int recalculer(@Param("etat") String etat);
+}
@@ -0,0 +1,48 @@
+package com.accenture.repository;
+
+import com.accenture.repository.entity.vehicules.KilometrageVehicule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface KilometrageVehiculeDAO extends JpaRepository<KilometrageVehicule, Long> {
+
+    /**
+     * Ajoute aux cumuls des véhicules les kilomètres des locations données, en une seule requête
+     * (une ligne est créée pour un véhicule sans cumul).
+     *
+     * @param locationIds identifiants des locations clôturées.
+     * @return le nombre de véhicules mis à jour.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO kilometrage_vehicule (vehicule_id, km_total, nb_locations)
+            SELECT vehicule_id, SUM(km_parcourus), COUNT(*)
+            FROM location
+            WHERE id IN (:locationIds) AND km_parcourus IS NOT NULL AND vehicule_id IS NOT NULL
+            GROUP BY vehicule_id
+            ON CONFLICT (vehicule_id) DO UPDATE
+            SET km_total = kilometrage_vehicule.km_total + EXCLUDED.km_total,
+                nb_locations = kilometrage_vehicule.nb_locations + EXCLUDED.nb_locations
+            """, nativeQuery = true)
+    int cumuler(@Param("locationIds") List<Long> locationIds);
+
+    /**
+     * Recalcule tous les cumuls à partir des locations dans l'état donné (table préalablement vidée).
+     *
+     * @param etat nom de {@link com.accenture.shared.enumerations.EtatLocation#CLOTUREE}.
+     * @return le nombre de véhicules.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO kilometrage_vehicule (vehicule_id, km_total, nb_locations)
+            SELECT vehicule_id, SUM(km_parcourus), COUNT(*)
+            FROM location
+            WHERE etat_location = :etat AND km_parcourus IS NOT NULL AND vehicule_id IS NOT NULL
+            GROUP BY vehicule_id
+            """, nativeQuery = true)
+    int recalculer(@Param("etat") String etat);
+}
@@ -1,8 +1,126 @@
 package com.accenture.repository;
 
 import com.accenture.repository.entity.utilisateurs.Location;
+import com.accenture.service.dto.LocationExportDTO;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface LocationDAO extends JpaRepository<Location, Integer> {
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
 
+public interface LocationDAO extends JpaRepository<Location, Long> {
+
+    /**
+     * Récupère toutes les locations avec leur client (et son adresse) et leur véhicule en une seule requête
+     * (graphe {@link Location#GRAPHE_COMPLET}), au lieu d'une requête supplémentaire par client et par véhicule.
+     *
+     * @return la liste de toutes les locations.
+     */
+    @Override
+    @EntityGraph(Location.GRAPHE_COMPLET)
+    List<Location> findAll();
+
+    /**
+     * Récupère uniquement les périodes de location (sans client ni véhicule complet).
+     * Les locations annulées ne bloquent plus le véhicule et sont ignorées.
+     *
+     * @return la liste des périodes de toutes les locations.
+     */
+    @Query("""
+            SELECT new com.accenture.service.dto.PeriodeLocationDTO(l.id, l.vehicule.id, l.dateDebut, l.dateFin)
+            FROM Location l
+            WHERE l.vehicule IS NOT NULL
+            AND l.etatLocation IS DISTINCT FROM com.accenture.shared.enumerations.EtatLocation.ANNULEE
+            """)
+    List<PeriodeLocationDTO> trouverToutesLesPeriodes();
+
+    /**
+     * Récupère les périodes des locations non annulées qui chevauchent l'intervalle [dateDebut, dateFin[.
+     *
+     * @param dateDebut début de l'intervalle.
+     * @param dateFin   fin de l'intervalle.
+     * @return la liste des périodes concernées.
+     */
+    @Query("""
+            SELECT new com.accenture.service.dto.PeriodeLocationDTO(l.id, l.vehicule.id, l.dateDebut, l.dateFin)
+            FROM Location l
+            WHERE l.vehicule IS NOT NULL
+            AND l.etatLocation IS DISTINCT FROM com.accenture.shared.enumerations.EtatLocation.ANNULEE
+            AND l.dateDebut < :dateFin
+            AND l.dateFin > :dateDebut
+            """)
+    List<PeriodeLocationDTO> trouverPeriodesEntre(@Param("dateDebut") LocalDate dateDebut, @Param("dateFin") LocalDate dateFin);
+
+    /**
+     * Indique si le véhicule a déjà une location non annulée qui chevauche l'intervalle [dateDebut, dateFin[.
+     *
+     * @param vehiculeId identifiant du véhicule.
+     * @param dateDebut  début de l'intervalle.
+     * @param dateFin    fin de l'intervalle.
+     * @return {@code true} si au moins une location chevauche l'intervalle.
+     */
+    @Query("""
+            SELECT COUNT(l) > 0
+            FROM Location l
+            WHERE l.vehicule.id = :vehiculeId
+            AND l.etatLocation IS DISTINCT FROM com.accenture.shared.enumerations.EtatLocation.ANNULEE
+            AND l.dateDebut < :dateFin
+            AND l.dateFin > :dateDebut
+            """)
+    boolean existeChevauchement(@Param("vehiculeId") long vehiculeId, @Param("dateDebut") LocalDate dateDebut, @Param("dateFin") LocalDate dateFin);
+
+    /**
+     * Parcourt toutes les locations sous forme de flux de projections (identifiants du client et du véhicule
+     * uniquement), lus par lots côté base. Doit être consommé dans une transaction et fermé après usage.
+     *
+     * @return un {@link Stream} de {@link LocationExportDTO}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.accenture.service.dto.LocationExportDTO(l.id, c.id, v.id, l.dateDebut, l.dateFin,
+                l.kmParcourus, l.dateValidation, l.etatLocation)
+            FROM Location l
+            LEFT JOIN l.client c
+            LEFT JOIN l.vehicule v
+            """)
+    Stream<LocationExportDTO> exporterTous();
+
+    /**
+     * Verrouille un lot de locations dans l'état donné et commencées au plus tard le jour donné.
+     * Les lignes déjà verrouillées (modification en cours, autre instance du traitement) sont ignorées
+     * et seront traitées au passage suivant.
+     *
+     * @param etat  nom de l'{@link com.accenture.shared.enumerations.EtatLocation} source.
+     * @param jour  date de référence du traitement.
+     * @param taille nombre maximal de locations du lot.
+     * @return les identifiants des locations verrouillées, jusqu'à la fin de la transaction.
+     */
+    @Query(value = """
+            SELECT id FROM location
+            WHERE etat_location = :etat AND date_debut <= :jour
+            ORDER BY id
+            LIMIT :taille
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> verrouillerLot(@Param("etat") String etat, @Param("jour") LocalDate jour, @Param("taille") int taille);
+
+    /**
+     * Fait passer un lot de locations à un nouvel état en une seule requête, sans les charger.
+     * La version est incrémentée pour qu'une modification concurrente par JPA échoue (verrouillage optimiste).
+     *
+     * @param ids  identifiants des locations.
+     * @param etat nom de l'{@link com.accenture.shared.enumerations.EtatLocation} cible.
+     * @return le nombre de locations modifiées.
+     */
+    @Modifying
+    @Query(value = "UPDATE location SET etat_location = :etat, version = version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int changerEtat(@Param("ids") List<Long> ids, @Param("etat") String etat);
 }
@@ -1,6 +1,80 @@
 package com.accenture.repository;
 import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.service.dto.vehicules.MotoResponseDTO;
+import com.accenture.shared.enumerations.Type;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface MotoDAO extends JpaRepository<Moto, Long> {
+
+    /**
+     * Sélection commune des projections {@link MotoResponseDTO} : les colonnes sont lues directement
+     * dans le DTO, sans entité gérée ni copie de suivi des modifications.
+     * Les requêtes du catalogue sont mises en cache (région "catalogue") lorsque le profil "cache" est actif :
+     * Hibernate invalide leurs résultats dès qu'une écriture touche les tables des véhicules.
+     */
+    String SELECT_DTO = """
+            SELECT new com.accenture.service.dto.vehicules.MotoResponseDTO(CAST(m.id AS Integer), m.marque, m.modele,
+                m.couleur, m.nbrCylindres, m.cylindree, m.poids, m.puissance, m.hauteurSelle, m.type, m.transmission,
+                m.permis, m.tarifJournee, m.kilometrage, m.actif, m.retireDuParc, m.version)
+            FROM Moto m
+            """;
+
+    Slice<Moto> findAllBy(Pageable pageable);
+    List<Moto> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalogue")
+    })
+    @Query(SELECT_DTO)
+    List<MotoResponseDTO> trouverTousDTO();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalogue")
+    })
+    @Query(SELECT_DTO + "WHERE m.actif = :actif")
+    List<MotoResponseDTO> trouverDTOParActif(@Param("actif") Boolean actif);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalogue")
+    })
+    @Query(SELECT_DTO + "WHERE m.retireDuParc = :retireDuParc")
+    List<MotoResponseDTO> trouverDTOParRetireDuParc(@Param("retireDuParc") Boolean retireDuParc);
+
+    /**
+     * Recherche les motos sans location non annulée chevauchant la période demandée.
+     * La requête porte directement sur la sous-classe : seules les tables VEHICULE et MOTOS sont lues,
+     * sans la jointure externe sur l'autre sous-table qu'impose une requête polymorphe sur Vehicule.
+     *
+     * @param dateDebut date de début de la période.
+     * @param dateFin   date de fin de la période.
+     * @param type      type de véhicule recherché, ou {@code null} pour tous les types.
+     * @return la liste des motos disponibles.
+     */
+    @Query("""
+            SELECT m FROM Moto m
+            WHERE (:type IS NULL OR m.type = :type)
+            AND NOT EXISTS (
+                SELECT 1 FROM Location l
+                WHERE l.vehicule.id = m.id
+                AND l.dateDebut < :dateFin
+                AND l.dateFin > :dateDebut
+                AND l.etatLocation IS DISTINCT FROM com.accenture.shared.enumerations.EtatLocation.ANNULEE)
+            """)
+    List<Moto> trouverDisponibles(@Param("dateDebut") LocalDate dateDebut,
+                                 @Param("dateFin") LocalDate dateFin,
+                                 @Param("type") Type type);
 }
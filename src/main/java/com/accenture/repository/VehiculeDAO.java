@@ -1,6 +1,109 @@
 package com.accenture.repository;
+
 import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.Type;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface VehiculeDAO extends JpaRepository<Vehicule, Long> {
+
+    Slice<Vehicule> findAllBy(Pageable pageable);
+
+    List<Vehicule> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Recherche les véhicules qui n'ont aucune location non annulée chevauchant la période demandée.
+     * Le chevauchement est calculé côté base (anti-jointure) afin que seuls les véhicules disponibles soient chargés.
+     *
+     * @param dateDebut       date de début de la période.
+     * @param dateFin         date de fin de la période.
+     * @param type            type de véhicule recherché, ou {@code null} pour tous les types.
+     * @param inclureMotos    {@code true} pour inclure les motos.
+     * @param inclureVoitures {@code true} pour inclure les voitures.
+     * @return la liste des véhicules disponibles.
+     */
+    @Query("""
+            SELECT v FROM Vehicule v
+            WHERE (:type IS NULL OR v.type = :type)
+            AND ((:inclureMotos = true AND TYPE(v) = Moto) OR (:inclureVoitures = true AND TYPE(v) = Voiture))
+            AND NOT EXISTS (
+                SELECT 1 FROM Location l
+                WHERE l.vehicule = v
+                AND l.dateDebut < :dateFin
+                AND l.dateFin > :dateDebut
+                AND l.etatLocation IS DISTINCT FROM com.accenture.shared.enumerations.EtatLocation.ANNULEE)
+            """)
+    List<Vehicule> trouverDisponibles(@Param("dateDebut") LocalDate dateDebut,
+                                      @Param("dateFin") LocalDate dateFin,
+                                      @Param("type") Type type,
+                                      @Param("inclureMotos") boolean inclureMotos,
+                                      @Param("inclureVoitures") boolean inclureVoitures);
+
+    /**
+     * Récupère l'identifiant, le type, la catégorie (moto ou voiture) et le statut de tous les véhicules.
+     *
+     * @return la liste des véhicules sous forme de projection légère.
+     */
+    @Query("""
+            SELECT new com.accenture.service.dto.vehicules.VehiculeIndexeDTO(
+                v.id, v.type, CASE WHEN TYPE(v) = Moto THEN true ELSE false END, v.actif, v.retireDuParc)
+            FROM Vehicule v
+            """)
+    List<VehiculeIndexeDTO> trouverTousIndexes();
+
+    /**
+     * Verrouille la ligne du véhicule jusqu'à la fin de la transaction, afin que les réservations d'un même véhicule
+     * soient traitées l'une après l'autre sans bloquer celles des autres véhicules.
+     * {@code FOR NO KEY UPDATE} n'entre pas en conflit avec le verrou posé par la clé étrangère d'une location insérée.
+     *
+     * @param id identifiant du véhicule.
+     * @return l'identifiant du véhicule verrouillé, ou {@link Optional#empty()} s'il n'existe pas.
+     */
+    @Query(value = "SELECT id FROM vehicule WHERE id = :id FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<Long> verrouiller(@Param("id") long id);
+
+    /**
+     * Ajoute au kilométrage de chaque véhicule les kilomètres parcourus lors des locations données, en une seule
+     * requête (plusieurs locations d'un même véhicule sont additionnées).
+     *
+     * @param locationIds identifiants des locations rendues.
+     * @return le nombre de véhicules mis à jour.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE vehicule v SET kilometrage = v.kilometrage + k.km, version = v.version + 1
+            FROM (SELECT vehicule_id, SUM(km_parcourus) AS km
+                  FROM location
+                  WHERE id IN (:locationIds) AND km_parcourus IS NOT NULL
+                  GROUP BY vehicule_id) k
+            WHERE v.id = k.vehicule_id
+            """, nativeQuery = true)
+    int ajouterKilometrage(@Param("locationIds") List<Long> locationIds);
+
+    /**
+     * Parcourt tous les véhicules sous forme de flux, lus par lots côté base (fetch size) et en lecture seule.
+     * Doit être consommé dans une transaction et fermé après usage.
+     *
+     * @return un {@link Stream} de tous les véhicules.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT v FROM Vehicule v")
+    Stream<Vehicule> exporterTous();
 }
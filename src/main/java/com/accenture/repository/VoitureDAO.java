@@ -1,6 +1,80 @@
 package com.accenture.repository;
 import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.dto.vehicules.VoitureResponseDTO;
+import com.accenture.shared.enumerations.Type;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface VoitureDAO extends JpaRepository<Voiture, Long> {
+
+    /**
+     * Sélection commune des projections {@link VoitureResponseDTO} : les colonnes sont lues directement
+     * dans le DTO, sans entité gérée ni copie de suivi des modifications.
+     * Les requêtes du catalogue sont mises en cache (région "catalogue") lorsque le profil "cache" est actif :
+     * Hibernate invalide leurs résultats dès qu'une écriture touche les tables des véhicules.
+     */
+    String SELECT_DTO = """
+            SELECT new com.accenture.service.dto.vehicules.VoitureResponseDTO(CAST(v.id AS Integer), v.marque, v.modele,
+                v.couleur, v.type, v.nbrPlaces, v.carburant, v.nbrPortes, v.clim, v.transmission, v.bagages, v.permis,
+                v.tarifJournee, v.kilometrage, v.actif, v.retireDuParc, v.version)
+            FROM Voiture v
+            """;
+
+    Slice<Voiture> findAllBy(Pageable pageable);
+    List<Voiture> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalogue")
+    })
+    @Query(SELECT_DTO)
+    List<VoitureResponseDTO> trouverTousDTO();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalogue")
+    })
+    @Query(SELECT_DTO + "WHERE v.actif = :actif")
+    List<VoitureResponseDTO> trouverDTOParActif(@Param("actif") Boolean actif);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalogue")
+    })
+    @Query(SELECT_DTO + "WHERE v.retireDuParc = :retireDuParc")
+    List<VoitureResponseDTO> trouverDTOParRetireDuParc(@Param("retireDuParc") Boolean retireDuParc);
+
+    /**
+     * Recherche les voitures sans location non annulée chevauchant la période demandée.
+     * La requête porte directement sur la sous-classe : seules les tables VEHICULE et VOITURES sont lues,
+     * sans la jointure externe sur l'autre sous-table qu'impose une requête polymorphe sur Vehicule.
+     *
+     * @param dateDebut date de début de la période.
+     * @param dateFin   date de fin de la période.
+     * @param type      type de véhicule recherché, ou {@code null} pour tous les types.
+     * @return la liste des voitures disponibles.
+     */
+    @Query("""
+            SELECT v FROM Voiture v
+            WHERE (:type IS NULL OR v.type = :type)
+            AND NOT EXISTS (
+                SELECT 1 FROM Location l
+                WHERE l.vehicule.id = v.id
+                AND l.dateDebut < :dateFin
+                AND l.dateFin > :dateDebut
+                AND l.etatLocation IS DISTINCT FROM com.accenture.shared.enumerations.EtatLocation.ANNULEE)
+            """)
+    List<Voiture> trouverDisponibles(@Param("dateDebut") LocalDate dateDebut,
+                                 @Param("dateFin") LocalDate dateFin,
+                                 @Param("type") Type type);
 }
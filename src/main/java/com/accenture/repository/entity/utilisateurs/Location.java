@@ -1,38 +1,60 @@
 package com.accenture.repository.entity.utilisateurs;
 
 import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.service.disponibilite.DisponibiliteListener;
 import com.accenture.shared.enumerations.EtatLocation;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 
 /**
  *  Représente une location de véhicule effectuée par un client.
  *  Cette entité est mappée à la table "LOCATION" dans la base de données.
+ *  L'index composite (vehicule_id, date_debut, date_fin) sert la recherche de disponibilité.
+ *  Le client et le véhicule sont chargés à la demande ; le graphe {@value #GRAPHE_COMPLET} les charge
+ *  (avec l'adresse du client) dans la même requête lorsqu'ils sont nécessaires.
+ *  La colonne {@code version} assure le verrouillage optimiste des changements d'état.
  */
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "LOCATION")
+@EntityListeners(DisponibiliteListener.class)
+@NamedEntityGraph(name = Location.GRAPHE_COMPLET, attributeNodes = {
+        @NamedAttributeNode(value = "client", subgraph = "client"),
+        @NamedAttributeNode("vehicule")
+}, subgraphs = @NamedSubgraph(name = "client", attributeNodes = @NamedAttributeNode("adresse")))
+@Table(name = "LOCATION", indexes = @Index(name = "idx_location_vehicule_dates", columnList = "vehicule_id, date_debut, date_fin"))
 public class Location {
 
+    public static final String GRAPHE_COMPLET = "Location.complete";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Client client;
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Vehicule vehicule;
     private LocalDate dateDebut;
     private LocalDate dateFin;
-    private String kmParcourus;
+    private Integer kmParcourus;
     private LocalDate dateValidation;
+    @Enumerated(EnumType.STRING)
     private EtatLocation etatLocation;
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 
 
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
  * Classe abstraite représentant un utilisateur connecté.
  * Cette entité utilise la stratégie d'héritage de type {@code InheritanceType.JOINED},
  * permettant aux classes dérivées de stocker leurs propres attributs tout en partageant une clé primaire unique.
+ * La colonne {@code version} assure le verrouillage optimiste des modifications de compte.
  */
 
 
@@ -33,5 +34,8 @@ public abstract class UtilisateurConnecte {
     private String password;
     private String nom;
     private String prenom;
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 
 }
@@ -0,0 +1,26 @@
+package com.accenture.repository.entity.vehicules;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kilomètres parcourus en location par un véhicule sur un mois (mois de fin de la location),
+ * tenus à jour à chaque clôture de location.
+ */
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "KILOMETRAGE_MENSUEL")
+public class KilometrageMensuel {
+
+    @EmbeddedId
+    private KilometrageMensuelId id;
+    private long km;
+    private long nbLocations;
+}
@@ -0,0 +1,23 @@
+package com.accenture.repository.entity.vehicules;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Clé de {@link KilometrageMensuel} : le véhicule et le premier jour du mois.
+ */
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class KilometrageMensuelId implements Serializable {
+
+    private long vehiculeId;
+    private LocalDate mois;
+}
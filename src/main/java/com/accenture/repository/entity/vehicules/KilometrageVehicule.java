@@ -0,0 +1,27 @@
+package com.accenture.repository.entity.vehicules;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cumul des kilomètres parcourus en location par un véhicule, tenu à jour à chaque clôture de location
+ * (cf. {@link com.accenture.service.kilometrage.KilometrageFlotte}) : les tableaux de bord de maintenance
+ * lisent cette table au lieu de parcourir toutes les locations.
+ */
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "KILOMETRAGE_VEHICULE")
+public class KilometrageVehicule {
+
+    @Id
+    private long vehiculeId;
+    private long kmTotal;
+    private long nbLocations;
+}
@@ -1,7 +1,10 @@
 package com.accenture.repository.entity.vehicules;
 
+import com.accenture.service.disponibilite.DisponibiliteListener;
 import com.accenture.shared.enumerations.Type;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,6 +17,12 @@ import lombok.NoArgsConstructor;
  * définies ici.
  * Les sous-classes de {@code Vehicule} hériteront des propriétés et comportements communs tout en étant
  * stockées dans leurs propres tables, selon la stratégie d'héritage "JOINED".
+ * Les véhicules (et leurs sous-classes) sont placés dans la région "vehicules" du cache de second niveau
+ * lorsque le profil "cache" est actif ; Hibernate met la région à jour à chaque écriture.
+ * Les identifiants sont tirés de la séquence {@value #SEQUENCE} par blocs de {@value #TAILLE_ALLOCATION},
+ * ce qui permet à Hibernate de regrouper les insertions en lots JDBC (import en masse).
+ * La colonne {@code version} (verrouillage optimiste) fait échouer une modification concurrente au lieu
+ * d'écraser silencieusement la précédente ; elle sert aussi d'ETag aux endpoints PATCH.
  */
 
 
@@ -22,10 +31,17 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Inheritance(strategy = InheritanceType.JOINED)
+@EntityListeners(DisponibiliteListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "vehicules")
 public abstract class Vehicule {
 
+    public static final String SEQUENCE = "vehicule_seq";
+    public static final int TAILLE_ALLOCATION = 50;
+
     @Id
-    @GeneratedValue(strategy =GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE)
+    @SequenceGenerator(name = SEQUENCE, sequenceName = SEQUENCE, allocationSize = TAILLE_ALLOCATION)
     private long id;
     private String marque;
     private String modele;
@@ -36,4 +52,7 @@ public abstract class Vehicule {
     private int kilometrage;
     private Boolean actif;
     private Boolean retireDuParc;
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
@@ -2,12 +2,17 @@ package com.accenture.service;
 
 import com.accenture.service.dto.utilisateurs.AdministrateurRequestDTO;
 import com.accenture.service.dto.utilisateurs.AdministrateurResponseDTO;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface AdministrateurService {
     List<AdministrateurResponseDTO> trouverTous();
+    PageDTO<List<AdministrateurResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal);
+    CurseurDTO<List<AdministrateurResponseDTO>> trouverApresCurseur(String curseur, int taille);
     AdministrateurResponseDTO trouver(long id) throws EntityNotFoundException;
     AdministrateurResponseDTO ajouter(AdministrateurRequestDTO adminRequestDTO);
     AdministrateurResponseDTO recupererinfosCompte(String login, String password) throws EntityNotFoundException;
@@ -15,4 +20,8 @@ public interface AdministrateurService {
     AdministrateurResponseDTO supprimer(String login, String password) throws EntityNotFoundException;
 
     AdministrateurResponseDTO modifPartielle(String login, String password, AdministrateurRequestDTO adminRequestDTO);
+
+    AdministrateurResponseDTO supprimer(long id) throws EntityNotFoundException;
+
+    AdministrateurResponseDTO modifPartielle(long id, AdministrateurRequestDTO adminRequestDTO);
 }
@@ -5,9 +5,17 @@ import com.accenture.repository.entity.utilisateurs.Administrateur;
 import com.accenture.service.dto.utilisateurs.AdministrateurRequestDTO;
 import com.accenture.service.dto.utilisateurs.AdministrateurResponseDTO;
 import com.accenture.service.mapper.AdministrateurMapper;
+import com.accenture.service.motdepasse.HachageMotDePasse;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.shared.Pagination;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,11 +37,16 @@ public class AdministrateurServiceImpl implements AdministrateurService {
     public static final String ID_NON_PRESENT = "ID non présent";
     private final AdministrateurDAO adminDAO;
     private final AdministrateurMapper adminMapper;
+    private final HachageMotDePasse hachageMotDePasse;
+    private final ValidationRequetes validation;
 
 
-    public AdministrateurServiceImpl(AdministrateurDAO administrateurDAO, AdministrateurMapper adminMapper) {
+    public AdministrateurServiceImpl(AdministrateurDAO administrateurDAO, AdministrateurMapper adminMapper, HachageMotDePasse hachageMotDePasse,
+                                     ValidationRequetes validation) {
         this.adminDAO = administrateurDAO;
         this.adminMapper = adminMapper;
+        this.hachageMotDePasse = hachageMotDePasse;
+        this.validation = validation;
     }
 
     /**
@@ -44,12 +57,44 @@ public class AdministrateurServiceImpl implements AdministrateurService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<AdministrateurResponseDTO> trouverTous() {
         return adminDAO.findAll().stream()
                 .map(adminMapper::toAdminResponseDTO)
                 .toList();
     }
 
+    /**
+     * Récupère une page d'administrateurs, triée selon le {@link Pageable} fourni.
+     *
+     * @param pageable  numéro de page, taille et tri demandés.
+     * @param avecTotal {@code true} pour calculer aussi le nombre total d'éléments (requête count supplémentaire).
+     * @return un {@link PageDTO} contenant les {@link AdministrateurResponseDTO} de la page.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<List<AdministrateurResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal) {
+        Slice<Administrateur> slice = avecTotal ? adminDAO.findAll(pageable) : adminDAO.findAllBy(pageable);
+        return Pagination.versPage(slice, Pagination.chacun(adminMapper::toAdminResponseDTO));
+    }
+
+    /**
+     * Récupère les administrateurs dont l'identifiant suit le curseur fourni (pagination par clé, sans OFFSET).
+     *
+     * @param curseur curseur opaque renvoyé par l'appel précédent, ou {@code null} pour commencer au début.
+     * @param taille  nombre maximal d'éléments à renvoyer.
+     * @return un {@link CurseurDTO} contenant les {@link AdministrateurResponseDTO} et le curseur suivant.
+     * @throws IllegalArgumentException si le curseur ou la taille n'est pas valide.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CurseurDTO<List<AdministrateurResponseDTO>> trouverApresCurseur(String curseur, int taille) {
+        List<Administrateur> lignes = adminDAO.findByIdGreaterThanOrderByIdAsc(Pagination.decoder(curseur), Pagination.limite(taille));
+        return Pagination.versCurseur(lignes, taille, Administrateur::getId, Pagination.chacun(adminMapper::toAdminResponseDTO));
+    }
+
     /**
      * Recherche un administrateur par son identifiant et le convertit en un objet {@link AdministrateurResponseDTO}.
      *
@@ -60,6 +105,7 @@ public class AdministrateurServiceImpl implements AdministrateurService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public AdministrateurResponseDTO trouver(long id) throws EntityNotFoundException {
         Optional<Administrateur> optAdmin = adminDAO.findById(id);
         if (optAdmin.isEmpty()) {
@@ -80,8 +126,9 @@ public class AdministrateurServiceImpl implements AdministrateurService {
 
     @Override
     public AdministrateurResponseDTO ajouter(AdministrateurRequestDTO adminRequestDTO) {
-        verifierAdmin(adminRequestDTO);
+        validation.verifierAdmin(adminRequestDTO, true);
         Administrateur admin = adminMapper.toAdministrateur(adminRequestDTO);
+        admin.setPassword(hachageMotDePasse.hacher(admin.getPassword()));
         Administrateur adminEnreg = adminDAO.save(admin);
         return adminMapper.toAdminResponseDTO(adminEnreg);
     }
@@ -135,59 +182,45 @@ public class AdministrateurServiceImpl implements AdministrateurService {
     @Override
     public AdministrateurResponseDTO modifPartielle(String login, String password, AdministrateurRequestDTO adminRequestDTO) {
         Administrateur adminExistant = verifAdmin(login, password);
-        Administrateur nouveau = adminMapper.toAdministrateur(adminRequestDTO);
-        remplacerExistantParNouveau(adminExistant, nouveau);
-        AdministrateurRequestDTO dto = adminMapper.toAdminRequestDTO(adminExistant);
-        verifierAdmin(dto);
-        Administrateur adminEnre = adminDAO.save(adminExistant);
-        return adminMapper.toAdminResponseDTO(adminEnre);
+        return appliquerModification(adminExistant, adminRequestDTO);
     }
 
+    /**
+     * Supprime le compte d'un administrateur déjà authentifié (jeton de session).
+     *
+     * @param id l'identifiant de l'administrateur.
+     * @return un {@link AdministrateurResponseDTO} contenant les informations de l'administrateur supprimé.
+     * @throws EntityNotFoundException si aucun administrateur n'a été trouvé avec cet identifiant.
+     */
 
-//**********************************************************************************************************************
-//                                                      METHODES PRIVEES
-//**********************************************************************************************************************
+    @Override
+    public AdministrateurResponseDTO supprimer(long id) throws EntityNotFoundException {
+        Administrateur admin = adminDAO.findById(id).orElseThrow(() -> new EntityNotFoundException(ID_NON_PRESENT));
+        adminDAO.delete(admin);
+        return adminMapper.toAdminResponseDTO(admin);
+    }
 
+    /**
+     * Modifie partiellement un administrateur déjà authentifié (jeton de session).
+     *
+     * @param id              l'identifiant de l'administrateur.
+     * @param adminRequestDTO l'objet contenant les nouvelles valeurs des champs à mettre à jour.
+     * @return un {@link AdministrateurResponseDTO} contenant les informations mises à jour de l'administrateur.
+     * @throws EntityNotFoundException si aucun administrateur n'a été trouvé avec cet identifiant.
+     * @throws AdministrateurException si une erreur spécifique liée à l'administrateur survient.
+     */
 
+    @Override
+    public AdministrateurResponseDTO modifPartielle(long id, AdministrateurRequestDTO adminRequestDTO) {
+        Administrateur adminExistant = adminDAO.findById(id).orElseThrow(() -> new EntityNotFoundException(ID_NON_PRESENT));
+        return appliquerModification(adminExistant, adminRequestDTO);
+    }
 
-    private static void verifierAdmin(AdministrateurRequestDTO adminRequestDTO) {
-        if (adminRequestDTO == null) {
-            log.error("verifier admin" + "admin est null");
-            throw new AdministrateurException("L'administrateur est null");
-        }
-        if (adminRequestDTO.nom() == null || adminRequestDTO.nom().isBlank()) {
-            log.error("verifier admin" + "le nom est obligatoire");
-            throw new AdministrateurException("Le nom est obligatoire ");
-        }
-        if (adminRequestDTO.prenom() == null || adminRequestDTO.prenom().isBlank()) {
-            log.error("verifier admin" + "le prénom est obligatoire");
-            throw new AdministrateurException("Le prénom est obligatoire");
-        }
-        if (adminRequestDTO.email() == null || adminRequestDTO.email().isBlank()) {
-            log.error("verifier admin" + "l'email est obligatoire");
-            throw new AdministrateurException("L'email est obligatoire");
-        }
-        if (adminRequestDTO.password() == null || adminRequestDTO.password().isBlank()) {
-            log.error("verifier admin" + "le mot de passe est obligatoire");
-            throw new AdministrateurException("Le mot de passe est obligatoire");
-        }
-        if (adminRequestDTO.fonction() == null || adminRequestDTO.fonction().isBlank()) {
-            log.error("verifier admin" + "la fonction est obligatoire");
-            throw new AdministrateurException("La fonction est obligatoire");
 
-        }
-        String passwordRegex = "^(?=.*?[A-Z])(?=.*?[a-z])(?=.*?[0-9])(?=.*?[&#@_§-]).{8,16}$";
-        if (!adminRequestDTO.password().matches(passwordRegex)) {
-            log.error("verifier admin" + "le mot de passe doit respecter le Regex ");
-            throw new AdministrateurException("Le mot de passe doit contenir entre 8 et 16 caractères, au minimum une minuscule et 1 majuscule" +
-                    "un chiffre, et un caractère spécial");
-        }
-        String emailRegex = "^[\\w.%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        if (!adminRequestDTO.email().matches(emailRegex)) {
-            log.error("verifier admin" + "l'email doit respecter le Regex");
-            throw new AdministrateurException("L'email doit contenir un @ et un nom de domaine valide");
-        }
-    }
+//**********************************************************************************************************************
+//                                                      METHODES PRIVEES
+//**********************************************************************************************************************
+
 
 
     private Administrateur verifAdmin(String login, String password) {
@@ -197,13 +230,29 @@ public class AdministrateurServiceImpl implements AdministrateurService {
             throw new EntityNotFoundException("Erreur dans l'email ou le mot de passe");
         }
         Administrateur admin = optAdmin.get();
-        if (!admin.getPassword().equals(password)) {
+        if (!hachageMotDePasse.verifier(password, admin.getPassword())) {
             log.error("verifadmin" + "Erreur dans l'email ou le mot de passe ");
             throw new EntityNotFoundException("Erreur dans l'email ou le mot de passe");
         }
+        if (hachageMotDePasse.doitEtreRehache(admin.getPassword())) {
+            admin.setPassword(hachageMotDePasse.hacher(password));
+            admin = adminDAO.save(admin);
+        }
         return admin;
     }
 
+    private AdministrateurResponseDTO appliquerModification(Administrateur adminExistant, AdministrateurRequestDTO adminRequestDTO) {
+        Administrateur nouveau = adminMapper.toAdministrateur(adminRequestDTO);
+        remplacerExistantParNouveau(adminExistant, nouveau);
+        AdministrateurRequestDTO dto = adminMapper.toAdminRequestDTO(adminExistant);
+        boolean nouveauMotDePasse = nouveau.getPassword() != null;
+        validation.verifierAdmin(dto, nouveauMotDePasse);
+        if (nouveauMotDePasse)
+            adminExistant.setPassword(hachageMotDePasse.hacher(nouveau.getPassword()));
+        Administrateur adminEnre = adminDAO.save(adminExistant);
+        return adminMapper.toAdminResponseDTO(adminEnre);
+    }
+
     private static void remplacerExistantParNouveau(Administrateur adminExistant, Administrateur admin) {
         if (admin.getPassword() != null)
             adminExistant.setPassword(admin.getPassword());
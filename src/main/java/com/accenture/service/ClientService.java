@@ -3,12 +3,17 @@ package com.accenture.service;
 import com.accenture.exception.ClientException;
 import com.accenture.service.dto.utilisateurs.ClientRequestDTO;
 import com.accenture.service.dto.utilisateurs.ClientResponseDTO;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface ClientService {
     List<ClientResponseDTO> trouverTous();
+    PageDTO<List<ClientResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal);
+    CurseurDTO<List<ClientResponseDTO>> trouverApresCurseur(String curseur, int taille);
     ClientResponseDTO trouver(long id) throws EntityNotFoundException;
 
 
@@ -19,4 +24,10 @@ public interface ClientService {
     ClientResponseDTO ajouter(ClientRequestDTO clientRequestDTO);
 
     ClientResponseDTO modifier(String login, String password, ClientRequestDTO clientRequestDTO) throws EntityNotFoundException, ClientException;
+
+    ClientResponseDTO modifier(String login, String password, Long versionAttendue, ClientRequestDTO clientRequestDTO) throws EntityNotFoundException, ClientException;
+
+    ClientResponseDTO supprimer(long id) throws EntityNotFoundException;
+
+    ClientResponseDTO modifier(long id, Long versionAttendue, ClientRequestDTO clientRequestDTO) throws EntityNotFoundException, ClientException;
 }
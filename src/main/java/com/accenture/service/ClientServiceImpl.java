@@ -6,10 +6,18 @@ import com.accenture.repository.entity.utilisateurs.Client;
 import com.accenture.service.dto.utilisateurs.ClientRequestDTO;
 import com.accenture.service.dto.utilisateurs.ClientResponseDTO;
 import com.accenture.service.mapper.ClientMapper;
+import com.accenture.service.motdepasse.HachageMotDePasse;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.shared.Pagination;
+import com.accenture.shared.Versions;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +34,16 @@ public class ClientServiceImpl implements ClientService {
     public static final String ID_NON_PRESENT = "ID non présent";
     private final ClientDAO clientDAO;
     private final ClientMapper clientMapper;
+    private final HachageMotDePasse hachageMotDePasse;
+    private final ValidationRequetes validation;
 
 
-    public ClientServiceImpl(ClientDAO clientDAO, ClientMapper clientMapper) {
+    public ClientServiceImpl(ClientDAO clientDAO, ClientMapper clientMapper, HachageMotDePasse hachageMotDePasse,
+                             ValidationRequetes validation) {
         this.clientDAO = clientDAO;
         this.clientMapper = clientMapper;
+        this.hachageMotDePasse = hachageMotDePasse;
+        this.validation = validation;
     }
 
     /**
@@ -41,10 +54,40 @@ public class ClientServiceImpl implements ClientService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<ClientResponseDTO> trouverTous() {
-        return clientDAO.findAll().stream()
-                .map(clientMapper::toClientResponseDTO)
-                .toList();
+        return clientDAO.trouverTousDTO();
+    }
+
+    /**
+     * Récupère une page de clients, triée selon le {@link Pageable} fourni.
+     *
+     * @param pageable  numéro de page, taille et tri demandés.
+     * @param avecTotal {@code true} pour calculer aussi le nombre total d'éléments (requête count supplémentaire).
+     * @return un {@link PageDTO} contenant les {@link ClientResponseDTO} de la page.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<List<ClientResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal) {
+        Slice<Client> slice = avecTotal ? clientDAO.findAll(pageable) : clientDAO.findAllBy(pageable);
+        return Pagination.versPage(slice, Pagination.chacun(clientMapper::toClientResponseDTO));
+    }
+
+    /**
+     * Récupère les clients dont l'identifiant suit le curseur fourni (pagination par clé, sans OFFSET).
+     *
+     * @param curseur curseur opaque renvoyé par l'appel précédent, ou {@code null} pour commencer au début.
+     * @param taille  nombre maximal d'éléments à renvoyer.
+     * @return un {@link CurseurDTO} contenant les {@link ClientResponseDTO} et le curseur suivant.
+     * @throws IllegalArgumentException si le curseur ou la taille n'est pas valide.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CurseurDTO<List<ClientResponseDTO>> trouverApresCurseur(String curseur, int taille) {
+        List<Client> lignes = clientDAO.findByIdGreaterThanOrderByIdAsc(Pagination.decoder(curseur), Pagination.limite(taille));
+        return Pagination.versCurseur(lignes, taille, Client::getId, Pagination.chacun(clientMapper::toClientResponseDTO));
     }
 
     /**
@@ -57,6 +100,7 @@ public class ClientServiceImpl implements ClientService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public ClientResponseDTO trouver(long id) throws EntityNotFoundException {
         Optional<Client> optClient = clientDAO.findById(id);
         if (optClient.isEmpty())
@@ -112,8 +156,9 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     public ClientResponseDTO ajouter(ClientRequestDTO clientRequestDTO) throws ClientException {
-        verifierClient(clientRequestDTO);
+        validation.verifierClient(clientRequestDTO, true);
         Client client = clientMapper.toClient(clientRequestDTO);
+        client.setPassword(hachageMotDePasse.hacher(client.getPassword()));
         Client clientEnreg = clientDAO.save(client);
         return clientMapper.toClientResponseDTO(clientEnreg);
     }
@@ -132,13 +177,62 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     public ClientResponseDTO modifier(String login, String password, ClientRequestDTO clientRequestDTO) throws EntityNotFoundException, ClientException {
-        Client clientExistant = authentifierClient(login, password);
-        Client nouveau = clientMapper.toClient(clientRequestDTO);
-        remplacerExistantParNouveau(clientExistant, nouveau);
-        ClientRequestDTO dto = clientMapper.toClientRequestDTO(clientExistant);
-        verifierClient(dto);
-        Client clientEnr = clientDAO.save(clientExistant);
-        return clientMapper.toClientResponseDTO(clientEnr);
+        return modifier(login, password, null, clientRequestDTO);
+    }
+
+    /**
+     * Modifie partiellement un client authentifié par ses identifiants, s'il n'a pas changé depuis la version
+     * lue par le client (en-tête {@code If-Match}).
+     *
+     * @param login            l'adresse mail du client à modifier.
+     * @param password         le mot de passe du client à modifier.
+     * @param versionAttendue  la version attendue, ou {@code null} pour ne pas vérifier.
+     * @param clientRequestDTO l'objet contenant les nouvelles valeurs des champs à mettre à jour.
+     * @return un {@link ClientResponseDTO} contenant les informations mises à jour du client, avec sa nouvelle version.
+     * @throws EntityNotFoundException si le login ou le mot de passe est incorrect.
+     * @throws ClientException si une erreur spécifique liée au client survient.
+     * @throws com.accenture.exception.VersionObsoleteException si la version attendue n'est plus la version courante.
+     */
+
+    @Override
+    public ClientResponseDTO modifier(String login, String password, Long versionAttendue, ClientRequestDTO clientRequestDTO) throws EntityNotFoundException, ClientException {
+        Client clientExistant = authentifierClient(login, password, versionAttendue);
+        return appliquerModification(clientExistant, clientRequestDTO);
+    }
+
+    /**
+     * Supprime le compte d'un client déjà authentifié (jeton de session).
+     *
+     * @param id l'identifiant du client.
+     * @return un {@link ClientResponseDTO} contenant les informations du client supprimé.
+     * @throws EntityNotFoundException si aucun client n'a été trouvé avec cet identifiant.
+     */
+
+    @Override
+    public ClientResponseDTO supprimer(long id) throws EntityNotFoundException {
+        Client client = clientDAO.findById(id).orElseThrow(() -> new EntityNotFoundException(ID_NON_PRESENT));
+        clientDAO.delete(client);
+        return clientMapper.toClientResponseDTO(client);
+    }
+
+    /**
+     * Modifie partiellement un client déjà authentifié (jeton de session), s'il n'a pas changé depuis la version
+     * lue par le client (en-tête {@code If-Match}).
+     *
+     * @param id               l'identifiant du client.
+     * @param versionAttendue  la version attendue, ou {@code null} pour ne pas vérifier.
+     * @param clientRequestDTO l'objet contenant les nouvelles valeurs des champs à mettre à jour.
+     * @return un {@link ClientResponseDTO} contenant les informations mises à jour du client, avec sa nouvelle version.
+     * @throws EntityNotFoundException si aucun client n'a été trouvé avec cet identifiant.
+     * @throws ClientException si une erreur spécifique liée au client survient.
+     * @throws com.accenture.exception.VersionObsoleteException si la version attendue n'est plus la version courante.
+     */
+
+    @Override
+    public ClientResponseDTO modifier(long id, Long versionAttendue, ClientRequestDTO clientRequestDTO) throws EntityNotFoundException, ClientException {
+        Client clientExistant = clientDAO.findById(id).orElseThrow(() -> new EntityNotFoundException(ID_NON_PRESENT));
+        Versions.verifier(versionAttendue, clientExistant.getVersion());
+        return appliquerModification(clientExistant, clientRequestDTO);
     }
 
 
@@ -146,44 +240,40 @@ public class ClientServiceImpl implements ClientService {
 //                                                      METHODES PRIVEES
 //************************************************************************************************************************
 
-    private static void verifierClient(ClientRequestDTO clientRequestDTO) {
-        if (clientRequestDTO == null)
-            throw new ClientException("Le client est null ");
-        if (clientRequestDTO.nom() == null || clientRequestDTO.nom().isBlank())
-            throw new ClientException("Le nom est obligatoire ");
-        if (clientRequestDTO.prenom() == null || clientRequestDTO.prenom().isBlank())
-            throw new ClientException("Le prenom est obligatoire ");
-        if (clientRequestDTO.dateNaissance() == null)
-            throw new ClientException("Le date de Naissance est obligatoire ");
-        if ((clientRequestDTO.dateNaissance().plusYears(18).isAfter(LocalDate.now())))
-            throw new IllegalArgumentException("Vous devez être majeur pour vous inscrire");
-        if (clientRequestDTO.password() == null || clientRequestDTO.password().isBlank())
-            throw new ClientException("Le mot de passe est obligatoire ");
-        if (clientRequestDTO.email() == null || clientRequestDTO.email().isBlank())
-            throw new ClientException("L'email est obligatoire ");
-        if (clientRequestDTO.adresse() == null)
-            throw new ClientException("L'adresse est obligatoire ");
-        String passwordRegex = "^(?=.*?[A-Z])(?=.*?[a-z])(?=.*?[0-9])(?=.*?[&#@_§-]).{8,16}$";
-        if (!clientRequestDTO.password().matches(passwordRegex))
-            throw new ClientException("Le mot de passe doit contenir entre 8 et 16 caractères, au minimum une minuscule et 1 majuscule" +
-                    "un chiffre, et un caractère spécial");
-        String emailRegex = "^[\\w.%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        if (!clientRequestDTO.email().matches(emailRegex)) {
-            throw new ClientException("L'email doit contenir un @ et un nom de domaine valide");
-        }
+    private Client authentifierClient(String login, String password) {
+        return authentifierClient(login, password, null);
     }
 
-
-    private Client authentifierClient(String login, String password) {
+    /**
+     * La version est vérifiée avant un éventuel rehachage du mot de passe, qui incrémente la version.
+     */
+    private Client authentifierClient(String login, String password, Long versionAttendue) {
         Optional<Client> optClient = clientDAO.findByLogin(login);
         if (optClient.isEmpty())
             throw new EntityNotFoundException("Erreur dans l'email ou le mot de passe");
         Client client = optClient.get();
-        if (!client.getPassword().equals(password))
+        if (!hachageMotDePasse.verifier(password, client.getPassword()))
             throw new EntityNotFoundException("Erreur dans l'email ou le mot de passe");
+        Versions.verifier(versionAttendue, client.getVersion());
+        if (hachageMotDePasse.doitEtreRehache(client.getPassword())) {
+            client.setPassword(hachageMotDePasse.hacher(password));
+            client = clientDAO.save(client);
+        }
         return client;
     }
 
+    private ClientResponseDTO appliquerModification(Client clientExistant, ClientRequestDTO clientRequestDTO) {
+        Client nouveau = clientMapper.toClient(clientRequestDTO);
+        remplacerExistantParNouveau(clientExistant, nouveau);
+        ClientRequestDTO dto = clientMapper.toClientRequestDTO(clientExistant);
+        boolean nouveauMotDePasse = nouveau.getPassword() != null;
+        validation.verifierClient(dto, nouveauMotDePasse);
+        if (nouveauMotDePasse)
+            clientExistant.setPassword(hachageMotDePasse.hacher(nouveau.getPassword()));
+        Client clientEnr = clientDAO.save(clientExistant);
+        return clientMapper.toClientResponseDTO(clientEnr);
+    }
+
     private static void remplacerExistantParNouveau(Client clientExistant, Client client) {
         if (client.getPassword() != null)
             clientExistant.setPassword(client.getPassword());
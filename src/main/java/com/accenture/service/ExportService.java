@@ -0,0 +1,15 @@
+package com.accenture.service;
+
+import com.accenture.shared.enumerations.FormatExport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    long exporterVehicules(FormatExport format, OutputStream sortie) throws IOException;
+
+    long exporterClients(FormatExport format, OutputStream sortie) throws IOException;
+
+    long exporterLocations(FormatExport format, OutputStream sortie) throws IOException;
+}
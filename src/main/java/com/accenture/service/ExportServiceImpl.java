@@ -0,0 +1,138 @@
+package com.accenture.service;
+
+import com.accenture.repository.ClientDAO;
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.dto.LocationExportDTO;
+import com.accenture.service.dto.utilisateurs.ClientExportDTO;
+import com.accenture.service.dto.vehicules.VehiculeExportDTO;
+import com.accenture.shared.EcrivainExport;
+import com.accenture.shared.enumerations.FormatExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Export en flux de la flotte, des clients et de l'historique des locations.
+ * Les lignes sont lues par lots depuis la base et écrites au fur et à mesure sur la sortie :
+ * la mémoire utilisée ne dépend pas du nombre de lignes exportées.
+ */
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private final VehiculeDAO vehiculeDAO;
+    private final ClientDAO clientDAO;
+    private final LocationDAO locationDAO;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ExportServiceImpl(VehiculeDAO vehiculeDAO, ClientDAO clientDAO, LocationDAO locationDAO,
+                             EntityManager entityManager, ObjectMapper objectMapper) {
+        this.vehiculeDAO = vehiculeDAO;
+        this.clientDAO = clientDAO;
+        this.locationDAO = locationDAO;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exporte tous les véhicules (motos et voitures) sur la sortie fournie.
+     * Chaque véhicule est détaché du contexte de persistance une fois écrit.
+     *
+     * @param format format d'export (NDJSON ou CSV).
+     * @param sortie flux sur lequel écrire.
+     * @return le nombre de véhicules exportés.
+     * @throws IOException si l'écriture sur la sortie échoue.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exporterVehicules(FormatExport format, OutputStream sortie) throws IOException {
+        EcrivainExport<VehiculeExportDTO> ecrivain = new EcrivainExport<>(sortie, format, objectMapper, VehiculeExportDTO.class);
+        try (Stream<Vehicule> vehicules = vehiculeDAO.exporterTous()) {
+            ecrireTout(vehicules, ExportServiceImpl::versExport, ecrivain, entityManager::detach);
+        }
+        log.info("Export des véhicules ({}) : {} lignes", format, ecrivain.getNbLignes());
+        return ecrivain.getNbLignes();
+    }
+
+    /**
+     * Exporte tous les clients, sans leur mot de passe, sur la sortie fournie.
+     *
+     * @param format format d'export (NDJSON ou CSV).
+     * @param sortie flux sur lequel écrire.
+     * @return le nombre de clients exportés.
+     * @throws IOException si l'écriture sur la sortie échoue.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exporterClients(FormatExport format, OutputStream sortie) throws IOException {
+        EcrivainExport<ClientExportDTO> ecrivain = new EcrivainExport<>(sortie, format, objectMapper, ClientExportDTO.class);
+        try (Stream<ClientExportDTO> clients = clientDAO.exporterTous()) {
+            ecrireTout(clients, Function.identity(), ecrivain, client -> { });
+        }
+        log.info("Export des clients ({}) : {} lignes", format, ecrivain.getNbLignes());
+        return ecrivain.getNbLignes();
+    }
+
+    /**
+     * Exporte l'historique complet des locations sur la sortie fournie.
+     *
+     * @param format format d'export (NDJSON ou CSV).
+     * @param sortie flux sur lequel écrire.
+     * @return le nombre de locations exportées.
+     * @throws IOException si l'écriture sur la sortie échoue.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exporterLocations(FormatExport format, OutputStream sortie) throws IOException {
+        EcrivainExport<LocationExportDTO> ecrivain = new EcrivainExport<>(sortie, format, objectMapper, LocationExportDTO.class);
+        try (Stream<LocationExportDTO> locations = locationDAO.exporterTous()) {
+            ecrireTout(locations, Function.identity(), ecrivain, location -> { });
+        }
+        log.info("Export des locations ({}) : {} lignes", format, ecrivain.getNbLignes());
+        return ecrivain.getNbLignes();
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static <E, T extends Record> void ecrireTout(Stream<E> lignes, Function<E, T> conversion,
+                                                         EcrivainExport<T> ecrivain, Consumer<E> apresEcriture) throws IOException {
+        Iterator<E> iterateur = lignes.iterator();
+        while (iterateur.hasNext()) {
+            E ligne = iterateur.next();
+            ecrivain.ecrire(conversion.apply(ligne));
+            apresEcriture.accept(ligne);
+        }
+        ecrivain.flush();
+    }
+
+    private static VehiculeExportDTO versExport(Vehicule vehicule) {
+        if (vehicule instanceof Moto moto)
+            return new VehiculeExportDTO(moto.getId(), "MOTO", moto.getMarque(), moto.getModele(), moto.getCouleur(),
+                    moto.getType(), moto.getTarifJournee(), moto.getKilometrage(), moto.getActif(), moto.getRetireDuParc(),
+                    moto.getPermis(), moto.getTransmission(), null, null, null, null, null,
+                    moto.getNbrCylindres(), moto.getCylindree(), moto.getPoids(), moto.getPuissance(), moto.getHauteurSelle());
+        Voiture voiture = (Voiture) vehicule;
+        return new VehiculeExportDTO(voiture.getId(), "VOITURE", voiture.getMarque(), voiture.getModele(), voiture.getCouleur(),
+                voiture.getType(), voiture.getTarifJournee(), voiture.getKilometrage(), voiture.getActif(), voiture.getRetireDuParc(),
+                voiture.getPermis(), voiture.getTransmission(), voiture.getNbrPlaces(), voiture.getCarburant(), voiture.getNbrPortes(),
+                voiture.getClim(), voiture.getBagages(), null, null, null, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.accenture.service;
+
+import com.accenture.exception.AccesRefuseException;
+import com.accenture.exception.LocationException;
+import com.accenture.exception.ReservationConflitException;
+import com.accenture.service.dto.LocationDTO;
+import com.accenture.service.dto.LocationRequestDTO;
+import jakarta.persistence.EntityNotFoundException;
+
+import java.util.List;
+
+public interface LocationService {
+
+    List<LocationDTO> trouverTous();
+
+    LocationDTO reserver(long clientId, LocationRequestDTO locationRequestDTO) throws EntityNotFoundException, LocationException, ReservationConflitException;
+
+    LocationDTO valider(long id) throws EntityNotFoundException, LocationException;
+
+    LocationDTO rendre(long id, int kmParcourus) throws EntityNotFoundException, LocationException;
+
+    LocationDTO annuler(long id, Long clientId) throws EntityNotFoundException, AccesRefuseException, LocationException;
+}
@@ -1,20 +1,64 @@
 package com.accenture.service;
 
+import com.accenture.exception.AccesRefuseException;
+import com.accenture.exception.LocationException;
+import com.accenture.exception.ReservationConflitException;
+import com.accenture.repository.ClientDAO;
 import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.entity.utilisateurs.Location;
+import com.accenture.repository.entity.vehicules.Vehicule;
 import com.accenture.service.dto.LocationDTO;
+import com.accenture.service.dto.LocationRequestDTO;
 import com.accenture.service.mapper.LocationMapper;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.service.verrou.VerrousVehicules;
+import com.accenture.shared.enumerations.EtatLocation;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * Implémentation du service de gestion des locations.
+ * Une réservation verrouille uniquement le véhicule demandé : les réservations d'un même véhicule
+ * sont sérialisées, celles de véhicules différents s'exécutent en parallèle. Elles attendent d'abord leur tour
+ * en mémoire ({@link VerrousVehicules}, autour de toute la transaction), puis verrouillent la ligne du véhicule
+ * en base, ce qui protège aussi les réservations faites par d'autres instances.
+ * La contrainte d'exclusion {@value #CONTRAINTE_CHEVAUCHEMENT} garantit en base qu'aucune période ne se chevauche,
+ * même pour une écriture qui ne passerait pas par ce service.
+ * Les changements d'état manuels (validation, retour, annulation) suivent {@link EtatLocation#peutPasserA} ;
+ * les transitions dues à la date sont appliquées par lots par {@link com.accenture.service.cycle.TransitionsLocations}.
+ */
+
 @Service
-public class LocationServiceImpl {
+public class LocationServiceImpl implements LocationService {
+
+    public static final String CONTRAINTE_CHEVAUCHEMENT = "location_sans_chevauchement";
+    private static final String VEHICULE_DEJA_RESERVE = "Le véhicule est déjà réservé sur tout ou partie de cette période";
 
     private final LocationDAO locationDAO;
     private final LocationMapper locationMapper;
+    private final VehiculeDAO vehiculeDAO;
+    private final ClientDAO clientDAO;
+    private final ValidationRequetes validation;
+    private final VerrousVehicules verrous;
+    private final TransactionTemplate transaction;
 
-    public LocationServiceImpl(LocationDAO locationDAO, LocationMapper locationMapper) {
+    public LocationServiceImpl(LocationDAO locationDAO, LocationMapper locationMapper, VehiculeDAO vehiculeDAO,
+                               ClientDAO clientDAO, ValidationRequetes validation, VerrousVehicules verrous,
+                               PlatformTransactionManager transactionManager) {
         this.locationDAO = locationDAO;
         this.locationMapper = locationMapper;
+        this.vehiculeDAO = vehiculeDAO;
+        this.clientDAO = clientDAO;
+        this.validation = validation;
+        this.verrous = verrous;
+        this.transaction = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -23,13 +67,130 @@ public class LocationServiceImpl {
      * @return une liste de {@link LocationDTO} représentant toutes les locations.
      */
 
+    @Override
+    @Transactional(readOnly = true)
     public List<LocationDTO> trouverTous(){
         return locationDAO.findAll().stream()
                 .map(locationMapper::toLocationDTO)
                 .toList();
     }
 
+    /**
+     * Réserve un véhicule pour le client sur la période [dateDebut, dateFin[.
+     *
+     * @param clientId           identifiant du client authentifié.
+     * @param locationRequestDTO véhicule et période demandés.
+     * @return un {@link LocationDTO} représentant la location enregistrée, à l'état {@link EtatLocation#RESERVER}.
+     * @throws EntityNotFoundException     si le véhicule ou le client n'existe pas.
+     * @throws LocationException           si la demande n'est pas valide ou si le véhicule est retiré du parc.
+     * @throws ReservationConflitException si le véhicule est déjà réservé sur une partie de la période, ou si trop de demandes
+     *                                     attendent déjà ce véhicule.
+     */
+
+    @Override
+    public LocationDTO reserver(long clientId, LocationRequestDTO locationRequestDTO) throws EntityNotFoundException, LocationException, ReservationConflitException {
+        validation.verifierLocation(locationRequestDTO);
+        return verrous.executer(locationRequestDTO.vehiculeId(), () -> transaction.execute(statut -> enregistrer(clientId, locationRequestDTO)));
+    }
+
+    /**
+     * Valide une réservation : la location passe à l'état {@link EtatLocation#VALIDER}.
+     *
+     * @param id identifiant de la location.
+     * @return la location validée.
+     * @throws EntityNotFoundException si la location n'existe pas.
+     * @throws LocationException       si la location n'est pas à l'état {@link EtatLocation#RESERVER}.
+     */
+
+    @Override
+    @Transactional
+    public LocationDTO valider(long id) throws EntityNotFoundException, LocationException {
+        Location location = trouverLocation(id);
+        changerEtat(location, EtatLocation.VALIDER);
+        location.setDateValidation(LocalDate.now());
+        return locationMapper.toLocationDTO(location);
+    }
+
+    /**
+     * Enregistre le retour du véhicule : la location passe à l'état {@link EtatLocation#RENDUE}.
+     * Les kilomètres parcourus sont ajoutés au véhicule lors de la clôture.
+     *
+     * @param id          identifiant de la location.
+     * @param kmParcourus kilomètres parcourus pendant la location.
+     * @return la location rendue.
+     * @throws EntityNotFoundException si la location n'existe pas.
+     * @throws LocationException       si le kilométrage est négatif ou si la location n'est pas en cours.
+     */
+
+    @Override
+    @Transactional
+    public LocationDTO rendre(long id, int kmParcourus) throws EntityNotFoundException, LocationException {
+        if (kmParcourus < 0)
+            throw new LocationException("Les kilomètres parcourus ne peuvent pas être négatifs");
+        Location location = trouverLocation(id);
+        changerEtat(location, EtatLocation.RENDUE);
+        location.setKmParcourus(kmParcourus);
+        return locationMapper.toLocationDTO(location);
+    }
+
+    /**
+     * Annule une location qui n'a pas commencé ; le véhicule redevient disponible sur la période.
+     *
+     * @param id       identifiant de la location.
+     * @param clientId identifiant du client qui annule, ou {@code null} pour un administrateur.
+     * @return la location annulée.
+     * @throws EntityNotFoundException si la location n'existe pas.
+     * @throws AccesRefuseException    si la location n'appartient pas au client.
+     * @throws LocationException       si la location a déjà commencé, est terminée ou déjà annulée.
+     */
+
+    @Override
+    @Transactional
+    public LocationDTO annuler(long id, Long clientId) throws EntityNotFoundException, AccesRefuseException, LocationException {
+        Location location = trouverLocation(id);
+        if (clientId != null && (location.getClient() == null || location.getClient().getId() != clientId))
+            throw new AccesRefuseException("Cette location ne vous appartient pas");
+        changerEtat(location, EtatLocation.ANNULEE);
+        return locationMapper.toLocationDTO(location);
+    }
+
+
+//************************************************************************************************************************
+//                                                      METHODES PRIVEES
+//************************************************************************************************************************
+
 
+    private Location trouverLocation(long id) {
+        return locationDAO.findById(id).orElseThrow(() -> new EntityNotFoundException("Location non trouvée"));
+    }
+
+    private static void changerEtat(Location location, EtatLocation suivant) {
+        if (location.getEtatLocation() == null || !location.getEtatLocation().peutPasserA(suivant))
+            throw new LocationException(STR."Une location à l'état \{location.getEtatLocation()} ne peut pas passer à l'état \{suivant}");
+        location.setEtatLocation(suivant);
+    }
 
+    private LocationDTO enregistrer(long clientId, LocationRequestDTO locationRequestDTO) {
+        long vehiculeId = locationRequestDTO.vehiculeId();
+        vehiculeDAO.verrouiller(vehiculeId).orElseThrow(() -> new EntityNotFoundException("Véhicule non trouvé"));
+        Vehicule vehicule = vehiculeDAO.getReferenceById(vehiculeId);
+        if (Boolean.TRUE.equals(vehicule.getRetireDuParc()))
+            throw new LocationException("Un véhicule retiré du parc ne peut pas être réservé");
+        if (locationDAO.existeChevauchement(vehiculeId, locationRequestDTO.dateDebut(), locationRequestDTO.dateFin()))
+            throw new ReservationConflitException(VEHICULE_DEJA_RESERVE);
 
+        Location location = new Location();
+        location.setClient(clientDAO.findById(clientId).orElseThrow(() -> new EntityNotFoundException("Client non trouvé")));
+        location.setVehicule(vehicule);
+        location.setDateDebut(locationRequestDTO.dateDebut());
+        location.setDateFin(locationRequestDTO.dateFin());
+        location.setEtatLocation(EtatLocation.RESERVER);
+        try {
+            return locationMapper.toLocationDTO(locationDAO.saveAndFlush(location));
+        } catch (DataIntegrityViolationException e) {
+            if (String.valueOf(e.getMostSpecificCause().getMessage()).contains(CONTRAINTE_CHEVAUCHEMENT))
+                throw new ReservationConflitException(VEHICULE_DEJA_RESERVE);
+            throw e;
+        }
+    }
 }
@@ -4,7 +4,12 @@ import com.accenture.exception.MotoException;
 import com.accenture.service.dto.vehicules.MotoRequestDTO;
 import com.accenture.service.dto.vehicules.MotoResponseDTO;
 import com.accenture.shared.enumerations.Filtre;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.dto.RapportImportDTO;
+import com.accenture.shared.LigneImport;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -12,13 +17,21 @@ public interface MotoService {
 
     List<MotoResponseDTO> trouverTous();
 
+    PageDTO<List<MotoResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal);
+
+    CurseurDTO<List<MotoResponseDTO>> trouverApresCurseur(String curseur, int taille);
+
     MotoResponseDTO trouver(long id) throws EntityNotFoundException;
 
     MotoResponseDTO ajouter(MotoRequestDTO motoRequestDTO) throws MotoException;
 
+    RapportImportDTO importer(List<LigneImport<MotoRequestDTO>> lignes);
+
     MotoResponseDTO supprimer(long id) throws EntityNotFoundException;
 
     MotoResponseDTO modifier(long id, MotoRequestDTO motoRequestDTO) throws EntityNotFoundException, MotoException;
 
+    MotoResponseDTO modifier(long id, Long versionAttendue, MotoRequestDTO motoRequestDTO) throws EntityNotFoundException, MotoException;
+
     List<MotoResponseDTO> filtrer(Filtre filtre);
 }
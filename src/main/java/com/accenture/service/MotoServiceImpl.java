@@ -5,10 +5,21 @@ import com.accenture.repository.entity.vehicules.Moto;
 import com.accenture.service.dto.vehicules.MotoRequestDTO;
 import com.accenture.service.dto.vehicules.MotoResponseDTO;
 import com.accenture.service.mapper.MotoMapper;
+import com.accenture.service.validation.ValidationRequetes;
 import com.accenture.shared.enumerations.Filtre;
 import com.accenture.shared.enumerations.Permis;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.dto.RapportImportDTO;
+import com.accenture.shared.LigneImport;
+import com.accenture.shared.Pagination;
+import com.accenture.shared.Versions;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,11 +50,13 @@ public class MotoServiceImpl implements MotoService {
 
     private final MotoDAO motoDAO;
     private final MotoMapper motoMapper;
+    private final ValidationRequetes validation;
 
 
-    public MotoServiceImpl(MotoDAO motoDAO, MotoMapper motoMapper) {
+    public MotoServiceImpl(MotoDAO motoDAO, MotoMapper motoMapper, ValidationRequetes validation) {
         this.motoDAO = motoDAO;
         this.motoMapper = motoMapper;
+        this.validation = validation;
     }
 
     /**
@@ -52,10 +65,40 @@ public class MotoServiceImpl implements MotoService {
      */
 
     @Override
+    @Transactional(readOnly = true)
     public List<MotoResponseDTO> trouverTous() {
-        return motoDAO.findAll().stream()
-                .map(motoMapper::toMotoResponseDTO)
-                .toList();
+        return motoDAO.trouverTousDTO();
+    }
+
+    /**
+     * Récupère une page de motos, triée selon le {@link Pageable} fourni.
+     *
+     * @param pageable  numéro de page, taille et tri demandés.
+     * @param avecTotal {@code true} pour calculer aussi le nombre total d'éléments (requête count supplémentaire).
+     * @return un {@link PageDTO} contenant les {@link MotoResponseDTO} de la page.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<List<MotoResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal) {
+        Slice<Moto> slice = avecTotal ? motoDAO.findAll(pageable) : motoDAO.findAllBy(pageable);
+        return Pagination.versPage(slice, Pagination.chacun(motoMapper::toMotoResponseDTO));
+    }
+
+    /**
+     * Récupère les motos dont l'identifiant suit le curseur fourni (pagination par clé, sans OFFSET).
+     *
+     * @param curseur curseur opaque renvoyé par l'appel précédent, ou {@code null} pour commencer au début.
+     * @param taille  nombre maximal d'éléments à renvoyer.
+     * @return un {@link CurseurDTO} contenant les {@link MotoResponseDTO} et le curseur suivant.
+     * @throws IllegalArgumentException si le curseur ou la taille n'est pas valide.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CurseurDTO<List<MotoResponseDTO>> trouverApresCurseur(String curseur, int taille) {
+        List<Moto> lignes = motoDAO.findByIdGreaterThanOrderByIdAsc(Pagination.decoder(curseur), Pagination.limite(taille));
+        return Pagination.versCurseur(lignes, taille, Moto::getId, Pagination.chacun(motoMapper::toMotoResponseDTO));
     }
 
     /**
@@ -66,6 +109,7 @@ public class MotoServiceImpl implements MotoService {
      * @throws EntityNotFoundException si aucune moto n'a été trouvée avec cet ID.
      */
     @Override
+    @Transactional(readOnly = true)
     public MotoResponseDTO trouver(long id) throws EntityNotFoundException {
         Optional<Moto> optMoto = motoDAO.findById(id);
         if (optMoto.isEmpty())
@@ -84,13 +128,39 @@ public class MotoServiceImpl implements MotoService {
      */
     @Override
     public MotoResponseDTO ajouter(MotoRequestDTO motoRequestDTO) throws MotoException {
-        verifierMoto(motoRequestDTO);
+        validation.verifierMoto(motoRequestDTO);
         Moto moto = motoMapper.toMoto(motoRequestDTO);
         attribuerPermisParCylindreeEtPuissance(motoRequestDTO, moto);
         Moto motoEnreg = motoDAO.save(moto);
         return motoMapper.toMotoResponseDTO(motoEnreg);
     }
 
+    /**
+     * Importe un lot de motos en une seule transaction. Chaque ligne est validée comme pour {@link #ajouter} ;
+     * les lignes invalides sont rapportées et les autres sont insérées par lots JDBC (identifiants tirés de la séquence).
+     *
+     * @param lignes les motos à importer, numérotées, éventuellement illisibles.
+     * @return un {@link RapportImportDTO} contenant le nombre de motos importées et les lignes rejetées.
+     */
+    @Override
+    @Transactional
+    public RapportImportDTO importer(List<LigneImport<MotoRequestDTO>> lignes) {
+        List<RapportImportDTO.ErreurImportDTO> erreurs = new ArrayList<>();
+        List<Moto> motos = new ArrayList<>(lignes.size());
+        for (LigneImport<MotoRequestDTO> ligne : lignes) {
+            List<String> violations = ligne.violations(validation::violationsMoto);
+            if (!violations.isEmpty()) {
+                erreurs.add(new RapportImportDTO.ErreurImportDTO(ligne.numero(), violations));
+                continue;
+            }
+            Moto moto = motoMapper.toMoto(ligne.valeur());
+            attribuerPermisParCylindreeEtPuissance(ligne.valeur(), moto);
+            motos.add(moto);
+        }
+        motoDAO.saveAll(motos);
+        return new RapportImportDTO(lignes.size(), motos.size(), erreurs);
+    }
+
     /**
      * Supprime une moto par son identifiant si elle existe.
      *
@@ -120,7 +190,25 @@ public class MotoServiceImpl implements MotoService {
 
     @Override
     public MotoResponseDTO modifier(long id, MotoRequestDTO motoRequestDTO) throws EntityNotFoundException, MotoException {
+        return modifier(id, null, motoRequestDTO);
+    }
+
+    /**
+     * Modifie une moto si elle n'a pas changé depuis la version lue par le client (en-tête {@code If-Match}).
+     *
+     * @param id              identifiant de la moto à modifier.
+     * @param versionAttendue version attendue, ou {@code null} pour ne pas vérifier.
+     * @param motoRequestDTO  objet contenant les nouvelles informations à enregistrer.
+     * @return un objet {@link MotoResponseDTO} contenant les informations de la moto modifiée, avec sa nouvelle version.
+     * @throws EntityNotFoundException si aucune moto ne correspond à l'identifiant fourni.
+     * @throws MotoException si un des paramètres n'est pas correct ou si la moto a été retirée du parc.
+     * @throws com.accenture.exception.VersionObsoleteException si la version attendue n'est plus la version courante.
+     */
+
+    @Override
+    public MotoResponseDTO modifier(long id, Long versionAttendue, MotoRequestDTO motoRequestDTO) throws EntityNotFoundException, MotoException {
         Moto motoExistant = trouverMotoParID(id);
+        Versions.verifier(versionAttendue, motoExistant.getVersion());
         Moto nouveau = motoMapper.toMoto(motoRequestDTO);
         if (motoExistant.getRetireDuParc())
             throw new MotoException("Une voiture retirée du parc ne peut pas être modifier");
@@ -132,31 +220,20 @@ public class MotoServiceImpl implements MotoService {
 
     /**
      * Filtre les motos en fonction de leur statut : actif, inactif, dans le parc ou hors du parc.
+     * Le filtre est appliqué par la requête en base : seules les motos retenues sont lues, directement sous forme de DTO.
      *
      * @param filtre une valeur de l'énumération {@link Filtre} définissant le critère de filtrage.
      * @return une liste de {@link MotoResponseDTO} correspondant aux motos filtrées selon le statut fourni.
      * @throws IllegalArgumentException si le filtre spécifié n'est pas reconnu.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<MotoResponseDTO> filtrer(Filtre filtre) {
-        List<Moto> listeMoto = motoDAO.findAll();
         return switch (filtre) {
-            case ACTIF -> listeMoto.stream()
-                    .filter(Moto::getActif)
-                    .map(motoMapper::toMotoResponseDTO)
-                    .toList();
-            case INACTIF -> listeMoto.stream()
-                    .filter(moto -> !moto.getActif())
-                    .map(motoMapper::toMotoResponseDTO)
-                    .toList();
-            case HORSPARC -> listeMoto.stream()
-                    .filter(Moto::getRetireDuParc)
-                    .map(motoMapper::toMotoResponseDTO)
-                    .toList();
-            case DANSLEPARC -> listeMoto.stream()
-                    .filter(moto -> !moto.getRetireDuParc())
-                    .map(motoMapper::toMotoResponseDTO)
-                    .toList();
+            case ACTIF -> motoDAO.trouverDTOParActif(true);
+            case INACTIF -> motoDAO.trouverDTOParActif(false);
+            case HORSPARC -> motoDAO.trouverDTOParRetireDuParc(true);
+            case DANSLEPARC -> motoDAO.trouverDTOParRetireDuParc(false);
             default -> throw new IllegalArgumentException(STR."Le filtre n'est pas disponible : \{filtre}");
         };
     }
@@ -177,33 +254,6 @@ public class MotoServiceImpl implements MotoService {
     }
 
 
-    private static void verifierMoto(MotoRequestDTO motoRequestDTO) {
-        if (motoRequestDTO == null)
-            throw new MotoException("La moto est null");
-        if (motoRequestDTO.marque() == null || motoRequestDTO.marque().isBlank())
-            throw new MotoException("La marque est obligatoire");
-        if (motoRequestDTO.modele() == null || motoRequestDTO.modele().isBlank())
-            throw new MotoException("Le modèle est obligatoire");
-        if (motoRequestDTO.couleur() == null || motoRequestDTO.couleur().isBlank())
-            throw new MotoException("La couleur est obligatoire");
-        if (motoRequestDTO.nbrCylindres() <= 0 || motoRequestDTO.nbrCylindres() > 7)
-            throw new MotoException("Le nombre de cylindres doit être compris entre 1 et 6 ");
-        if (motoRequestDTO.cylindree() <= 50)
-            throw new MotoException("Les cylindrées sont obligatoires. Ex: 50/125/250/300 etc");
-        if (motoRequestDTO.poids() <= 0)
-            throw new MotoException("Le poids de la moto est obligatoire");
-        if (motoRequestDTO.puissance() <= 0)
-            throw new MotoException("La puissance ne peut pas être inférieure à 0kW");
-        if (motoRequestDTO.hauteurSelle() <= 0)
-            throw new MotoException("La hauteur de selle est obligatoire");
-        if (motoRequestDTO.transmission() == null)
-            throw new MotoException("La transmission (auto ou manuelle) est obligatoire");
-        if (motoRequestDTO.type() == null)
-            throw new MotoException("Le type est obligatoire");
-
-    }
-
-
     private void attribuerPermisParCylindreeEtPuissance(MotoRequestDTO motoRequestDTO, Moto moto) {
         if ((motoRequestDTO.cylindree() >= 0 && motoRequestDTO.cylindree()<=125) && (motoRequestDTO.puissance() >=1 && motoRequestDTO.puissance() <= 11))
             moto.setPermis(Permis.A1);
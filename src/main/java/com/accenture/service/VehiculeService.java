@@ -1,12 +1,18 @@
 package com.accenture.service;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
 import com.accenture.service.dto.vehicules.VehiculeDTO;
 import com.accenture.shared.enumerations.Filtre;
 import com.accenture.shared.enumerations.Type;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+
 import java.time.LocalDate;
 
 public interface VehiculeService {
    VehiculeDTO  trouverTous();
+    PageDTO<VehiculeDTO> trouverPage(Pageable pageable, boolean avecTotal);
+    CurseurDTO<VehiculeDTO> trouverApresCurseur(String curseur, int taille);
     VehiculeDTO trouver(long id) throws EntityNotFoundException;
     VehiculeDTO filtrer(Filtre filtre);
     VehiculeDTO rechercherParDateEtTypeEtCategorie(LocalDate dateDebut, LocalDate dateFin, boolean inclureMotos, boolean inclureVoitures, Type type);
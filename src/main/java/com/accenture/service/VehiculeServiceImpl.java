@@ -1,62 +1,116 @@
 package com.accenture.service;
 
-import com.accenture.repository.LocationDAO;
+import com.accenture.repository.MotoDAO;
 import com.accenture.repository.VehiculeDAO;
-import com.accenture.repository.entity.utilisateurs.Location;
+import com.accenture.repository.VoitureDAO;
 import com.accenture.repository.entity.vehicules.Moto;
 import com.accenture.repository.entity.vehicules.Vehicule;
 import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
 import com.accenture.service.dto.vehicules.MotoResponseDTO;
 import com.accenture.service.dto.vehicules.VehiculeDTO;
 import com.accenture.service.dto.vehicules.VoitureResponseDTO;
 import com.accenture.service.mapper.MotoMapper;
 import com.accenture.service.mapper.VoitureMapper;
+import com.accenture.shared.Pagination;
 import com.accenture.shared.enumerations.Filtre;
 import com.accenture.shared.enumerations.Type;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.function.Function;
 
 /**
  * Implémentation du service {@link VehiculeService} permettant la gestion des véhicules.
  * Cette classe fournit des méthodes pour récupérer, filtrer et rechercher des véhicules en fonction de divers critères.
- * Elle utilise les objets {@link VehiculeDAO}, {@link MotoMapper}, {@link VoitureMapper} et {@link LocationDAO}
+ * Elle utilise les objets {@link VehiculeDAO}, {@link MotoMapper} et {@link VoitureMapper}
  * pour interagir avec les données et effectuer les transformations nécessaires.
+ * La recherche de disponibilité est déléguée à l'{@link IndexDisponibilite} en mémoire s'il est activé,
+ * sinon à la base via {@link VehiculeDAO#trouverDisponibles}.
+ * Lorsqu'une seule catégorie est demandée, la requête porte directement sur {@link MotoDAO} ou {@link VoitureDAO}
+ * afin de ne lire que la sous-table concernée.
+ * Les véhicules libres trouvés par l'index sont chargés par lots de {@value #TAILLE_LOT_IDS} identifiants, pour rester
+ * loin de la limite de paramètres d'une requête (65 535 avec PostgreSQL) sur une flotte de plusieurs dizaines de milliers
+ * de véhicules.
  */
 
 
 @Service
 public class VehiculeServiceImpl implements VehiculeService {
 
+    public static final int TAILLE_LOT_IDS = 1000;
+
     private final VehiculeDAO vehiculeDAO;
+    private final MotoDAO motoDAO;
+    private final VoitureDAO voitureDAO;
     private final MotoMapper motoMapper;
     private final VoitureMapper voitureMapper;
-    private final LocationDAO locationDAO;
+    private final Optional<IndexDisponibilite> indexDisponibilite;
 
 
-    public VehiculeServiceImpl(VehiculeDAO vehiculeDAO, MotoMapper motoMapper, VoitureMapper voitureMapper, LocationDAO locationDAO) {
+    public VehiculeServiceImpl(VehiculeDAO vehiculeDAO, MotoDAO motoDAO, VoitureDAO voitureDAO, MotoMapper motoMapper,
+                               VoitureMapper voitureMapper, Optional<IndexDisponibilite> indexDisponibilite) {
         this.vehiculeDAO = vehiculeDAO;
+        this.motoDAO = motoDAO;
+        this.voitureDAO = voitureDAO;
         this.motoMapper = motoMapper;
         this.voitureMapper = voitureMapper;
-        this.locationDAO = locationDAO;
+        this.indexDisponibilite = indexDisponibilite;
 
     }
 
 
     /**
-     * Récupère la liste de tous les véhicules et les convertit en un objet {@link VehiculeDTO}.
+     * Récupère la liste de tous les véhicules sous forme d'un objet {@link VehiculeDTO}.
+     * Motos et voitures sont lues séparément, directement sous forme de DTO.
      *
      * @return un objet {@link VehiculeDTO} contenant la liste des véhicules.
      */
 
     @Override
+    @Transactional(readOnly = true)
     public VehiculeDTO trouverTous() {
-        return convertirToVehiculeDTO(vehiculeDAO.findAll(), true, true);
+        return new VehiculeDTO(motoDAO.trouverTousDTO(), voitureDAO.trouverTousDTO());
+    }
+
+    /**
+     * Récupère une page de véhicules, triée selon le {@link Pageable} fourni.
+     *
+     * @param pageable  numéro de page, taille et tri demandés.
+     * @param avecTotal {@code true} pour calculer aussi le nombre total d'éléments (requête count supplémentaire).
+     * @return un {@link PageDTO} contenant le {@link VehiculeDTO} de la page.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<VehiculeDTO> trouverPage(Pageable pageable, boolean avecTotal) {
+        Slice<Vehicule> slice = avecTotal ? vehiculeDAO.findAll(pageable) : vehiculeDAO.findAllBy(pageable);
+        return Pagination.versPage(slice, liste -> convertirToVehiculeDTO(liste, true, true));
+    }
+
+    /**
+     * Récupère les véhicules dont l'identifiant suit le curseur fourni (pagination par clé, sans OFFSET).
+     *
+     * @param curseur curseur opaque renvoyé par l'appel précédent, ou {@code null} pour commencer au début.
+     * @param taille  nombre maximal de véhicules à renvoyer.
+     * @return un {@link CurseurDTO} contenant le {@link VehiculeDTO} et le curseur suivant.
+     * @throws IllegalArgumentException si le curseur ou la taille n'est pas valide.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CurseurDTO<VehiculeDTO> trouverApresCurseur(String curseur, int taille) {
+        List<Vehicule> lignes = vehiculeDAO.findByIdGreaterThanOrderByIdAsc(Pagination.decoder(curseur), Pagination.limite(taille));
+        return Pagination.versCurseur(lignes, taille, Vehicule::getId, liste -> convertirToVehiculeDTO(liste, true, true));
     }
 
     /**
@@ -70,6 +124,7 @@ public class VehiculeServiceImpl implements VehiculeService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public VehiculeDTO trouver(long id) throws EntityNotFoundException {
         Optional<Vehicule> byId = vehiculeDAO.findById(id);
         if (byId.isEmpty())
@@ -79,6 +134,7 @@ public class VehiculeServiceImpl implements VehiculeService {
 
     /**
      * Filtre les véhicules en fonction de leur statut : actif, inactif, dans le parc ou hors du parc.
+     * Le filtre est appliqué par la requête en base : seuls les véhicules retenus sont lus, directement sous forme de DTO.
      *
      * @param filtre une valeur de l'énumération {@link Filtre} définissant le critère de filtrage.
      * @return un objet {@link VehiculeDTO} contenant la liste des véhicules correspondant au filtre appliqué.
@@ -86,88 +142,23 @@ public class VehiculeServiceImpl implements VehiculeService {
      */
 
     @Override
+    @Transactional(readOnly = true)
     public VehiculeDTO filtrer(Filtre filtre) {
-        VehiculeDTO listeVehicule = trouverTous();
-        List<MotoResponseDTO> listeMotos = new ArrayList<>();
-        List<VoitureResponseDTO> listeVoitures = new ArrayList<>();
-        switch (filtre) {
-            case ACTIF -> {
-                listeMotos = listeVehicule.motos().stream()
-                        .filter(MotoResponseDTO::actif)
-                        .toList();
-
-                listeVoitures = listeVehicule.voitures().stream()
-                        .filter(VoitureResponseDTO::actif)
-                        .toList();
-            }
-            case INACTIF -> {
-                listeMotos = listeVehicule.motos().stream()
-                        .filter(motoResponseDTO -> !motoResponseDTO.actif())
-                        .toList();
-
-                listeVoitures = listeVehicule.voitures().stream()
-                        .filter(voitureResponseDTO -> !voitureResponseDTO.actif())
-                        .toList();
-            }
-            case HORSPARC -> {
-                listeMotos = listeVehicule.motos().stream()
-                        .filter(MotoResponseDTO::retireDuParc)
-                        .toList();
-
-                listeVoitures = listeVehicule.voitures().stream()
-                        .filter(VoitureResponseDTO::retireDuParc)
-                        .toList();
-            }
-            case DANSLEPARC -> {
-                listeMotos = listeVehicule.motos().stream()
-                        .filter(motoResponseDTO -> !motoResponseDTO.retireDuParc())
-                        .toList();
-
-                listeVoitures = listeVehicule.voitures().stream()
-                        .filter(voitureResponseDTO -> !voitureResponseDTO.retireDuParc())
-                        .toList();
-            }
-            default -> throw new IllegalArgumentException(STR."Le filtre n'est pas disponible\{filtre}");
-        }
-        VehiculeDTO dto = new VehiculeDTO(listeMotos, listeVoitures);
-        return dto;
-    }
-
-    public VehiculeDTO filtrer2(Filtre filtre) {
-        VehiculeDTO listeVehicule = trouverTous();
-        Predicate<MotoResponseDTO> motoResponseDTOPredicate = motoDto -> false;
-        Predicate<VoitureResponseDTO> voitureResponseDTOPredicate = voitureDto -> false;
-
-        switch (filtre) {
-            case ACTIF -> {
-                motoResponseDTOPredicate = MotoResponseDTO::actif;
-                voitureResponseDTOPredicate = VoitureResponseDTO::actif;
-            }
-            case INACTIF -> {
-                motoResponseDTOPredicate = motoResponseDTO -> !motoResponseDTO.actif();
-                voitureResponseDTOPredicate = voitureResponseDTO -> !voitureResponseDTO.actif();
-            }
-            case HORSPARC -> {
-                motoResponseDTOPredicate = MotoResponseDTO::retireDuParc;
-                voitureResponseDTOPredicate = VoitureResponseDTO::retireDuParc;
-            }
-            case DANSLEPARC -> {
-                motoResponseDTOPredicate = motoResponseDTO -> !motoResponseDTO.retireDuParc();
-                voitureResponseDTOPredicate = voitureResponseDTO -> !voitureResponseDTO.retireDuParc();
-            }
+        return switch (filtre) {
+            case ACTIF -> new VehiculeDTO(motoDAO.trouverDTOParActif(true), voitureDAO.trouverDTOParActif(true));
+            case INACTIF -> new VehiculeDTO(motoDAO.trouverDTOParActif(false), voitureDAO.trouverDTOParActif(false));
+            case HORSPARC -> new VehiculeDTO(motoDAO.trouverDTOParRetireDuParc(true), voitureDAO.trouverDTOParRetireDuParc(true));
+            case DANSLEPARC -> new VehiculeDTO(motoDAO.trouverDTOParRetireDuParc(false), voitureDAO.trouverDTOParRetireDuParc(false));
             default -> throw new IllegalArgumentException(STR."Le filtre n'est pas disponible\{filtre}");
-        }
-
-        return new VehiculeDTO(
-                extraireMotosResponseDto(listeVehicule, motoResponseDTOPredicate),
-                extraireVoituresResponseDto(listeVehicule, voitureResponseDTOPredicate)
-        );
-
+        };
     }
 
     /**
      * Recherche des véhicules disponibles pour la location en fonction des dates de début et de fin,
      * avec la possibilité de filtrer par type de véhicule et d'inclure ou non les motos et les voitures.
+     * Si l'index de disponibilité est activé, les véhicules libres sont déterminés en mémoire ;
+     * sinon les locations qui chevauchent la période sont exclues par la requête elle-même.
+     * Si une seule catégorie est demandée, seule la sous-table correspondante est interrogée.
      *
      * @param dateDebut date de début de la réservation.
      * @param dateFin date de fin de la réservation.
@@ -179,10 +170,27 @@ public class VehiculeServiceImpl implements VehiculeService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public VehiculeDTO rechercherParDateEtTypeEtCategorie(LocalDate dateDebut, LocalDate dateFin, boolean inclureMotos, boolean inclureVoitures, Type type) {
-        List<Vehicule> listeTousLesVehicules = rechercherParDate(dateDebut, dateFin);
-        listeTousLesVehicules = filtrerParType(type, listeTousLesVehicules);
-        return convertirToVehiculeDTO(listeTousLesVehicules, inclureMotos, inclureVoitures);
+        if (!inclureMotos && !inclureVoitures)
+            return new VehiculeDTO(List.of(), List.of());
+        List<? extends Vehicule> listeVehiculesDispo;
+        if (indexDisponibilite.isPresent()) {
+            List<Long> idsLibres = indexDisponibilite.get().trouverVehiculesLibres(dateDebut, dateFin, type, inclureMotos, inclureVoitures);
+            if (!inclureVoitures)
+                listeVehiculesDispo = chargerParLots(idsLibres, motoDAO::findAllById);
+            else if (!inclureMotos)
+                listeVehiculesDispo = chargerParLots(idsLibres, voitureDAO::findAllById);
+            else
+                listeVehiculesDispo = chargerParLots(idsLibres, vehiculeDAO::findAllById);
+        } else if (!inclureVoitures) {
+            listeVehiculesDispo = motoDAO.trouverDisponibles(dateDebut, dateFin, type);
+        } else if (!inclureMotos) {
+            listeVehiculesDispo = voitureDAO.trouverDisponibles(dateDebut, dateFin, type);
+        } else {
+            listeVehiculesDispo = vehiculeDAO.trouverDisponibles(dateDebut, dateFin, type, true, true);
+        }
+        return convertirToVehiculeDTO(listeVehiculesDispo, inclureMotos, inclureVoitures);
     }
 
 
@@ -191,7 +199,14 @@ public class VehiculeServiceImpl implements VehiculeService {
 //************************************************************************************************************************
 
 
-    private VehiculeDTO convertirToVehiculeDTO(List<Vehicule> listeVehicules, boolean inclureMotos, boolean inclureVoitures) {
+    private static <V> List<V> chargerParLots(List<Long> ids, Function<List<Long>, List<V>> chargement) {
+        List<V> resultat = new ArrayList<>(ids.size());
+        for (int debut = 0; debut < ids.size(); debut += TAILLE_LOT_IDS)
+            resultat.addAll(chargement.apply(ids.subList(debut, Math.min(debut + TAILLE_LOT_IDS, ids.size()))));
+        return resultat;
+    }
+
+    private VehiculeDTO convertirToVehiculeDTO(List<? extends Vehicule> listeVehicules, boolean inclureMotos, boolean inclureVoitures) {
         List<MotoResponseDTO> listeMotos = new ArrayList<>();
         List<VoitureResponseDTO> listeVoitures = new ArrayList<>();
         for (Vehicule v : listeVehicules) {
@@ -204,42 +219,5 @@ public class VehiculeServiceImpl implements VehiculeService {
         return new VehiculeDTO(listeMotos, listeVoitures);
     }
 
-    private List<Vehicule> rechercherParDate(LocalDate dateDebut, LocalDate dateFin) {
-        List<Location> listeLocations = locationDAO.findAll();
-        List<Vehicule> listeVehiculeIndispo = listeLocations.stream()
-                .filter(location -> location.getDateDebut().isBefore(dateFin) && location.getDateFin().isAfter(dateDebut))
-                .map(Location::getVehicule)
-                .toList();
-        List<Vehicule> listeTousLesVehicules = vehiculeDAO.findAll();
-        listeTousLesVehicules.removeAll(listeVehiculeIndispo);
-        return listeTousLesVehicules;
-    }
-
-    private static List<Vehicule> filtrerParType(Type type, List<Vehicule> listeTousLesVehicules) {
-        if (type != null) {
-            listeTousLesVehicules = listeTousLesVehicules.stream()
-                    .filter(vehicule -> vehicule.getType().equals(type))
-                    .toList();
-        }
-        return listeTousLesVehicules;
-    }
-
-    private static List<VoitureResponseDTO> extraireVoituresResponseDto(VehiculeDTO listeVehicule, Predicate<VoitureResponseDTO> voitureResponseDTOPredicate) {
-        List<VoitureResponseDTO> listeVoitures = listeVehicule.voitures().stream()
-                .filter(voitureResponseDTOPredicate)
-                .toList();
-        return listeVoitures;
-    }
-
-    private static List<MotoResponseDTO> extraireMotosResponseDto(VehiculeDTO listeVehicule, Predicate<MotoResponseDTO> motoResponseDTOPredicate) {
-        List<MotoResponseDTO> listeMotos = listeVehicule.motos().stream()
-                .filter(motoResponseDTOPredicate)
-                .toList();
-        return listeMotos;
-    }
-
-
-
-
 
 }
@@ -4,17 +4,27 @@ import com.accenture.exception.VoitureException;
 import com.accenture.service.dto.vehicules.VoitureRequestDTO;
 import com.accenture.service.dto.vehicules.VoitureResponseDTO;
 import com.accenture.shared.enumerations.Filtre;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.dto.RapportImportDTO;
+import com.accenture.shared.LigneImport;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface VoitureService {
     List<VoitureResponseDTO> trouverTous();
+    PageDTO<List<VoitureResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal);
+    CurseurDTO<List<VoitureResponseDTO>> trouverApresCurseur(String curseur, int taille);
     VoitureResponseDTO trouver(long id) throws EntityNotFoundException;
     VoitureResponseDTO ajouter (VoitureRequestDTO voitureRequestDTO) throws VoitureException;
+    RapportImportDTO importer(List<LigneImport<VoitureRequestDTO>> lignes);
     VoitureResponseDTO supprimer(long id) throws EntityNotFoundException;
 
     VoitureResponseDTO modifier(long id, VoitureRequestDTO voitureRequestDTO) throws EntityNotFoundException;
 
+    VoitureResponseDTO modifier(long id, Long versionAttendue, VoitureRequestDTO voitureRequestDTO) throws EntityNotFoundException, VoitureException;
+
     List<VoitureResponseDTO> filtrer(Filtre filtre);
 }
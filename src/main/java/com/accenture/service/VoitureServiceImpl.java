@@ -6,11 +6,21 @@ import com.accenture.repository.entity.vehicules.Voiture;
 import com.accenture.service.dto.vehicules.VoitureRequestDTO;
 import com.accenture.service.dto.vehicules.VoitureResponseDTO;
 import com.accenture.service.mapper.VoitureMapper;
+import com.accenture.service.validation.ValidationRequetes;
 import com.accenture.shared.enumerations.Filtre;
-import com.accenture.shared.enumerations.NombrePortes;
 import com.accenture.shared.enumerations.Permis;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import com.accenture.service.dto.RapportImportDTO;
+import com.accenture.shared.LigneImport;
+import com.accenture.shared.Pagination;
+import com.accenture.shared.Versions;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +36,13 @@ public class VoitureServiceImpl implements VoitureService {
 
     private final VoitureDAO voitureDAO;
     private final VoitureMapper voitureMapper;
+    private final ValidationRequetes validation;
 
 
-    public VoitureServiceImpl(VoitureDAO voitureDAO, VoitureMapper voitureMapper) {
+    public VoitureServiceImpl(VoitureDAO voitureDAO, VoitureMapper voitureMapper, ValidationRequetes validation) {
         this.voitureDAO = voitureDAO;
         this.voitureMapper = voitureMapper;
+        this.validation = validation;
     }
 
     /**
@@ -41,10 +53,40 @@ public class VoitureServiceImpl implements VoitureService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<VoitureResponseDTO> trouverTous() {
-        return voitureDAO.findAll().stream()
-                .map(voitureMapper::toVoitureResponseDTO)
-                .toList();
+        return voitureDAO.trouverTousDTO();
+    }
+
+    /**
+     * Récupère une page de voitures, triée selon le {@link Pageable} fourni.
+     *
+     * @param pageable  numéro de page, taille et tri demandés.
+     * @param avecTotal {@code true} pour calculer aussi le nombre total d'éléments (requête count supplémentaire).
+     * @return un {@link PageDTO} contenant les {@link VoitureResponseDTO} de la page.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDTO<List<VoitureResponseDTO>> trouverPage(Pageable pageable, boolean avecTotal) {
+        Slice<Voiture> slice = avecTotal ? voitureDAO.findAll(pageable) : voitureDAO.findAllBy(pageable);
+        return Pagination.versPage(slice, Pagination.chacun(voitureMapper::toVoitureResponseDTO));
+    }
+
+    /**
+     * Récupère les voitures dont l'identifiant suit le curseur fourni (pagination par clé, sans OFFSET).
+     *
+     * @param curseur curseur opaque renvoyé par l'appel précédent, ou {@code null} pour commencer au début.
+     * @param taille  nombre maximal d'éléments à renvoyer.
+     * @return un {@link CurseurDTO} contenant les {@link VoitureResponseDTO} et le curseur suivant.
+     * @throws IllegalArgumentException si le curseur ou la taille n'est pas valide.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public CurseurDTO<List<VoitureResponseDTO>> trouverApresCurseur(String curseur, int taille) {
+        List<Voiture> lignes = voitureDAO.findByIdGreaterThanOrderByIdAsc(Pagination.decoder(curseur), Pagination.limite(taille));
+        return Pagination.versCurseur(lignes, taille, Voiture::getId, Pagination.chacun(voitureMapper::toVoitureResponseDTO));
     }
 
 
@@ -58,6 +100,7 @@ public class VoitureServiceImpl implements VoitureService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public VoitureResponseDTO trouver(long id) throws EntityNotFoundException {
         Optional<Voiture> optVoiture = voitureDAO.findById(id);
         if (optVoiture.isEmpty())
@@ -78,13 +121,40 @@ public class VoitureServiceImpl implements VoitureService {
 
     @Override
     public VoitureResponseDTO ajouter(VoitureRequestDTO voitureRequestDTO) throws VoitureException {
-        verifierVoiture(voitureRequestDTO);
+        validation.verifierVoiture(voitureRequestDTO);
         Voiture voiture = voitureMapper.toVoiture(voitureRequestDTO);
         assignerPermisParNbrPlaces(voitureRequestDTO, voiture);
         Voiture voitureEnreg = voitureDAO.save(voiture);
         return voitureMapper.toVoitureResponseDTO(voitureEnreg);
     }
 
+    /**
+     * Importe un lot de voitures en une seule transaction. Chaque ligne est validée comme pour {@link #ajouter} ;
+     * les lignes invalides sont rapportées et les autres sont insérées par lots JDBC (identifiants tirés de la séquence).
+     *
+     * @param lignes les voitures à importer, numérotées, éventuellement illisibles.
+     * @return un {@link RapportImportDTO} contenant le nombre de voitures importées et les lignes rejetées.
+     */
+
+    @Override
+    @Transactional
+    public RapportImportDTO importer(List<LigneImport<VoitureRequestDTO>> lignes) {
+        List<RapportImportDTO.ErreurImportDTO> erreurs = new ArrayList<>();
+        List<Voiture> voitures = new ArrayList<>(lignes.size());
+        for (LigneImport<VoitureRequestDTO> ligne : lignes) {
+            List<String> violations = ligne.violations(validation::violationsVoiture);
+            if (!violations.isEmpty()) {
+                erreurs.add(new RapportImportDTO.ErreurImportDTO(ligne.numero(), violations));
+                continue;
+            }
+            Voiture voiture = voitureMapper.toVoiture(ligne.valeur());
+            assignerPermisParNbrPlaces(ligne.valeur(), voiture);
+            voitures.add(voiture);
+        }
+        voitureDAO.saveAll(voitures);
+        return new RapportImportDTO(lignes.size(), voitures.size(), erreurs);
+    }
+
     /**
      * Supprime une voiture si elle est trouvée en base de données.
      *
@@ -116,7 +186,27 @@ public class VoitureServiceImpl implements VoitureService {
 
     @Override
     public VoitureResponseDTO modifier(long id, VoitureRequestDTO voitureRequestDTO) throws EntityNotFoundException, VoitureException {
+        return modifier(id, null, voitureRequestDTO);
+    }
+
+    /**
+     * Modifie une voiture si elle n'a pas changé depuis la version lue par le client (en-tête {@code If-Match}).
+     * Une modification concurrente validée entre la lecture et l'enregistrement est détectée par la colonne
+     * {@code version} et lève une {@link org.springframework.dao.OptimisticLockingFailureException}.
+     *
+     * @param id              l'identifiant de la voiture à modifier
+     * @param versionAttendue la version attendue, ou {@code null} pour ne pas vérifier
+     * @param voitureRequestDTO les nouvelles données de la voiture à mettre à jour
+     * @return un objet {@link VoitureResponseDTO} représentant la voiture mise à jour, avec sa nouvelle version
+     * @throws EntityNotFoundException  si la voiture avec l'identifiant donné n'existe pas
+     * @throws VoitureException         si la voiture est retirée du parc et ne peut être modifiée
+     * @throws com.accenture.exception.VersionObsoleteException si la version attendue n'est plus la version courante
+     */
+
+    @Override
+    public VoitureResponseDTO modifier(long id, Long versionAttendue, VoitureRequestDTO voitureRequestDTO) throws EntityNotFoundException, VoitureException {
         Voiture voitureExistant = trouverVoitureParID(id);
+        Versions.verifier(versionAttendue, voitureExistant.getVersion());
         Voiture nouveau = voitureMapper.toVoiture(voitureRequestDTO);
         if (voitureExistant.getRetireDuParc())
             throw new VoitureException("Une voiture retirée du parc ne peut pas être modifier");
@@ -129,6 +219,7 @@ public class VoitureServiceImpl implements VoitureService {
 
     /**
      * Filtre les voitures en fonction de leur statut : actif, inactif, dans le parc ou hors du parc.
+     * Le filtre est appliqué par la requête en base : seules les voitures retenues sont lues, directement sous forme de DTO.
      *
      * @param filtre une valeur de l'énumération {@link Filtre} définissant le critère de filtrage
      * @return une liste de {@link VoitureResponseDTO} contenant les voitures correspondant au filtre appliqué
@@ -136,34 +227,15 @@ public class VoitureServiceImpl implements VoitureService {
      */
 
     @Override
-    public List<VoitureResponseDTO> filtrer(Filtre filtre){
-    List<Voiture> listeVoitures = voitureDAO.findAll();
-    List<VoitureResponseDTO> result =
-            switch (filtre){
-                case ACTIF ->
-                    listeVoitures.stream()
-                            .filter(Voiture::getActif)
-                            .map(voitureMapper::toVoitureResponseDTO)
-                            .toList();
-                case INACTIF ->
-                    listeVoitures.stream()
-                            .filter(voiture -> !voiture.getActif() )
-                            .map(voitureMapper::toVoitureResponseDTO)
-                            .toList();
-                case HORSPARC ->
-                        listeVoitures.stream()
-                                .filter(Voiture::getRetireDuParc)
-                                .map(voitureMapper::toVoitureResponseDTO)
-                                .toList();
-                case DANSLEPARC ->
-                        listeVoitures.stream()
-                                .filter(voiture -> !voiture.getRetireDuParc())
-                                .map(voitureMapper::toVoitureResponseDTO)
-                                .toList();
-                default ->
-                        throw new IllegalArgumentException(STR."Le filtre n'est pas disponible\{filtre}");
-            };
-        return result;
+    @Transactional(readOnly = true)
+    public List<VoitureResponseDTO> filtrer(Filtre filtre) {
+        return switch (filtre) {
+            case ACTIF -> voitureDAO.trouverDTOParActif(true);
+            case INACTIF -> voitureDAO.trouverDTOParActif(false);
+            case HORSPARC -> voitureDAO.trouverDTOParRetireDuParc(true);
+            case DANSLEPARC -> voitureDAO.trouverDTOParRetireDuParc(false);
+            default -> throw new IllegalArgumentException(STR."Le filtre n'est pas disponible\{filtre}");
+        };
     }
 
 
@@ -208,33 +280,6 @@ public class VoitureServiceImpl implements VoitureService {
     }
 
 
-    private static void verifierVoiture(VoitureRequestDTO voitureRequestDTO) {
-        if (voitureRequestDTO == null)
-            throw new VoitureException("La voiture est null");
-        if (voitureRequestDTO.marque() == null || voitureRequestDTO.marque().isBlank())
-            throw new VoitureException("La marque est obligatoire");
-        if (voitureRequestDTO.modele() == null || voitureRequestDTO.modele().isBlank())
-            throw new VoitureException("Le modèle est obligatoire");
-        if (voitureRequestDTO.couleur() == null || voitureRequestDTO.couleur().isBlank())
-            throw new VoitureException("La couleur du véhicule est obligatoire");
-        if (voitureRequestDTO.nbrPortes() != NombrePortes.TROIS && voitureRequestDTO.nbrPortes() != NombrePortes.CINQ)
-            throw new VoitureException("Le nombre de portes (3 ou 5) est obligatoire");
-        if (voitureRequestDTO.carburant() == null)
-            throw new VoitureException("Le carburant est obligatoire");
-        if (voitureRequestDTO.transmission() == null)
-            throw new VoitureException("Le type de transmission est obligatoire");
-        if (voitureRequestDTO.clim() == null)
-            throw new VoitureException("La présence ou non de clim est obligatoire");
-        if (voitureRequestDTO.bagages() <= 0)
-            throw new VoitureException("Le modèle est obligatoire");
-        if (voitureRequestDTO.type() == null)
-            throw new VoitureException("Le type de voiture  est obligatoire");
-        if (voitureRequestDTO.nbrPlaces() <= 0 || voitureRequestDTO.nbrPlaces() >= 17)
-            throw new VoitureException("Le nombre de passager doit être cohérent");
-
-    }
-
-
     private static void assignerPermisParNbrPlaces(VoitureRequestDTO voitureRequestDTO, Voiture voiture) {
         if (voitureRequestDTO.nbrPlaces() > 0 && voitureRequestDTO.nbrPlaces() <10) {
             voiture.setPermis(Permis.B);
@@ -0,0 +1,142 @@
+package com.accenture.service.cycle;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.service.disponibilite.CalendrierDisponibilite;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.kilometrage.KilometrageFlotte;
+import com.accenture.shared.enumerations.EtatLocation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transitions automatiques du cycle de vie des locations, exécutées chaque nuit
+ * ({@code location.transitions.cron}, "-" pour désactiver) :
+ * <ul>
+ *     <li>{@value #EXPIRATION} : une réservation non validée dont la date de début est atteinte est annulée ;</li>
+ *     <li>{@value #DEMARRAGE} : une location validée dont la date de début est atteinte passe en cours ;</li>
+ *     <li>{@value #CLOTURE} : une location rendue est clôturée, ses kilomètres sont ajoutés au compteur du véhicule
+ *     et au kilométrage pré-agrégé ({@link KilometrageFlotte}).</li>
+ * </ul>
+ * Chaque transition est appliquée par lots de {@code location.transitions.taille-lot} locations, une transaction
+ * par lot : les identifiants du lot sont verrouillés ({@code FOR UPDATE SKIP LOCKED}) puis modifiés par des UPDATE
+ * ensemblistes, sans charger les entités. Plusieurs instances peuvent donc exécuter le traitement en même temps.
+ * Sont mesurés la durée de chaque lot (timer {@value #TIMER_LOT}) et le nombre de locations modifiées
+ * (compteur {@value #COMPTEUR_LIGNES}), étiquetés par transition.
+ */
+
+@Slf4j
+@Component
+public class TransitionsLocations {
+
+    public static final String TIMER_LOT = "location.transitions.lot";
+    public static final String COMPTEUR_LIGNES = "location.transitions.lignes";
+    public static final String EXPIRATION = "expiration";
+    public static final String DEMARRAGE = "demarrage";
+    public static final String CLOTURE = "cloture";
+
+    private final LocationDAO locationDAO;
+    private final VehiculeDAO vehiculeDAO;
+    private final KilometrageFlotte kilometrageFlotte;
+    private final TransactionTemplate transaction;
+    private final ObjectProvider<IndexDisponibilite> indexDisponibilite;
+    private final ObjectProvider<CalendrierDisponibilite> calendrierDisponibilite;
+    private final MeterRegistry registry;
+    private final int tailleLot;
+
+
+    public TransitionsLocations(LocationDAO locationDAO, VehiculeDAO vehiculeDAO, KilometrageFlotte kilometrageFlotte,
+                                PlatformTransactionManager transactionManager,
+                                ObjectProvider<IndexDisponibilite> indexDisponibilite,
+                                ObjectProvider<CalendrierDisponibilite> calendrierDisponibilite, MeterRegistry registry,
+                                @Value("${location.transitions.taille-lot:1000}") int tailleLot) {
+        this.locationDAO = locationDAO;
+        this.vehiculeDAO = vehiculeDAO;
+        this.kilometrageFlotte = kilometrageFlotte;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.indexDisponibilite = indexDisponibilite;
+        this.calendrierDisponibilite = calendrierDisponibilite;
+        this.registry = registry;
+        this.tailleLot = tailleLot;
+    }
+
+    @Scheduled(cron = "${location.transitions.cron:0 0 2 * * *}")
+    public void executer() {
+        executer(LocalDate.now());
+    }
+
+    /**
+     * Applique toutes les transitions dues au jour donné.
+     *
+     * @param jour date de référence.
+     * @return le nombre de locations modifiées par transition.
+     */
+    public Map<String, Long> executer(LocalDate jour) {
+        Map<String, Long> lignes = new LinkedHashMap<>();
+        lignes.put(EXPIRATION, transitionner(EXPIRATION, EtatLocation.RESERVER, EtatLocation.ANNULEE, jour));
+        lignes.put(DEMARRAGE, transitionner(DEMARRAGE, EtatLocation.VALIDER, EtatLocation.EN_COURS, jour));
+        lignes.put(CLOTURE, transitionner(CLOTURE, EtatLocation.RENDUE, EtatLocation.CLOTUREE, jour));
+        log.info("Transitions des locations au {} : {}", jour, lignes);
+        return lignes;
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private long transitionner(String transition, EtatLocation source, EtatLocation cible, LocalDate jour) {
+        Timer timer = Timer.builder(TIMER_LOT).tag("transition", transition).publishPercentileHistogram().register(registry);
+        long total = 0;
+        int taille;
+        do {
+            Timer.Sample debut = Timer.start(registry);
+            List<Long> lot = transaction.execute(statut -> traiterLot(source, cible, jour));
+            debut.stop(timer);
+            taille = lot.size();
+            total += taille;
+            registry.counter(COMPTEUR_LIGNES, "transition", transition).increment(taille);
+            if (cible == EtatLocation.ANNULEE && taille > 0)
+                liberer(lot);
+        } while (taille == tailleLot);
+        return total;
+    }
+
+    private List<Long> traiterLot(EtatLocation source, EtatLocation cible, LocalDate jour) {
+        List<Long> lot = locationDAO.verrouillerLot(source.name(), jour, tailleLot);
+        if (lot.isEmpty())
+            return lot;
+        if (cible == EtatLocation.CLOTUREE) {
+            vehiculeDAO.ajouterKilometrage(lot);
+            kilometrageFlotte.cumuler(lot);
+        }
+        locationDAO.changerEtat(lot, cible.name());
+        return lot;
+    }
+
+    /**
+     * Les locations annulées ne bloquent plus leur véhicule : elles sont retirées de l'index de disponibilité
+     * (après le commit du lot) et du calendrier.
+     */
+    private void liberer(List<Long> lot) {
+        IndexDisponibilite index = indexDisponibilite.getIfAvailable();
+        if (index != null)
+            lot.forEach(index::retirerLocation);
+        CalendrierDisponibilite calendrier = calendrierDisponibilite.getIfAvailable();
+        if (calendrier != null)
+            lot.forEach(calendrier::retirerLocation);
+    }
+}
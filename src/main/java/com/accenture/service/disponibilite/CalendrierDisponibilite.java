@@ -0,0 +1,383 @@
+package com.accenture.service.disponibilite;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.vehicules.CalendrierDTO;
+import com.accenture.service.dto.vehicules.CalendrierVehiculeDTO;
+import com.accenture.service.dto.vehicules.DisponibiliteJourDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.Filtre;
+import com.accenture.shared.enumerations.Type;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Moteur de disponibilité journalière de toute la flotte.
+ * Les locations sont projetées sur un horizon glissant (365 jours par défaut à partir d'aujourd'hui) sous forme de
+ * bitsets : un bitset de jours occupés par véhicule, et un bitset de véhicules occupés par jour.
+ * Les filtres ({@link Type}, {@link Filtre}) sont eux aussi des bitsets de véhicules, combinés par ET/OU,
+ * ce qui permet de calculer une matrice de disponibilité ou un nombre de véhicules libres par jour
+ * sans parcourir les locations.
+ * Chaque modification de location ou de véhicule signalée par {@link DisponibiliteListener} ne touche que les bits
+ * du véhicule et des jours concernés. L'instantané n'est reconstruit entièrement que lorsqu'il dépasse sa durée de
+ * validité, au changement de jour ou sur demande explicite ({@link #invalider()}) ; les mises à jour reçues pendant
+ * la reconstruction sont rejouées sur le nouvel instantané.
+ */
+
+@Slf4j
+@Component
+public class CalendrierDisponibilite implements MiseAJourDisponibilite {
+
+    private final LocationDAO locationDAO;
+    private final VehiculeDAO vehiculeDAO;
+    private final int horizonJours;
+    private final Duration dureeValidite;
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+    private final Object reconstruction = new Object();
+
+    private volatile Instantane instantane;
+    private volatile boolean invalide = true;
+    private List<Consumer<Instantane>> misesAJourPendantReconstruction;
+
+
+    public CalendrierDisponibilite(LocationDAO locationDAO, VehiculeDAO vehiculeDAO,
+                                   @Value("${location.calendrier.horizon-jours:365}") int horizonJours,
+                                   @Value("${location.calendrier.duree-validite:PT5M}") Duration dureeValidite) {
+        this.locationDAO = locationDAO;
+        this.vehiculeDAO = vehiculeDAO;
+        this.horizonJours = horizonJours;
+        this.dureeValidite = dureeValidite;
+    }
+
+    /**
+     * Calcule, pour chaque véhicule correspondant aux critères, ses jours libres sur la période demandée.
+     *
+     * @param dateDebut premier jour de la période (inclus).
+     * @param dateFin   dernier jour de la période (exclu).
+     * @param type      type de véhicule, ou {@code null} pour tous les types.
+     * @param filtre    filtre de statut, ou {@code null} pour tous les véhicules.
+     * @return un {@link CalendrierDTO} contenant une ligne par véhicule.
+     * @throws IllegalArgumentException si la période est vide ou sort de l'horizon du calendrier.
+     */
+    public CalendrierDTO calculerMatrice(LocalDate dateDebut, LocalDate dateFin, Type type, Filtre filtre) {
+        return lire(courant -> {
+            int debut = courant.indexJour(dateDebut);
+            int fin = courant.indexJour(dateFin);
+            verifierPeriode(debut, fin);
+            int nbJours = fin - debut;
+
+            BitSet masque = courant.masque(type, filtre);
+            List<CalendrierVehiculeDTO> lignes = new ArrayList<>(masque.cardinality());
+            for (int rang = masque.nextSetBit(0); rang >= 0; rang = masque.nextSetBit(rang + 1)) {
+                BitSet libres = courant.occupationParVehicule.get(rang).get(debut, fin);
+                libres.flip(0, nbJours);
+                lignes.add(new CalendrierVehiculeDTO(courant.vehicules.get(rang).id(), enChaine(libres, nbJours)));
+            }
+            return new CalendrierDTO(dateDebut, dateFin, lignes);
+        });
+    }
+
+    /**
+     * Compte, pour chaque jour de la période, le nombre de véhicules libres correspondant aux critères.
+     *
+     * @param dateDebut premier jour de la période (inclus).
+     * @param dateFin   dernier jour de la période (exclu).
+     * @param type      type de véhicule, ou {@code null} pour tous les types.
+     * @param filtre    filtre de statut, ou {@code null} pour tous les véhicules.
+     * @return une liste de {@link DisponibiliteJourDTO}, un élément par jour.
+     * @throws IllegalArgumentException si la période est vide ou sort de l'horizon du calendrier.
+     */
+    public List<DisponibiliteJourDTO> compterLibresParJour(LocalDate dateDebut, LocalDate dateFin, Type type, Filtre filtre) {
+        return lire(courant -> {
+            int debut = courant.indexJour(dateDebut);
+            int fin = courant.indexJour(dateFin);
+            verifierPeriode(debut, fin);
+
+            BitSet masque = courant.masque(type, filtre);
+            List<DisponibiliteJourDTO> resultat = new ArrayList<>(fin - debut);
+            for (int jour = debut; jour < fin; jour++) {
+                BitSet libres = (BitSet) masque.clone();
+                libres.andNot(courant.occupationParJour[jour]);
+                resultat.add(new DisponibiliteJourDTO(courant.origine.plusDays(jour), libres.cardinality()));
+            }
+            return resultat;
+        });
+    }
+
+    @Override
+    public void enregistrerLocation(PeriodeLocationDTO periode) {
+        appliquer(courant -> courant.enregistrerLocation(periode));
+    }
+
+    @Override
+    public void retirerLocation(long locationId) {
+        appliquer(courant -> courant.retirerLocation(locationId));
+    }
+
+    @Override
+    public void enregistrerVehicule(VehiculeIndexeDTO vehicule) {
+        appliquer(courant -> courant.enregistrerVehicule(vehicule));
+    }
+
+    @Override
+    public void retirerVehicule(long vehiculeId) {
+        appliquer(courant -> courant.retirerVehicule(vehiculeId));
+    }
+
+    /**
+     * Demande une reconstruction complète de l'instantané au prochain appel.
+     */
+    public void invalider() {
+        invalide = true;
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private <T> T lire(Function<Instantane, T> lecture) {
+        actualiser();
+        verrou.readLock().lock();
+        try {
+            return lecture.apply(instantane);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applique une mise à jour à l'instantané courant ; pendant une reconstruction, elle est aussi conservée
+     * pour être rejouée sur le nouvel instantané.
+     */
+    private void appliquer(Consumer<Instantane> miseAJour) {
+        verrou.writeLock().lock();
+        try {
+            if (instantane != null)
+                miseAJour.accept(instantane);
+            if (misesAJourPendantReconstruction != null)
+                misesAJourPendantReconstruction.add(miseAJour);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    private void actualiser() {
+        if (!estPerime(instantane))
+            return;
+        synchronized (reconstruction) {
+            if (!estPerime(instantane))
+                return;
+            verrou.writeLock().lock();
+            try {
+                invalide = false;
+                misesAJourPendantReconstruction = new ArrayList<>();
+            } finally {
+                verrou.writeLock().unlock();
+            }
+            try {
+                Instantane nouveau = construire();
+                verrou.writeLock().lock();
+                try {
+                    misesAJourPendantReconstruction.forEach(miseAJour -> miseAJour.accept(nouveau));
+                    instantane = nouveau;
+                } finally {
+                    verrou.writeLock().unlock();
+                }
+            } finally {
+                verrou.writeLock().lock();
+                try {
+                    misesAJourPendantReconstruction = null;
+                } finally {
+                    verrou.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private boolean estPerime(Instantane courant) {
+        return courant == null || invalide || !courant.origine.equals(LocalDate.now())
+                || !courant.construction.plus(dureeValidite).isAfter(Instant.now());
+    }
+
+    private Instantane construire() {
+        LocalDate origine = LocalDate.now();
+        List<VehiculeIndexeDTO> vehicules = vehiculeDAO.trouverTousIndexes();
+        Instantane nouveau = new Instantane(origine, vehicules, horizonJours);
+        for (PeriodeLocationDTO periode : locationDAO.trouverPeriodesEntre(origine, origine.plusDays(horizonJours)))
+            nouveau.enregistrerLocation(periode);
+        log.info("Calendrier de disponibilité construit : {} véhicules sur {} jours", vehicules.size(), horizonJours);
+        return nouveau;
+    }
+
+    private void verifierPeriode(int debut, int fin) {
+        if (debut < 0 || fin > horizonJours || debut >= fin)
+            throw new IllegalArgumentException(STR."La période doit être comprise dans les \{horizonJours} prochains jours");
+    }
+
+    private static String enChaine(BitSet jours, int nbJours) {
+        char[] caracteres = new char[nbJours];
+        for (int i = 0; i < nbJours; i++)
+            caracteres[i] = jours.get(i) ? '1' : '0';
+        return new String(caracteres);
+    }
+
+
+    /**
+     * Occupation de la flotte sur l'horizon, modifiée uniquement sous le verrou d'écriture.
+     * Un véhicule retiré garde son rang (les rangs ne sont jamais réattribués) mais sort du bitset des présents.
+     */
+    private static final class Instantane {
+
+        private final LocalDate origine;
+        private final Instant construction = Instant.now();
+        private final int horizon;
+        private final List<VehiculeIndexeDTO> vehicules;
+        private final Map<Long, Integer> rangParVehicule = new HashMap<>();
+        private final List<BitSet> occupationParVehicule;
+        private final BitSet[] occupationParJour;
+        private final Map<Type, BitSet> vehiculesParType = new EnumMap<>(Type.class);
+        private final BitSet presents = new BitSet();
+        private final BitSet actifs = new BitSet();
+        private final BitSet retires = new BitSet();
+        private final Map<Long, PeriodeLocationDTO> locations = new HashMap<>();
+        private final Map<Long, Set<Long>> locationsParVehicule = new HashMap<>();
+
+        Instantane(LocalDate origine, List<VehiculeIndexeDTO> vehicules, int horizon) {
+            this.origine = origine;
+            this.horizon = horizon;
+            this.vehicules = new ArrayList<>(vehicules.size());
+            this.occupationParVehicule = new ArrayList<>(vehicules.size());
+            this.occupationParJour = new BitSet[horizon];
+            for (int jour = 0; jour < horizon; jour++)
+                occupationParJour[jour] = new BitSet(vehicules.size());
+            vehicules.forEach(this::enregistrerVehicule);
+        }
+
+        void enregistrerVehicule(VehiculeIndexeDTO vehicule) {
+            Integer existant = rangParVehicule.get(vehicule.id());
+            int rang;
+            if (existant == null) {
+                rang = this.vehicules.size();
+                rangParVehicule.put(vehicule.id(), rang);
+                this.vehicules.add(vehicule);
+                occupationParVehicule.add(new BitSet(horizon));
+            } else {
+                rang = existant;
+                this.vehicules.set(rang, vehicule);
+                vehiculesParType.values().forEach(bits -> bits.clear(rang));
+            }
+            presents.set(rang);
+            if (vehicule.type() != null)
+                vehiculesParType.computeIfAbsent(vehicule.type(), t -> new BitSet()).set(rang);
+            actifs.set(rang, Boolean.TRUE.equals(vehicule.actif()));
+            retires.set(rang, Boolean.TRUE.equals(vehicule.retireDuParc()));
+        }
+
+        void retirerVehicule(long vehiculeId) {
+            Integer rang = rangParVehicule.remove(vehiculeId);
+            if (rang == null)
+                return;
+            Set<Long> ids = locationsParVehicule.remove(vehiculeId);
+            if (ids != null)
+                ids.forEach(locations::remove);
+            BitSet occupation = occupationParVehicule.get(rang);
+            for (int jour = occupation.nextSetBit(0); jour >= 0; jour = occupation.nextSetBit(jour + 1))
+                occupationParJour[jour].clear(rang);
+            occupation.clear();
+            presents.clear(rang);
+            actifs.clear(rang);
+            retires.clear(rang);
+            vehiculesParType.values().forEach(bits -> bits.clear(rang));
+            vehicules.set(rang, null);
+        }
+
+        void enregistrerLocation(PeriodeLocationDTO periode) {
+            retirerLocation(periode.locationId());
+            Integer rang = rangParVehicule.get(periode.vehiculeId());
+            if (rang == null || debut(periode) >= fin(periode))
+                return;
+            locations.put(periode.locationId(), periode);
+            locationsParVehicule.computeIfAbsent(periode.vehiculeId(), id -> new HashSet<>()).add(periode.locationId());
+            marquer(rang, debut(periode), fin(periode));
+        }
+
+        /**
+         * Libère les jours de la location, puis remarque ceux des autres locations du véhicule sur ces jours.
+         */
+        void retirerLocation(long locationId) {
+            PeriodeLocationDTO ancienne = locations.remove(locationId);
+            if (ancienne == null)
+                return;
+            Set<Long> autres = locationsParVehicule.get(ancienne.vehiculeId());
+            if (autres != null) {
+                autres.remove(locationId);
+                if (autres.isEmpty())
+                    locationsParVehicule.remove(ancienne.vehiculeId());
+            }
+            Integer rang = rangParVehicule.get(ancienne.vehiculeId());
+            if (rang == null)
+                return;
+            int debut = debut(ancienne);
+            int fin = fin(ancienne);
+            occupationParVehicule.get(rang).clear(debut, fin);
+            for (int jour = debut; jour < fin; jour++)
+                occupationParJour[jour].clear(rang);
+            if (autres != null) {
+                for (long autre : autres) {
+                    PeriodeLocationDTO periode = locations.get(autre);
+                    marquer(rang, Math.max(debut, debut(periode)), Math.min(fin, fin(periode)));
+                }
+            }
+        }
+
+        int indexJour(LocalDate date) {
+            return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, ChronoUnit.DAYS.between(origine, date)));
+        }
+
+        BitSet masque(Type type, Filtre filtre) {
+            BitSet masque = (BitSet) presents.clone();
+            if (type != null)
+                masque.and(vehiculesParType.getOrDefault(type, new BitSet()));
+            if (filtre != null) {
+                switch (filtre) {
+                    case ACTIF -> masque.and(actifs);
+                    case INACTIF -> masque.andNot(actifs);
+                    case HORSPARC -> masque.and(retires);
+                    case DANSLEPARC -> masque.andNot(retires);
+                    default -> throw new IllegalArgumentException(STR."Le filtre n'est pas disponible\{filtre}");
+                }
+            }
+            return masque;
+        }
+
+        private void marquer(int rang, int debut, int fin) {
+            if (debut >= fin)
+                return;
+            occupationParVehicule.get(rang).set(debut, fin);
+            for (int jour = debut; jour < fin; jour++)
+                occupationParJour[jour].set(rang);
+        }
+
+        private int debut(PeriodeLocationDTO periode) {
+            return Math.max(0, indexJour(periode.dateDebut()));
+        }
+
+        private int fin(PeriodeLocationDTO periode) {
+            return Math.min(horizon, indexJour(periode.dateFin()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.accenture.service.disponibilite;
+
+import com.accenture.repository.entity.utilisateurs.Location;
+import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.EtatLocation;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Listener JPA qui répercute dans l'{@link IndexDisponibilite} et le {@link CalendrierDisponibilite} les modifications
+ * des entités {@link Location} et {@link Vehicule}, sans reconstruire ni l'un ni l'autre.
+ * Les mises à jour ne sont appliquées qu'après le commit de la transaction, afin qu'un rollback
+ * ne laisse pas l'index dans un état différent de la base. Une location annulée est retirée de l'index.
+ * Si l'index n'est pas activé, seul le calendrier est mis à jour.
+ */
+
+@Component
+public class DisponibiliteListener {
+
+    private final ObjectProvider<IndexDisponibilite> indexDisponibilite;
+    private final ObjectProvider<CalendrierDisponibilite> calendrierDisponibilite;
+
+    public DisponibiliteListener(ObjectProvider<IndexDisponibilite> indexDisponibilite,
+                                 ObjectProvider<CalendrierDisponibilite> calendrierDisponibilite) {
+        this.indexDisponibilite = indexDisponibilite;
+        this.calendrierDisponibilite = calendrierDisponibilite;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void apresEnregistrement(Object entite) {
+        if (entite instanceof Location location) {
+            if (location.getEtatLocation() == EtatLocation.ANNULEE) {
+                long locationId = location.getId();
+                apresCommit(structure -> structure.retirerLocation(locationId));
+                return;
+            }
+            if (location.getVehicule() == null || location.getDateDebut() == null || location.getDateFin() == null)
+                return;
+            PeriodeLocationDTO periode = new PeriodeLocationDTO(location.getId(), location.getVehicule().getId(),
+                    location.getDateDebut(), location.getDateFin());
+            apresCommit(structure -> structure.enregistrerLocation(periode));
+        } else if (entite instanceof Vehicule vehicule) {
+            VehiculeIndexeDTO vehiculeIndexe = new VehiculeIndexeDTO(vehicule.getId(), vehicule.getType(), vehicule instanceof Moto,
+                    vehicule.getActif(), vehicule.getRetireDuParc());
+            apresCommit(structure -> structure.enregistrerVehicule(vehiculeIndexe));
+        }
+    }
+
+    @PostRemove
+    public void apresSuppression(Object entite) {
+        if (entite instanceof Location location) {
+            long locationId = location.getId();
+            apresCommit(structure -> structure.retirerLocation(locationId));
+        } else if (entite instanceof Vehicule vehicule) {
+            long vehiculeId = vehicule.getId();
+            apresCommit(structure -> structure.retirerVehicule(vehiculeId));
+        }
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private void apresCommit(Consumer<MiseAJourDisponibilite> action) {
+        IndexDisponibilite index = indexDisponibilite.getIfAvailable();
+        CalendrierDisponibilite calendrier = calendrierDisponibilite.getIfAvailable();
+        Runnable miseAJour = () -> {
+            if (index != null)
+                action.accept(index);
+            if (calendrier != null)
+                action.accept(calendrier);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            miseAJour.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                miseAJour.run();
+            }
+        });
+    }
+}
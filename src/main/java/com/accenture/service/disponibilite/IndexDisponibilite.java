@@ -0,0 +1,296 @@
+package com.accenture.service.disponibilite;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.VerificationIndexDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.Type;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index de disponibilité des véhicules conservé en mémoire.
+ * Pour chaque véhicule, les locations sont triées par date de début ; la recherche d'un chevauchement
+ * sur une période ne parcourt donc que les locations commençant dans la fenêtre
+ * [dateDebut - durée maximale, dateFin[.
+ * L'index est construit au démarrage à partir de {@link LocationDAO} puis tenu à jour par
+ * {@link DisponibiliteListener} à chaque création, modification ou suppression de location ou de véhicule.
+ * Les mises à jour reçues pendant une reconstruction sont conservées et rejouées sur le nouvel index,
+ * afin qu'une modification validée après la lecture de la base ne soit pas perdue.
+ * Il n'est activé que si la propriété {@code location.index-disponibilite.actif} vaut {@code true}.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "location.index-disponibilite.actif", havingValue = "true")
+public class IndexDisponibilite implements MiseAJourDisponibilite {
+
+    private final LocationDAO locationDAO;
+    private final VehiculeDAO vehiculeDAO;
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    private Map<Long, VehiculeIndexeDTO> vehicules = new HashMap<>();
+    private Map<Long, PeriodeLocationDTO> locations = new HashMap<>();
+    private Map<Long, ReservationsVehicule> reservationsParVehicule = new HashMap<>();
+    private List<Runnable> misesAJourPendantReconstruction;
+
+
+    public IndexDisponibilite(LocationDAO locationDAO, VehiculeDAO vehiculeDAO) {
+        this.locationDAO = locationDAO;
+        this.vehiculeDAO = vehiculeDAO;
+    }
+
+    /**
+     * Reconstruit entièrement l'index à partir de la base de données.
+     * Le nouvel index est préparé hors verrou puis substitué à l'ancien en une seule opération ; les mises à jour
+     * appliquées entre-temps sont rejouées sur le nouvel index avant que le verrou ne soit relâché.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruire() {
+        verrou.writeLock().lock();
+        try {
+            misesAJourPendantReconstruction = new ArrayList<>();
+        } finally {
+            verrou.writeLock().unlock();
+        }
+        try {
+            substituer();
+        } finally {
+            verrou.writeLock().lock();
+            try {
+                misesAJourPendantReconstruction = null;
+            } finally {
+                verrou.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Recherche les identifiants des véhicules libres sur la période demandée.
+     *
+     * @param dateDebut       date de début de la période.
+     * @param dateFin         date de fin de la période.
+     * @param type            type de véhicule recherché, ou {@code null} pour tous les types.
+     * @param inclureMotos    {@code true} pour inclure les motos.
+     * @param inclureVoitures {@code true} pour inclure les voitures.
+     * @return la liste des identifiants des véhicules disponibles.
+     */
+    public List<Long> trouverVehiculesLibres(LocalDate dateDebut, LocalDate dateFin, Type type, boolean inclureMotos, boolean inclureVoitures) {
+        verrou.readLock().lock();
+        try {
+            List<Long> idsLibres = new ArrayList<>();
+            for (VehiculeIndexeDTO vehicule : vehicules.values()) {
+                if (vehicule.moto() ? !inclureMotos : !inclureVoitures)
+                    continue;
+                if (type != null && type != vehicule.type())
+                    continue;
+                ReservationsVehicule reservations = reservationsParVehicule.get(vehicule.id());
+                if (reservations == null || !reservations.chevauche(dateDebut, dateFin))
+                    idsLibres.add(vehicule.id());
+            }
+            return idsLibres;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ajoute ou met à jour une location dans l'index.
+     *
+     * @param periode la période de location à enregistrer.
+     */
+    @Override
+    public void enregistrerLocation(PeriodeLocationDTO periode) {
+        appliquer(() -> {
+            retirerLocationSansVerrou(periode.locationId());
+            locations.put(periode.locationId(), periode);
+            reservationsParVehicule.computeIfAbsent(periode.vehiculeId(), id -> new ReservationsVehicule()).ajouter(periode);
+        });
+    }
+
+    /**
+     * Retire une location de l'index.
+     *
+     * @param locationId l'identifiant de la location supprimée.
+     */
+    @Override
+    public void retirerLocation(long locationId) {
+        appliquer(() -> retirerLocationSansVerrou(locationId));
+    }
+
+    /**
+     * Ajoute ou met à jour un véhicule dans l'index.
+     *
+     * @param vehicule le véhicule à enregistrer.
+     */
+    @Override
+    public void enregistrerVehicule(VehiculeIndexeDTO vehicule) {
+        appliquer(() -> vehicules.put(vehicule.id(), vehicule));
+    }
+
+    /**
+     * Retire un véhicule et ses locations de l'index.
+     *
+     * @param vehiculeId l'identifiant du véhicule supprimé.
+     */
+    @Override
+    public void retirerVehicule(long vehiculeId) {
+        appliquer(() -> {
+            vehicules.remove(vehiculeId);
+            ReservationsVehicule reservations = reservationsParVehicule.remove(vehiculeId);
+            if (reservations != null)
+                reservations.identifiants().forEach(locations::remove);
+        });
+    }
+
+    /**
+     * Compare le contenu de l'index avec les locations présentes en base.
+     *
+     * @return un {@link VerificationIndexDTO} décrivant les écarts éventuels.
+     */
+    public VerificationIndexDTO verifier() {
+        Map<Long, PeriodeLocationDTO> locationsBase = new HashMap<>();
+        for (PeriodeLocationDTO periode : locationDAO.trouverToutesLesPeriodes())
+            locationsBase.put(periode.locationId(), periode);
+
+        Map<Long, PeriodeLocationDTO> locationsIndex;
+        verrou.readLock().lock();
+        try {
+            locationsIndex = new HashMap<>(locations);
+        } finally {
+            verrou.readLock().unlock();
+        }
+
+        List<Long> manquantes = locationsBase.entrySet().stream()
+                .filter(entree -> !entree.getValue().equals(locationsIndex.get(entree.getKey())))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        List<Long> enTrop = locationsIndex.entrySet().stream()
+                .filter(entree -> !entree.getValue().equals(locationsBase.get(entree.getKey())))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        boolean coherent = manquantes.isEmpty() && enTrop.isEmpty();
+        if (!coherent)
+            log.warn("Index de disponibilité incohérent : {} manquantes, {} en trop", manquantes.size(), enTrop.size());
+        return new VerificationIndexDTO(coherent, locationsIndex.size(), locationsBase.size(), manquantes, enTrop);
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private void substituer() {
+        Map<Long, VehiculeIndexeDTO> nouveauxVehicules = new HashMap<>();
+        for (VehiculeIndexeDTO vehicule : vehiculeDAO.trouverTousIndexes())
+            nouveauxVehicules.put(vehicule.id(), vehicule);
+
+        Map<Long, PeriodeLocationDTO> nouvellesLocations = new HashMap<>();
+        Map<Long, ReservationsVehicule> nouvellesReservations = new HashMap<>();
+        for (PeriodeLocationDTO periode : locationDAO.trouverToutesLesPeriodes()) {
+            nouvellesLocations.put(periode.locationId(), periode);
+            nouvellesReservations.computeIfAbsent(periode.vehiculeId(), id -> new ReservationsVehicule()).ajouter(periode);
+        }
+
+        int nbRejouees;
+        verrou.writeLock().lock();
+        try {
+            vehicules = nouveauxVehicules;
+            locations = nouvellesLocations;
+            reservationsParVehicule = nouvellesReservations;
+            misesAJourPendantReconstruction.forEach(Runnable::run);
+            nbRejouees = misesAJourPendantReconstruction.size();
+        } finally {
+            verrou.writeLock().unlock();
+        }
+        log.info("Index de disponibilité construit : {} véhicules, {} locations, {} mises à jour rejouées",
+                nouveauxVehicules.size(), nouvellesLocations.size(), nbRejouees);
+    }
+
+    /**
+     * Applique une mise à jour sous le verrou d'écriture ; pendant une reconstruction, elle est aussi conservée
+     * pour être rejouée sur le nouvel index (les mises à jour agissent sur les champs courants et sont idempotentes).
+     */
+    private void appliquer(Runnable miseAJour) {
+        verrou.writeLock().lock();
+        try {
+            miseAJour.run();
+            if (misesAJourPendantReconstruction != null)
+                misesAJourPendantReconstruction.add(miseAJour);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    private void retirerLocationSansVerrou(long locationId) {
+        PeriodeLocationDTO ancienne = locations.remove(locationId);
+        if (ancienne == null)
+            return;
+        ReservationsVehicule reservations = reservationsParVehicule.get(ancienne.vehiculeId());
+        if (reservations != null && reservations.retirer(ancienne) && reservations.estVide())
+            reservationsParVehicule.remove(ancienne.vehiculeId());
+    }
+
+
+    /**
+     * Locations d'un véhicule triées par date de début.
+     * La durée maximale observée borne la fenêtre de recherche ; elle n'est jamais réduite lors d'une suppression,
+     * ce qui reste correct (la fenêtre est seulement un peu plus large que nécessaire).
+     */
+    private static class ReservationsVehicule {
+
+        private final TreeMap<LocalDate, Map<Long, LocalDate>> finsParDebut = new TreeMap<>();
+        private long dureeMaxJours;
+
+        void ajouter(PeriodeLocationDTO periode) {
+            finsParDebut.computeIfAbsent(periode.dateDebut(), debut -> new HashMap<>())
+                    .put(periode.locationId(), periode.dateFin());
+            dureeMaxJours = Math.max(dureeMaxJours, ChronoUnit.DAYS.between(periode.dateDebut(), periode.dateFin()));
+        }
+
+        boolean retirer(PeriodeLocationDTO periode) {
+            Map<Long, LocalDate> fins = finsParDebut.get(periode.dateDebut());
+            if (fins == null || fins.remove(periode.locationId()) == null)
+                return false;
+            if (fins.isEmpty())
+                finsParDebut.remove(periode.dateDebut());
+            return true;
+        }
+
+        boolean chevauche(LocalDate dateDebut, LocalDate dateFin) {
+            LocalDate debutFenetre = dateDebut.minusDays(dureeMaxJours);
+            if (!dateFin.isAfter(debutFenetre))
+                return false;
+            for (Map<Long, LocalDate> fins : finsParDebut.subMap(debutFenetre, true, dateFin, false).values()) {
+                for (LocalDate fin : fins.values()) {
+                    if (fin.isAfter(dateDebut))
+                        return true;
+                }
+            }
+            return false;
+        }
+
+        boolean estVide() {
+            return finsParDebut.isEmpty();
+        }
+
+        List<Long> identifiants() {
+            return finsParDebut.values().stream()
+                    .flatMap(fins -> fins.keySet().stream())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.accenture.service.disponibilite;
+
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+
+/**
+ * Structure de disponibilité en mémoire tenue à jour, après chaque commit, par {@link DisponibiliteListener}
+ * (et par les traitements qui modifient les locations sans passer par JPA).
+ */
+public interface MiseAJourDisponibilite {
+
+    void enregistrerLocation(PeriodeLocationDTO periode);
+
+    void retirerLocation(long locationId);
+
+    void enregistrerVehicule(VehiculeIndexeDTO vehicule);
+
+    void retirerVehicule(long vehiculeId);
+}
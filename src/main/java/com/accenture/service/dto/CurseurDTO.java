@@ -0,0 +1,13 @@
+package com.accenture.service.dto;
+
+/**
+ * Représente une portion de résultats obtenue par curseur (pagination par clé).
+ *
+ * @param contenu        : les éléments de la portion
+ * @param curseurSuivant : curseur opaque à transmettre pour obtenir la suite, ou {@code null} s'il n'y a plus d'éléments
+ */
+public record CurseurDTO<T>(
+        T contenu,
+        String curseurSuivant
+) {
+}
@@ -1,4 +1,23 @@
 package com.accenture.service.dto;
 
-public record LocationDTO() {
+import com.accenture.shared.enumerations.EtatLocation;
+
+import java.time.LocalDate;
+
+/**
+ * @param id           : identifiant de la location
+ * @param clientId     : identifiant du client
+ * @param vehiculeId   : identifiant du véhicule loué
+ * @param dateDebut    : premier jour de la location
+ * @param dateFin      : jour de restitution
+ * @param etatLocation : état de la location
+ */
+public record LocationDTO(
+        long id,
+        Long clientId,
+        Long vehiculeId,
+        LocalDate dateDebut,
+        LocalDate dateFin,
+        EtatLocation etatLocation
+) {
 }
@@ -0,0 +1,29 @@
+package com.accenture.service.dto;
+
+import com.accenture.shared.enumerations.EtatLocation;
+
+import java.time.LocalDate;
+
+/**
+ * Ligne d'export d'une location.
+ *
+ * @param id             : identifiant de la location
+ * @param clientId       : identifiant du client
+ * @param vehiculeId     : identifiant du véhicule
+ * @param dateDebut      : date de début
+ * @param dateFin        : date de fin
+ * @param kmParcourus    : kilomètres parcourus
+ * @param dateValidation : date de validation
+ * @param etatLocation   : état de la location
+ */
+public record LocationExportDTO(
+        long id,
+        Long clientId,
+        Long vehiculeId,
+        LocalDate dateDebut,
+        LocalDate dateFin,
+        Integer kmParcourus,
+        LocalDate dateValidation,
+        EtatLocation etatLocation
+) {
+}
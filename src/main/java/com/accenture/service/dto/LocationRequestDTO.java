@@ -0,0 +1,26 @@
+package com.accenture.service.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Représente une demande de réservation d'un véhicule par le client authentifié.
+ * La période est [dateDebut, dateFin[ : le véhicule redevient disponible le jour de la fin.
+ *
+ * @param vehiculeId : identifiant du véhicule à réserver
+ * @param dateDebut  : premier jour de la location (aujourd'hui ou plus tard)
+ * @param dateFin    : jour de restitution (après la date de début)
+ */
+public record LocationRequestDTO(
+
+        @NotNull(message = "Le véhicule est obligatoire")
+        Long vehiculeId,
+
+        @NotNull(message = "La date de début est obligatoire")
+        LocalDate dateDebut,
+
+        @NotNull(message = "La date de fin est obligatoire")
+        LocalDate dateFin
+) {
+}
@@ -0,0 +1,19 @@
+package com.accenture.service.dto;
+
+/**
+ * Représente une page de résultats obtenue par pagination classique (numéro de page et taille).
+ *
+ * @param contenu       : les éléments de la page
+ * @param page          : numéro de la page (à partir de 0)
+ * @param taille        : taille demandée de la page
+ * @param pageSuivante  : {@code true} s'il existe une page suivante
+ * @param totalElements : nombre total d'éléments, ou {@code null} si le total n'a pas été demandé
+ */
+public record PageDTO<T>(
+        T contenu,
+        int page,
+        int taille,
+        boolean pageSuivante,
+        Long totalElements
+) {
+}
@@ -0,0 +1,19 @@
+package com.accenture.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Projection légère d'une location, limitée aux informations nécessaires au calcul de disponibilité.
+ *
+ * @param locationId : identifiant de la location
+ * @param vehiculeId : identifiant du véhicule loué
+ * @param dateDebut  : date de début de la location
+ * @param dateFin    : date de fin de la location
+ */
+public record PeriodeLocationDTO(
+        long locationId,
+        long vehiculeId,
+        LocalDate dateDebut,
+        LocalDate dateFin
+) {
+}
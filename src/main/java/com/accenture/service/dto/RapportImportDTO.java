@@ -0,0 +1,24 @@
+package com.accenture.service.dto;
+
+import java.util.List;
+
+/**
+ * Résultat d'un import en masse : les lignes valides sont enregistrées, les autres sont rapportées sans bloquer l'import.
+ *
+ * @param nbLignes   : nombre de lignes reçues
+ * @param nbImportes : nombre de lignes enregistrées
+ * @param erreurs    : lignes rejetées et leurs violations
+ */
+public record RapportImportDTO(
+        int nbLignes,
+        int nbImportes,
+        List<ErreurImportDTO> erreurs
+) {
+
+    /**
+     * @param ligne      : numéro de la ligne rejetée (à partir de 1, en-tête CSV exclue)
+     * @param violations : raisons du rejet
+     */
+    public record ErreurImportDTO(int ligne, List<String> violations) {
+    }
+}
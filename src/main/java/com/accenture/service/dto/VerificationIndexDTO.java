@@ -0,0 +1,21 @@
+package com.accenture.service.dto;
+
+import java.util.List;
+
+/**
+ * Résultat de la comparaison entre l'index de disponibilité en mémoire et la base de données.
+ *
+ * @param coherent             : {@code true} si l'index et la base contiennent exactement les mêmes locations
+ * @param nbLocationsIndex     : nombre de locations présentes dans l'index
+ * @param nbLocationsBase      : nombre de locations présentes en base
+ * @param locationsManquantes  : identifiants des locations présentes en base mais absentes (ou différentes) dans l'index
+ * @param locationsEnTrop      : identifiants des locations présentes dans l'index mais absentes (ou différentes) en base
+ */
+public record VerificationIndexDTO(
+        boolean coherent,
+        int nbLocationsIndex,
+        int nbLocationsBase,
+        List<Long> locationsManquantes,
+        List<Long> locationsEnTrop
+) {
+}
@@ -0,0 +1,35 @@
+package com.accenture.service.dto.utilisateurs;
+
+import com.accenture.shared.enumerations.Permis;
+
+import java.time.LocalDate;
+
+/**
+ * Ligne d'export d'un client. Le mot de passe n'est jamais exporté.
+ *
+ * @param id              : identifiant du client
+ * @param nom             : nom du client
+ * @param prenom          : prénom du client
+ * @param email           : mail du client
+ * @param dateNaissance   : date de naissance
+ * @param dateInscription : date d'inscription
+ * @param permis          : permis du client
+ * @param desactive       : compte désactivé ou non
+ * @param rue             : rue de l'adresse
+ * @param codePostal      : code postal de l'adresse
+ * @param ville           : ville de l'adresse
+ */
+public record ClientExportDTO(
+        long id,
+        String nom,
+        String prenom,
+        String email,
+        LocalDate dateNaissance,
+        LocalDate dateInscription,
+        Permis permis,
+        Boolean desactive,
+        String rue,
+        String codePostal,
+        String ville
+) {
+}
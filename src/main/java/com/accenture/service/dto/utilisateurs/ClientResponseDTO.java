@@ -15,6 +15,7 @@ import java.time.LocalDate;
  * @param adresse         : adresse du client
  * @param dateNaissance   : date de naissance du client (doit être majeur)
  * @param permis          : le ou les permis du client s'il en dispose
+ * @param version         : version du compte (verrouillage optimiste, valeur de l'ETag)
  */
 
 public record ClientResponseDTO(
@@ -25,7 +26,22 @@ public record ClientResponseDTO(
         AdresseDTO adresse,
         LocalDate dateNaissance,
         Permis permis,
-        LocalDate dateInscription
+        LocalDate dateInscription,
+        long version
 
 ) {
+
+    /**
+     * Constructeur utilisé par les projections JPQL, qui ne peuvent pas construire l'{@link AdresseDTO} imbriquée.
+     */
+    public ClientResponseDTO(long id, String nom, String prenom, String email, String rue, String codePostal, String ville,
+                             LocalDate dateNaissance, Permis permis, LocalDate dateInscription, long version) {
+        this(id, nom, prenom, email, adresse(rue, codePostal, ville), dateNaissance, permis, dateInscription, version);
+    }
+
+    private static AdresseDTO adresse(String rue, String codePostal, String ville) {
+        if (rue == null && codePostal == null && ville == null)
+            return null;
+        return new AdresseDTO(rue, codePostal, ville);
+    }
 }
@@ -0,0 +1,17 @@
+package com.accenture.service.dto.utilisateurs;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Identifiants envoyés pour obtenir un jeton de session.
+ * @param login : mail du client ou de l'administrateur
+ * @param password : mot de passe
+ */
+public record ConnexionDTO(
+        @NotBlank(message = "Le login est obligatoire")
+        String login,
+
+        @NotBlank(message = "Le mot de passe est obligatoire")
+        String password
+) {
+}
@@ -0,0 +1,16 @@
+package com.accenture.service.dto.utilisateurs;
+
+import java.time.Instant;
+
+/**
+ * Jeton de session renvoyé à la connexion, à transmettre dans l'en-tête {@code Authorization: Bearer <jeton>}.
+ * @param jeton : jeton signé
+ * @param type : type de jeton ("Bearer")
+ * @param expiration : instant au-delà duquel le jeton est refusé
+ */
+public record JetonDTO(
+        String jeton,
+        String type,
+        Instant expiration
+) {
+}
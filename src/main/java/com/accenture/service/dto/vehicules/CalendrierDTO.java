@@ -0,0 +1,18 @@
+package com.accenture.service.dto.vehicules;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Matrice de disponibilité de la flotte sur une période.
+ *
+ * @param dateDebut : premier jour de la période (inclus)
+ * @param dateFin   : dernier jour de la période (exclu)
+ * @param vehicules : la disponibilité jour par jour de chaque véhicule
+ */
+public record CalendrierDTO(
+        LocalDate dateDebut,
+        LocalDate dateFin,
+        List<CalendrierVehiculeDTO> vehicules
+) {
+}
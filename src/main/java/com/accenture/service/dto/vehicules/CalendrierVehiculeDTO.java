@@ -0,0 +1,13 @@
+package com.accenture.service.dto.vehicules;
+
+/**
+ * Disponibilité journalière d'un véhicule sur une période.
+ *
+ * @param vehiculeId  : identifiant du véhicule
+ * @param joursLibres : un caractère par jour de la période, '1' si le véhicule est libre, '0' s'il est loué
+ */
+public record CalendrierVehiculeDTO(
+        long vehiculeId,
+        String joursLibres
+) {
+}
@@ -0,0 +1,15 @@
+package com.accenture.service.dto.vehicules;
+
+import java.time.LocalDate;
+
+/**
+ * Nombre de véhicules libres pour un jour donné.
+ *
+ * @param jour              : le jour concerné
+ * @param nbVehiculesLibres : nombre de véhicules sans location ce jour-là
+ */
+public record DisponibiliteJourDTO(
+        LocalDate jour,
+        int nbVehiculesLibres
+) {
+}
@@ -0,0 +1,21 @@
+package com.accenture.service.dto.vehicules;
+
+import java.util.List;
+
+/**
+ * Kilométrage d'un véhicule pour le suivi de maintenance.
+ *
+ * @param vehiculeId  : identifiant du véhicule
+ * @param compteur    : kilométrage au compteur
+ * @param kmTotal     : total des kilomètres parcourus en location
+ * @param nbLocations : nombre de locations clôturées
+ * @param parMois     : kilomètres parcourus mois par mois
+ */
+public record KilometrageDTO(
+        long vehiculeId,
+        int compteur,
+        long kmTotal,
+        long nbLocations,
+        List<KilometrageMensuelDTO> parMois
+) {
+}
@@ -0,0 +1,19 @@
+package com.accenture.service.dto.vehicules;
+
+import java.time.LocalDate;
+
+/**
+ * Kilomètres parcourus par un véhicule sur un mois.
+ *
+ * @param vehiculeId  : identifiant du véhicule
+ * @param mois        : premier jour du mois
+ * @param km          : kilomètres parcourus par les locations terminées dans le mois
+ * @param nbLocations : nombre de ces locations
+ */
+public record KilometrageMensuelDTO(
+        long vehiculeId,
+        LocalDate mois,
+        long km,
+        long nbLocations
+) {
+}
@@ -20,9 +20,7 @@ public record MotoResponseDTO(
         int tarifJournee,
         int kilometrage,
         Boolean actif,
-        Boolean retireDuParc
-
-
-
+        Boolean retireDuParc,
+        long version
 ) {
 }
@@ -0,0 +1,55 @@
+package com.accenture.service.dto.vehicules;
+
+import com.accenture.shared.enumerations.*;
+
+/**
+ * Ligne d'export d'un véhicule (moto ou voiture) : les colonnes propres à l'autre catégorie sont vides.
+ *
+ * @param id           : identifiant du véhicule
+ * @param categorie    : MOTO ou VOITURE
+ * @param marque       : marque du véhicule
+ * @param modele       : modèle du véhicule
+ * @param couleur      : couleur du véhicule
+ * @param type         : type du véhicule
+ * @param tarifJournee : tarif à la journée
+ * @param kilometrage  : kilométrage
+ * @param actif        : statut (en location ou non)
+ * @param retireDuParc : véhicule retiré du parc ou non
+ * @param permis       : permis nécessaire
+ * @param transmission : Auto/manuel
+ * @param nbrPlaces    : (voiture) nombre de places
+ * @param carburant    : (voiture) carburant
+ * @param nbrPortes    : (voiture) nombre de portes
+ * @param clim         : (voiture) présence de la clim
+ * @param bagages      : (voiture) nombre de bagages
+ * @param nbrCylindres : (moto) nombre de cylindres
+ * @param cylindree    : (moto) cylindrée
+ * @param poids        : (moto) poids
+ * @param puissance    : (moto) puissance
+ * @param hauteurSelle : (moto) hauteur de selle
+ */
+public record VehiculeExportDTO(
+        long id,
+        String categorie,
+        String marque,
+        String modele,
+        String couleur,
+        Type type,
+        int tarifJournee,
+        int kilometrage,
+        Boolean actif,
+        Boolean retireDuParc,
+        Permis permis,
+        Transmission transmission,
+        Integer nbrPlaces,
+        Carburant carburant,
+        NombrePortes nbrPortes,
+        Boolean clim,
+        Integer bagages,
+        Integer nbrCylindres,
+        Integer cylindree,
+        Double poids,
+        Double puissance,
+        Double hauteurSelle
+) {
+}
@@ -0,0 +1,21 @@
+package com.accenture.service.dto.vehicules;
+
+import com.accenture.shared.enumerations.Type;
+
+/**
+ * Projection légère d'un véhicule, utilisée par les index de disponibilité.
+ *
+ * @param id           : identifiant du véhicule
+ * @param type         : type du véhicule
+ * @param moto         : {@code true} s'il s'agit d'une moto, {@code false} pour une voiture
+ * @param actif        : statut (en location ou non) du véhicule
+ * @param retireDuParc : {@code true} si le véhicule est retiré du parc
+ */
+public record VehiculeIndexeDTO(
+        long id,
+        Type type,
+        boolean moto,
+        Boolean actif,
+        Boolean retireDuParc
+) {
+}
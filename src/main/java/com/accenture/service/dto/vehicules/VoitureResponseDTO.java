@@ -17,6 +17,7 @@ import com.accenture.shared.enumerations.*;
  * @param transmission: Auto/manuel
  * @param bagages:      nombre de bagages transportables
  * @param permis        : permis de conduire nécessaire et qui est déduit du nombre de places dans la voiture
+ * @param version       : version de la voiture (verrouillage optimiste, valeur de l'ETag)
  */
 
 public record VoitureResponseDTO(
@@ -36,7 +37,8 @@ public record VoitureResponseDTO(
         int tarifJournee,
         int kilometrage,
         Boolean actif,
-        Boolean retireDuParc
+        Boolean retireDuParc,
+        long version
 
 ) {
 
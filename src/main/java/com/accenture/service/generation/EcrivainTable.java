@@ -0,0 +1,111 @@
+package com.accenture.service.generation;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Écriture en masse des lignes d'une table : {@code COPY ... FROM STDIN} sur PostgreSQL,
+ * insertions JDBC par lots sur les autres bases.
+ */
+abstract class EcrivainTable implements AutoCloseable {
+
+    static EcrivainTable ouvrir(Connection connexion, String table, String... colonnes) throws SQLException {
+        if (connexion.isWrapperFor(PGConnection.class))
+            return new CopiePostgres(connexion.unwrap(PGConnection.class), table, colonnes);
+        return new LotJdbc(connexion, table, colonnes);
+    }
+
+    abstract void ecrire(Object... valeurs) throws SQLException;
+
+    @Override
+    public abstract void close() throws SQLException;
+
+
+    /**
+     * Flux CSV envoyé par blocs au protocole COPY de PostgreSQL.
+     */
+    private static final class CopiePostgres extends EcrivainTable {
+
+        private static final int TAILLE_BLOC = 1 << 20;
+
+        private final CopyIn copie;
+        private final StringBuilder bloc = new StringBuilder(TAILLE_BLOC + 1024);
+
+        CopiePostgres(PGConnection connexion, String table, String... colonnes) throws SQLException {
+            this.copie = connexion.getCopyAPI().copyIn(STR."COPY \{table} (\{String.join(", ", colonnes)}) FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        void ecrire(Object... valeurs) throws SQLException {
+            for (int i = 0; i < valeurs.length; i++) {
+                if (i > 0)
+                    bloc.append(',');
+                if (valeurs[i] != null)
+                    ajouterValeur(valeurs[i].toString());
+            }
+            bloc.append('\n');
+            if (bloc.length() >= TAILLE_BLOC)
+                envoyer();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            envoyer();
+            copie.endCopy();
+        }
+
+        private void ajouterValeur(String valeur) {
+            if (valeur.isEmpty() || valeur.indexOf(',') >= 0 || valeur.indexOf('"') >= 0 || valeur.indexOf('\n') >= 0)
+                bloc.append('"').append(valeur.replace("\"", "\"\"")).append('"');
+            else
+                bloc.append(valeur);
+        }
+
+        private void envoyer() throws SQLException {
+            byte[] octets = bloc.toString().getBytes(StandardCharsets.UTF_8);
+            copie.writeToCopy(octets, 0, octets.length);
+            bloc.setLength(0);
+        }
+    }
+
+
+    /**
+     * Insertions préparées exécutées par lots.
+     */
+    private static final class LotJdbc extends EcrivainTable {
+
+        private static final int TAILLE_LOT = 5000;
+
+        private final PreparedStatement insertion;
+        private int enAttente;
+
+        LotJdbc(Connection connexion, String table, String... colonnes) throws SQLException {
+            String parametres = String.join(", ", Collections.nCopies(colonnes.length, "?"));
+            this.insertion = connexion.prepareStatement(STR."INSERT INTO \{table} (\{String.join(", ", colonnes)}) VALUES (\{parametres})");
+        }
+
+        @Override
+        void ecrire(Object... valeurs) throws SQLException {
+            for (int i = 0; i < valeurs.length; i++)
+                insertion.setObject(i + 1, valeurs[i]);
+            insertion.addBatch();
+            if (++enAttente == TAILLE_LOT) {
+                insertion.executeBatch();
+                enAttente = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (enAttente > 0)
+                insertion.executeBatch();
+            insertion.close();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.accenture.service.generation;
+
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.service.kilometrage.KilometrageFlotte;
+import com.accenture.service.motdepasse.HachageMotDePasse;
+import com.accenture.shared.enumerations.*;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Générateur de données synthétiques à grande échelle (flotte, clients avec adresse, locations).
+ * Les lignes sont écrites directement en SQL par {@link EcrivainTable} (COPY sur PostgreSQL), sans passer
+ * par JPA : ni entité, ni listener, ni cache ne sont sollicités. Les identifiants sont attribués à la suite
+ * de ceux déjà présents, puis les séquences (identité, et {@link Vehicule#SEQUENCE} pour les véhicules) sont recalées.
+ * Chaque table est alimentée par son propre générateur aléatoire dérivé de la graine, si bien qu'une même
+ * graine produit toujours le même jeu de données.
+ * Tous les clients ont le mot de passe {@link #MOT_DE_PASSE}, enregistré haché.
+ * Le kilométrage pré-agrégé ({@link KilometrageFlotte}) est recalculé à la fin de la génération.
+ */
+
+@Slf4j
+@Component
+public class GenerateurDonnees {
+
+    public static final String MOT_DE_PASSE = "Motdepasse1#";
+
+    private static final Type[] TYPES_VOITURE = {Type.CITADINE, Type.BERLINE, Type.SUV, Type.FAMILIALE, Type.ELECTRIQUE, Type.LUXE};
+    private static final Type[] TYPES_MOTO = {Type.ROUTIERE, Type.SPORTIVE, Type.ROADSTER, Type.TRAIL, Type.CUSTOM, Type.VINTAGE, Type.ROUTE};
+    private static final String[] VILLES = {"Nantes", "Paris", "Lyon", "Lille", "Bordeaux", "Rennes", "Toulouse", "Marseille"};
+    private static final int JOURNAL_TOUTES_LES = 1_000_000;
+
+    private final DataSource dataSource;
+    private final HachageMotDePasse hachageMotDePasse;
+    private final KilometrageFlotte kilometrageFlotte;
+
+    public GenerateurDonnees(DataSource dataSource, HachageMotDePasse hachageMotDePasse, KilometrageFlotte kilometrageFlotte) {
+        this.dataSource = dataSource;
+        this.hachageMotDePasse = hachageMotDePasse;
+        this.kilometrageFlotte = kilometrageFlotte;
+    }
+
+    /**
+     * Identifiant de connexion du client généré de rang {@code numero} (à partir de 0).
+     */
+    public static String login(long numero) {
+        return STR."client\{numero}@generation.fr";
+    }
+
+    /**
+     * Génère et enregistre le jeu de données décrit par les paramètres.
+     *
+     * @param parametres volumes à générer et graine.
+     * @throws SQLException si l'écriture en base échoue ; la table en cours n'est alors pas validée.
+     */
+    public void generer(ParametresGeneration parametres) throws SQLException {
+        long debut = System.nanoTime();
+        try (Connection connexion = dataSource.getConnection()) {
+            connexion.setAutoCommit(false);
+            long premierVehicule = prochainId(connexion, "vehicule");
+            long premierUtilisateur = prochainId(connexion, "utilisateur_connecte");
+            long premiereAdresse = prochainId(connexion, "adresse");
+            long premiereLocation = prochainId(connexion, "location");
+
+            genererVehicules(connexion, parametres, premierVehicule);
+            genererClients(connexion, parametres, premierUtilisateur, premiereAdresse);
+            genererLocations(connexion, parametres, premierVehicule, premierUtilisateur, premiereLocation);
+
+            recalerSequence(connexion, STR."'\{Vehicule.SEQUENCE}'", "vehicule", Vehicule.TAILLE_ALLOCATION);
+            for (String table : new String[]{"utilisateur_connecte", "adresse", "location"})
+                recalerSequence(connexion, STR."pg_get_serial_sequence('\{table}', 'id')", table, 0);
+            connexion.commit();
+        }
+        kilometrageFlotte.reconstruire();
+        log.info("Génération terminée en {} s : {} véhicules, {} clients, {} locations", (System.nanoTime() - debut) / 1_000_000_000,
+                parametres.nbVehicules(), parametres.nbClients(), parametres.nbLocations());
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static boolean estMoto(long rang) {
+        return rang % 3 == 2;
+    }
+
+    private void genererVehicules(Connection connexion, ParametresGeneration parametres, long premierId) throws SQLException {
+        Random aleatoire = new Random(parametres.graine());
+        try (EcrivainTable vehicules = EcrivainTable.ouvrir(connexion, "vehicule", "id", "marque", "modele", "couleur",
+                "type", "tarif_journee", "kilometrage", "actif", "retire_du_parc")) {
+            for (long rang = 0; rang < parametres.nbVehicules(); rang++) {
+                Type[] types = estMoto(rang) ? TYPES_MOTO : TYPES_VOITURE;
+                vehicules.ecrire(premierId + rang, STR."Marque\{aleatoire.nextInt(60)}", STR."Modele\{aleatoire.nextInt(600)}",
+                        aleatoire.nextBoolean() ? "Rouge" : "Noir", types[aleatoire.nextInt(types.length)].name(),
+                        30 + aleatoire.nextInt(250), aleatoire.nextInt(250_000), aleatoire.nextInt(10) != 0, aleatoire.nextInt(25) == 0);
+            }
+        }
+        aleatoire = new Random(parametres.graine() + 1);
+        try (EcrivainTable voitures = EcrivainTable.ouvrir(connexion, "voitures", "id", "nbr_places", "carburant",
+                "nbr_portes", "clim", "transmission", "bagages", "permis")) {
+            for (long rang = 0; rang < parametres.nbVehicules(); rang++) {
+                if (estMoto(rang))
+                    continue;
+                voitures.ecrire(premierId + rang, 2 + aleatoire.nextInt(8), aleatoire.nextInt(Carburant.values().length),
+                        aleatoire.nextBoolean() ? NombrePortes.TROIS.ordinal() : NombrePortes.CINQ.ordinal(), aleatoire.nextBoolean(),
+                        aleatoire.nextInt(Transmission.values().length), 1 + aleatoire.nextInt(5), Permis.B.ordinal());
+            }
+        }
+        aleatoire = new Random(parametres.graine() + 2);
+        try (EcrivainTable motos = EcrivainTable.ouvrir(connexion, "motos", "id", "nbr_cylindres", "cylindree",
+                "poids", "puissance", "hauteur_selle", "transmission", "permis")) {
+            for (long rang = 0; rang < parametres.nbVehicules(); rang++) {
+                if (!estMoto(rang))
+                    continue;
+                motos.ecrire(premierId + rang, 1 + aleatoire.nextInt(4), 125 + aleatoire.nextInt(1200), 120 + aleatoire.nextInt(200),
+                        10 + aleatoire.nextInt(150), 700 + aleatoire.nextInt(200), aleatoire.nextInt(Transmission.values().length),
+                        aleatoire.nextBoolean() ? Permis.A.ordinal() : Permis.A2.ordinal());
+            }
+        }
+        log.info("{} véhicules générés", parametres.nbVehicules());
+    }
+
+    private void genererClients(Connection connexion, ParametresGeneration parametres, long premierId, long premiereAdresse) throws SQLException {
+        Random aleatoire = new Random(parametres.graine() + 3);
+        try (EcrivainTable adresses = EcrivainTable.ouvrir(connexion, "adresse", "id", "rue", "code_postal", "ville")) {
+            for (long rang = 0; rang < parametres.nbClients(); rang++)
+                adresses.ecrire(premiereAdresse + rang, STR."\{1 + aleatoire.nextInt(300)} rue \{aleatoire.nextInt(5000)}",
+                        String.format("%05d", 1000 + aleatoire.nextInt(94000)), VILLES[aleatoire.nextInt(VILLES.length)]);
+        }
+        // un seul hachage pour tous les clients : le coût BCrypt est payé une fois par génération
+        String motDePasseHache = hachageMotDePasse.hacher(MOT_DE_PASSE);
+        try (EcrivainTable utilisateurs = EcrivainTable.ouvrir(connexion, "utilisateur_connecte", "id", "login", "password", "nom", "prenom")) {
+            for (long rang = 0; rang < parametres.nbClients(); rang++)
+                utilisateurs.ecrire(premierId + rang, login(rang), motDePasseHache, STR."Nom\{rang}", STR."Prenom\{rang}");
+        }
+        aleatoire = new Random(parametres.graine() + 4);
+        LocalDate aujourdhui = LocalDate.now();
+        try (EcrivainTable clients = EcrivainTable.ouvrir(connexion, "clients", "id", "adresse_id", "date_naissance",
+                "date_inscription", "permis", "desactive")) {
+            for (long rang = 0; rang < parametres.nbClients(); rang++) {
+                clients.ecrire(premierId + rang, premiereAdresse + rang, aujourdhui.minusYears(18 + aleatoire.nextInt(60)).minusDays(aleatoire.nextInt(365)),
+                        aujourdhui.minusDays(aleatoire.nextInt(3650)), aleatoire.nextInt(5) == 0 ? Permis.A.name() : Permis.B.name(),
+                        aleatoire.nextInt(50) == 0);
+                if ((rang + 1) % JOURNAL_TOUTES_LES == 0)
+                    log.info("{} clients générés", rang + 1);
+            }
+        }
+        log.info("{} clients générés", parametres.nbClients());
+    }
+
+    /**
+     * Les locations d'un même véhicule se suivent sans se chevaucher (durée de 1 à 14 jours, écart de 0 à 10 jours),
+     * sur une période qui commence quatre ans avant aujourd'hui : la flotte a donc un historique, des locations
+     * en cours et des réservations futures qui se chevauchent d'un véhicule à l'autre. Les locations terminées sont
+     * clôturées (avec leurs kilomètres), celles commencées sont en cours et les suivantes sont réservées.
+     */
+    private void genererLocations(Connection connexion, ParametresGeneration parametres, long premierVehicule,
+                                  long premierClient, long premiereLocation) throws SQLException {
+        if (parametres.nbVehicules() == 0 || parametres.nbClients() == 0)
+            return;
+        Random aleatoire = new Random(parametres.graine() + 5);
+        LocalDate origine = LocalDate.now().minusYears(4);
+        LocalDate aujourdhui = LocalDate.now();
+        long parVehicule = parametres.nbLocations() / parametres.nbVehicules();
+        long reste = parametres.nbLocations() % parametres.nbVehicules();
+        long id = premiereLocation;
+        try (EcrivainTable locations = EcrivainTable.ouvrir(connexion, "location", "id", "client_id", "vehicule_id",
+                "date_debut", "date_fin", "km_parcourus", "date_validation", "etat_location")) {
+            for (long rang = 0; rang < parametres.nbVehicules(); rang++) {
+                LocalDate debut = origine.plusDays(aleatoire.nextInt(30));
+                long nombre = parVehicule + (rang < reste ? 1 : 0);
+                for (long i = 0; i < nombre; i++) {
+                    LocalDate fin = debut.plusDays(1 + aleatoire.nextInt(14));
+                    boolean terminee = fin.isBefore(aujourdhui);
+                    boolean commencee = !debut.isAfter(aujourdhui);
+                    EtatLocation etat = terminee ? EtatLocation.CLOTUREE : commencee ? EtatLocation.EN_COURS : EtatLocation.RESERVER;
+                    locations.ecrire(id++, premierClient + aleatoire.nextInt(parametres.nbClients()), premierVehicule + rang,
+                            debut, fin, terminee ? 50 + aleatoire.nextInt(2000) : null,
+                            commencee ? debut : null, etat.name());
+                    debut = fin.plusDays(aleatoire.nextInt(11));
+                    if ((id - premiereLocation) % JOURNAL_TOUTES_LES == 0)
+                        log.info("{} locations générées", id - premiereLocation);
+                }
+            }
+        }
+        log.info("{} locations générées", parametres.nbLocations());
+    }
+
+    private static long prochainId(Connection connexion, String table) throws SQLException {
+        try (Statement requete = connexion.createStatement();
+             ResultSet resultat = requete.executeQuery(STR."SELECT COALESCE(MAX(id), 0) + 1 FROM \{table}")) {
+            resultat.next();
+            return resultat.getLong(1);
+        }
+    }
+
+    /**
+     * @param marge écart ajouté au plus grand identifiant : une séquence allouée par blocs doit dépasser
+     *              le maximum d'au moins la taille d'un bloc.
+     */
+    private static void recalerSequence(Connection connexion, String sequence, String table, int marge) throws SQLException {
+        if (!connexion.isWrapperFor(PGConnection.class))
+            return;
+        try (Statement requete = connexion.createStatement()) {
+            requete.execute(STR."SELECT setval(\{sequence}, (SELECT COALESCE(MAX(id), 1) FROM \{table}) + \{marge})");
+        }
+    }
+}
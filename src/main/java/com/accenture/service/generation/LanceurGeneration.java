@@ -0,0 +1,35 @@
+package com.accenture.service.generation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Point d'entrée du profil "generation" : génère le jeu de données au démarrage puis laisse l'application s'arrêter
+ * (le profil désactive le serveur web).
+ * Exemple : {@code java -jar app.jar --spring.profiles.active=generation --generation.clients=1000000}
+ */
+
+@Component
+@Profile("generation")
+public class LanceurGeneration implements ApplicationRunner {
+
+    private final GenerateurDonnees generateurDonnees;
+    private final ParametresGeneration parametres;
+
+    public LanceurGeneration(GenerateurDonnees generateurDonnees,
+                             @Value("${generation.vehicules:50000}") int nbVehicules,
+                             @Value("${generation.clients:1000000}") int nbClients,
+                             @Value("${generation.locations:10000000}") long nbLocations,
+                             @Value("${generation.graine:42}") long graine) {
+        this.generateurDonnees = generateurDonnees;
+        this.parametres = new ParametresGeneration(nbVehicules, nbClients, nbLocations, graine);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        generateurDonnees.generer(parametres);
+    }
+}
@@ -0,0 +1,17 @@
+package com.accenture.service.generation;
+
+/**
+ * Volumes et graine d'une génération de données synthétiques.
+ *
+ * @param nbVehicules : nombre de véhicules (un tiers de motos)
+ * @param nbClients   : nombre de clients (chacun avec son adresse)
+ * @param nbLocations : nombre total de locations, réparties sur les véhicules
+ * @param graine      : graine des générateurs aléatoires ; même graine, mêmes données
+ */
+public record ParametresGeneration(
+        int nbVehicules,
+        int nbClients,
+        long nbLocations,
+        long graine
+) {
+}
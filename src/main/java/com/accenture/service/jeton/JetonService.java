@@ -0,0 +1,145 @@
+package com.accenture.service.jeton;
+
+import com.accenture.service.dto.utilisateurs.JetonDTO;
+import com.accenture.shared.enumerations.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Émission et vérification de jetons de session opaques signés HMAC-SHA256.
+ * Un jeton a la forme {@code base64url(contenu).base64url(signature)}, le contenu étant
+ * {@code role:id:expiration:identifiant:login}. Sa vérification ne nécessite ni base de données ni hachage
+ * de mot de passe : seulement le calcul de la signature, la lecture de l'expiration et la consultation
+ * du cache des jetons révoqués (conservés jusqu'à leur expiration, puis purgés).
+ * La clé vient de {@code location.jeton.secret} (base64, 32 octets minimum) ; sans clé configurée,
+ * une clé aléatoire est tirée au démarrage et les jetons ne survivent pas à un redémarrage.
+ * Les révocations sont propres à l'instance.
+ */
+
+@Slf4j
+@Component
+public class JetonService {
+
+    public static final String TYPE = "Bearer";
+
+    private static final String ALGORITHME = "HmacSHA256";
+    private static final int TAILLE_CLE_MIN = 32;
+    private static final Base64.Encoder ENCODEUR = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODEUR = Base64.getUrlDecoder();
+
+    private final SecretKeySpec cle;
+    private final Duration duree;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, Instant> revoques = new ConcurrentHashMap<>();
+
+
+    public JetonService(@Value("${location.jeton.secret:}") String secret,
+                        @Value("${location.jeton.duree:PT30M}") Duration duree) {
+        this.cle = new SecretKeySpec(lireCle(secret), ALGORITHME);
+        this.duree = duree;
+        this.macs = ThreadLocal.withInitial(this::nouveauMac);
+    }
+
+    /**
+     * Émet un jeton pour un utilisateur dont les identifiants viennent d'être vérifiés.
+     *
+     * @param role  rôle de l'utilisateur.
+     * @param id    identifiant du client ou de l'administrateur.
+     * @param login mail de l'utilisateur.
+     * @return un {@link JetonDTO} contenant le jeton signé et son expiration.
+     */
+    public JetonDTO emettre(Role role, long id, String login) {
+        Instant expiration = Instant.now().plus(duree);
+        String contenu = STR."\{role}:\{id}:\{expiration.getEpochSecond()}:\{UUID.randomUUID()}:\{login}";
+        String contenuEncode = ENCODEUR.encodeToString(contenu.getBytes(StandardCharsets.UTF_8));
+        return new JetonDTO(STR."\{contenuEncode}.\{ENCODEUR.encodeToString(signer(contenuEncode))}", TYPE, expiration);
+    }
+
+    /**
+     * Vérifie la signature, l'expiration et la non-révocation d'un jeton.
+     *
+     * @param jeton le jeton reçu.
+     * @return la {@link SessionUtilisateur} correspondante, ou {@link Optional#empty()} si le jeton n'est pas valide.
+     */
+    public Optional<SessionUtilisateur> verifier(String jeton) {
+        if (jeton == null)
+            return Optional.empty();
+        int separateur = jeton.lastIndexOf('.');
+        if (separateur <= 0)
+            return Optional.empty();
+        try {
+            String contenuEncode = jeton.substring(0, separateur);
+            byte[] signature = DECODEUR.decode(jeton.substring(separateur + 1));
+            if (!MessageDigest.isEqual(signer(contenuEncode), signature))
+                return Optional.empty();
+            String[] champs = new String(DECODEUR.decode(contenuEncode), StandardCharsets.UTF_8).split(":", 5);
+            if (champs.length != 5)
+                return Optional.empty();
+            Instant expiration = Instant.ofEpochSecond(Long.parseLong(champs[2]));
+            if (!expiration.isAfter(Instant.now()) || revoques.containsKey(champs[3]))
+                return Optional.empty();
+            return Optional.of(new SessionUtilisateur(Role.valueOf(champs[0]), Long.parseLong(champs[1]), champs[4], champs[3], expiration));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Révoque le jeton d'une session jusqu'à son expiration.
+     *
+     * @param session la session à clore.
+     */
+    public void revoquer(SessionUtilisateur session) {
+        Instant maintenant = Instant.now();
+        revoques.values().removeIf(expiration -> !expiration.isAfter(maintenant));
+        revoques.put(session.identifiant(), session.expiration());
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private byte[] signer(String contenuEncode) {
+        return macs.get().doFinal(contenuEncode.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac nouveauMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHME);
+            mac.init(cle);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] lireCle(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("location.jeton.secret n'est pas défini : clé aléatoire, les jetons seront invalidés au redémarrage");
+            byte[] cle = new byte[TAILLE_CLE_MIN];
+            new SecureRandom().nextBytes(cle);
+            return cle;
+        }
+        byte[] cle = Base64.getDecoder().decode(secret);
+        if (cle.length < TAILLE_CLE_MIN)
+            throw new IllegalStateException(STR."location.jeton.secret doit contenir au moins \{TAILLE_CLE_MIN} octets");
+        return cle;
+    }
+}
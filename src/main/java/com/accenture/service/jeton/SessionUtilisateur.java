@@ -0,0 +1,48 @@
+package com.accenture.service.jeton;
+
+import com.accenture.exception.AccesRefuseException;
+import com.accenture.exception.AuthentificationException;
+import com.accenture.shared.enumerations.Role;
+
+import java.time.Instant;
+
+/**
+ * Utilisateur authentifié par un jeton valide, placé par {@link com.accenture.configuration.FiltreJeton}
+ * dans l'attribut de requête {@value #ATTRIBUT}.
+ *
+ * @param role        rôle de l'utilisateur.
+ * @param id          identifiant du client ou de l'administrateur.
+ * @param login       mail de l'utilisateur.
+ * @param identifiant identifiant unique du jeton (utilisé pour la révocation).
+ * @param expiration  instant d'expiration du jeton.
+ */
+public record SessionUtilisateur(Role role, long id, String login, String identifiant, Instant expiration) {
+
+    public static final String ATTRIBUT = "location.session";
+
+    /**
+     * Vérifie que la session a le rôle attendu et, si un identifiant est demandé, qu'il s'agit du sien.
+     *
+     * @param roleAttendu rôle requis par l'opération.
+     * @param idDemande   identifiant de la ressource visée, ou {@code null}.
+     * @return l'identifiant de l'utilisateur de la session.
+     * @throws AccesRefuseException si le rôle ou l'identifiant ne correspond pas.
+     */
+    public long idPour(Role roleAttendu, Long idDemande) {
+        if (role != roleAttendu)
+            throw new AccesRefuseException("Ce jeton ne donne pas accès à cette ressource");
+        if (idDemande != null && idDemande != id)
+            throw new AccesRefuseException("Ce jeton ne donne accès qu'à votre propre compte");
+        return id;
+    }
+
+    /**
+     * Vérifie la présence des identifiants lorsqu'aucun jeton n'est fourni.
+     *
+     * @throws AuthentificationException si le login ou le mot de passe est absent.
+     */
+    public static void exigerIdentifiants(String login, String password) {
+        if (login == null || login.isBlank() || password == null || password.isBlank())
+            throw new AuthentificationException("Un jeton (Authorization: Bearer) ou un login et un mot de passe sont requis");
+    }
+}
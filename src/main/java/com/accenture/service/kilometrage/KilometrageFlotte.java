@@ -0,0 +1,88 @@
+package com.accenture.service.kilometrage;
+
+import com.accenture.repository.KilometrageMensuelDAO;
+import com.accenture.repository.KilometrageVehiculeDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.entity.vehicules.KilometrageVehicule;
+import com.accenture.repository.entity.vehicules.Vehicule;
+import com.accenture.service.dto.vehicules.KilometrageDTO;
+import com.accenture.service.dto.vehicules.KilometrageMensuelDTO;
+import com.accenture.shared.enumerations.EtatLocation;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Kilométrage pré-agrégé de la flotte : cumul par véhicule et par mois des kilomètres parcourus en location.
+ * Les cumuls sont incrémentés par {@link #cumuler(List)} dans la transaction qui clôture les locations
+ * ({@link com.accenture.service.cycle.TransitionsLocations}), si bien qu'ils ne sont jamais décalés par rapport aux
+ * locations clôturées ; {@link #reconstruire()} les recalcule entièrement (données importées ou générées sans
+ * passer par la clôture).
+ */
+
+@Slf4j
+@Component
+public class KilometrageFlotte {
+
+    private final KilometrageVehiculeDAO kilometrageVehiculeDAO;
+    private final KilometrageMensuelDAO kilometrageMensuelDAO;
+    private final VehiculeDAO vehiculeDAO;
+
+    public KilometrageFlotte(KilometrageVehiculeDAO kilometrageVehiculeDAO, KilometrageMensuelDAO kilometrageMensuelDAO,
+                             VehiculeDAO vehiculeDAO) {
+        this.kilometrageVehiculeDAO = kilometrageVehiculeDAO;
+        this.kilometrageMensuelDAO = kilometrageMensuelDAO;
+        this.vehiculeDAO = vehiculeDAO;
+    }
+
+    /**
+     * Ajoute aux cumuls les kilomètres des locations qui viennent d'être clôturées.
+     * Doit être appelé dans la transaction de clôture, avant ou après le changement d'état.
+     *
+     * @param locationIds identifiants des locations clôturées.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cumuler(List<Long> locationIds) {
+        kilometrageVehiculeDAO.cumuler(locationIds);
+        kilometrageMensuelDAO.cumuler(locationIds);
+    }
+
+    /**
+     * Recalcule tous les cumuls à partir des locations clôturées.
+     */
+    @Transactional
+    public void reconstruire() {
+        kilometrageMensuelDAO.deleteAllInBatch();
+        kilometrageVehiculeDAO.deleteAllInBatch();
+        int nbVehicules = kilometrageVehiculeDAO.recalculer(EtatLocation.CLOTUREE.name());
+        int nbMois = kilometrageMensuelDAO.recalculer(EtatLocation.CLOTUREE.name());
+        log.info("Kilométrage de la flotte reconstruit : {} véhicules, {} lignes mensuelles", nbVehicules, nbMois);
+    }
+
+    /**
+     * @param vehiculeId identifiant du véhicule.
+     * @return le compteur du véhicule, son cumul en location et le détail par mois.
+     * @throws EntityNotFoundException si le véhicule n'existe pas.
+     */
+    @Transactional(readOnly = true)
+    public KilometrageDTO trouver(long vehiculeId) {
+        Vehicule vehicule = vehiculeDAO.findById(vehiculeId).orElseThrow(() -> new EntityNotFoundException("Véhicule non trouvé"));
+        KilometrageVehicule cumul = kilometrageVehiculeDAO.findById(vehiculeId).orElse(new KilometrageVehicule(vehiculeId, 0, 0));
+        return new KilometrageDTO(vehiculeId, vehicule.getKilometrage(), cumul.getKmTotal(), cumul.getNbLocations(),
+                kilometrageMensuelDAO.trouverParVehicule(vehiculeId));
+    }
+
+    /**
+     * @param jour un jour quelconque du mois demandé.
+     * @return les kilomètres parcourus par chaque véhicule sur ce mois.
+     */
+    @Transactional(readOnly = true)
+    public List<KilometrageMensuelDTO> trouverMois(LocalDate jour) {
+        return kilometrageMensuelDAO.trouverParMois(jour.withDayOfMonth(1));
+    }
+}
@@ -3,6 +3,7 @@ package com.accenture.service.mapper;
 import com.accenture.repository.entity.utilisateurs.Location;
 import com.accenture.service.dto.LocationDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Mapper permettant la conversion entre l'entité {@link Location} et le DTO {@link LocationDTO}.
@@ -17,5 +18,7 @@ public interface LocationMapper {
     * @param location L'entité {@link Location} à convertir.
     * @return Le DTO {@link LocationDTO} représentant les informations de la location.
     */
+   @Mapping(source = "client.id", target = "clientId")
+   @Mapping(source = "vehicule.id", target = "vehiculeId")
    LocationDTO toLocationDTO(Location location);
 }
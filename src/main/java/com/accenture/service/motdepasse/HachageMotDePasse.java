@@ -0,0 +1,205 @@
+package com.accenture.service.motdepasse;
+
+import com.accenture.exception.AuthentificationSatureeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hachage et vérification des mots de passe (BCrypt, coût {@code location.mot-de-passe.cout}).
+ * Les hachages sont stockés préfixés par {@value #PREFIXE} ; une valeur sans préfixe est un ancien mot de passe
+ * en clair, accepté par comparaison à temps constant puis signalé par {@link #doitEtreRehache(String)}.
+ * Les calculs BCrypt s'exécutent sur un pool dédié et borné (threads et file d'attente) : lors d'un afflux de connexions,
+ * au plus {@code location.mot-de-passe.threads} hachages tournent en parallèle et les demandes au-delà de la file
+ * échouent immédiatement ({@link AuthentificationSatureeException}) au lieu d'occuper tous les threads Tomcat.
+ * Les vérifications réussies sont retenues quelques minutes sous forme d'empreinte HMAC (clé aléatoire propre au
+ * processus), de sorte qu'une connexion répétée ne refait pas le calcul BCrypt.
+ */
+
+@Slf4j
+@Component
+public class HachageMotDePasse implements DisposableBean {
+
+    public static final String PREFIXE = "{bcrypt}";
+    public static final String TIMER_VERIFICATION = "location.mot-de-passe.verification";
+    public static final String JAUGE_FILE = "location.mot-de-passe.file";
+    public static final String JAUGE_ACTIFS = "location.mot-de-passe.actifs";
+
+    private static final String ALGORITHME_EMPREINTE = "HmacSHA256";
+
+    private final BCryptPasswordEncoder encodeur;
+    private final ThreadPoolExecutor executeur;
+    private final Duration attenteMax;
+    private final MeterRegistry registry;
+    private final SecretKeySpec cleEmpreinte;
+    private final Map<String, VerificationRetenue> verificationsRetenues;
+    private final Duration dureeRetention;
+
+
+    public HachageMotDePasse(@Value("${location.mot-de-passe.cout:10}") int cout,
+                             @Value("${location.mot-de-passe.threads:0}") int threads,
+                             @Value("${location.mot-de-passe.file:64}") int capaciteFile,
+                             @Value("${location.mot-de-passe.attente-max:PT2S}") Duration attenteMax,
+                             @Value("${location.mot-de-passe.cache.taille:10000}") int tailleCache,
+                             @Value("${location.mot-de-passe.cache.duree:PT5M}") Duration dureeRetention,
+                             MeterRegistry registry) {
+        this.encodeur = new BCryptPasswordEncoder(cout);
+        int nbThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger numero = new AtomicInteger();
+        this.executeur = new ThreadPoolExecutor(nbThreads, nbThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capaciteFile), tache -> {
+            Thread thread = new Thread(tache, STR."hachage-mdp-\{numero.incrementAndGet()}");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.attenteMax = attenteMax;
+        this.registry = registry;
+        byte[] cle = new byte[32];
+        new SecureRandom().nextBytes(cle);
+        this.cleEmpreinte = new SecretKeySpec(cle, ALGORITHME_EMPREINTE);
+        this.dureeRetention = dureeRetention;
+        this.verificationsRetenues = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerificationRetenue> plusAncienne) {
+                return size() > tailleCache;
+            }
+        };
+        Gauge.builder(JAUGE_FILE, executeur, e -> e.getQueue().size()).register(registry);
+        Gauge.builder(JAUGE_ACTIFS, executeur, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    /**
+     * Calcule le hachage à stocker pour un mot de passe en clair.
+     *
+     * @param motDePasse le mot de passe en clair.
+     * @return le hachage préfixé par {@value #PREFIXE}.
+     * @throws AuthentificationSatureeException si le pool de hachage est saturé.
+     */
+    public String hacher(String motDePasse) {
+        return PREFIXE + executer(() -> encodeur.encode(motDePasse));
+    }
+
+    /**
+     * Vérifie un mot de passe en clair par rapport à la valeur stockée (hachage ou ancien mot de passe en clair).
+     *
+     * @param motDePasse le mot de passe saisi.
+     * @param stocke     la valeur enregistrée en base.
+     * @return {@code true} si le mot de passe correspond.
+     * @throws AuthentificationSatureeException si le pool de hachage est saturé.
+     */
+    public boolean verifier(String motDePasse, String stocke) {
+        if (motDePasse == null || stocke == null)
+            return false;
+        if (!stocke.startsWith(PREFIXE))
+            return MessageDigest.isEqual(motDePasse.getBytes(StandardCharsets.UTF_8), stocke.getBytes(StandardCharsets.UTF_8));
+
+        byte[] empreinte = empreinte(motDePasse);
+        if (estRetenue(stocke, empreinte)) {
+            registry.counter(TIMER_VERIFICATION + ".cache").increment();
+            return true;
+        }
+        Timer.Sample debut = Timer.start(registry);
+        String resultat = "rejet";
+        try {
+            boolean correct = executer(() -> encodeur.matches(motDePasse, stocke.substring(PREFIXE.length())));
+            resultat = correct ? "succes" : "echec";
+            if (correct)
+                retenir(stocke, empreinte);
+            return correct;
+        } finally {
+            debut.stop(Timer.builder(TIMER_VERIFICATION)
+                    .tag("resultat", resultat)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Indique si la valeur stockée doit être remplacée par un nouveau hachage : ancien mot de passe en clair,
+     * ou hachage calculé avec un coût inférieur au coût configuré.
+     *
+     * @param stocke la valeur enregistrée en base.
+     * @return {@code true} si le mot de passe doit être haché à nouveau à la prochaine connexion réussie.
+     */
+    public boolean doitEtreRehache(String stocke) {
+        return stocke == null || !stocke.startsWith(PREFIXE) || encodeur.upgradeEncoding(stocke.substring(PREFIXE.length()));
+    }
+
+    @Override
+    public void destroy() {
+        executeur.shutdownNow();
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private <T> T executer(Callable<T> calcul) {
+        Future<T> resultat;
+        try {
+            resultat = executeur.submit(calcul);
+        } catch (RejectedExecutionException e) {
+            log.warn("Pool de hachage saturé : {} demandes en attente", executeur.getQueue().size());
+            throw new AuthentificationSatureeException("Trop de demandes d'authentification simultanées, veuillez réessayer");
+        }
+        try {
+            return resultat.get(attenteMax.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            resultat.cancel(true);
+            throw new AuthentificationSatureeException("Trop de demandes d'authentification simultanées, veuillez réessayer");
+        } catch (InterruptedException e) {
+            resultat.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthentificationSatureeException("Authentification interrompue");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erreur lors du hachage du mot de passe", e.getCause());
+        }
+    }
+
+    private byte[] empreinte(String motDePasse) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHME_EMPREINTE);
+            mac.init(cleEmpreinte);
+            return mac.doFinal(motDePasse.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean estRetenue(String stocke, byte[] empreinte) {
+        VerificationRetenue retenue;
+        synchronized (verificationsRetenues) {
+            retenue = verificationsRetenues.get(stocke);
+        }
+        return retenue != null && System.nanoTime() - retenue.instant() < dureeRetention.toNanos()
+                && MessageDigest.isEqual(retenue.empreinte(), empreinte);
+    }
+
+    private void retenir(String stocke, byte[] empreinte) {
+        synchronized (verificationsRetenues) {
+            verificationsRetenues.put(stocke, new VerificationRetenue(empreinte, System.nanoTime()));
+        }
+    }
+
+    private record VerificationRetenue(byte[] empreinte, long instant) {
+    }
+}
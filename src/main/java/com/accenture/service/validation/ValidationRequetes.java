@@ -0,0 +1,179 @@
+package com.accenture.service.validation;
+
+import com.accenture.exception.AdministrateurException;
+import com.accenture.exception.ClientException;
+import com.accenture.exception.LocationException;
+import com.accenture.exception.MotoException;
+import com.accenture.exception.VoitureException;
+import com.accenture.service.dto.LocationRequestDTO;
+import com.accenture.service.dto.utilisateurs.AdministrateurRequestDTO;
+import com.accenture.service.dto.utilisateurs.ClientRequestDTO;
+import com.accenture.service.dto.vehicules.MotoRequestDTO;
+import com.accenture.service.dto.vehicules.VoitureRequestDTO;
+import com.accenture.shared.enumerations.ModeValidation;
+import com.accenture.shared.enumerations.NombrePortes;
+import com.accenture.shared.validation.Validateur;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Règles de validation des requêtes de création et de modification des clients, administrateurs, voitures et motos,
+ * et des demandes de réservation.
+ * Les {@link Validateur} et les expressions régulières sont construits une seule fois au chargement de la classe.
+ * Le mode (première erreur ou toutes les erreurs) est configuré par {@code location.validation.mode}.
+ */
+
+@Component
+public class ValidationRequetes {
+
+    public static final Pattern MOT_DE_PASSE = Pattern.compile("^(?=.*?[A-Z])(?=.*?[a-z])(?=.*?[0-9])(?=.*?[&#@_§-]).{8,16}$");
+    public static final Pattern EMAIL = Pattern.compile("^[\\w.%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    private static final String MESSAGE_MOT_DE_PASSE = "Le mot de passe doit contenir entre 8 et 16 caractères, au minimum une minuscule et 1 majuscule" +
+            "un chiffre, et un caractère spécial";
+    private static final String MESSAGE_EMAIL = "L'email doit contenir un @ et un nom de domaine valide";
+
+    private static final Validateur<ClientRequestDTO> CLIENT = construireClient(true);
+    private static final Validateur<ClientRequestDTO> CLIENT_SANS_MOT_DE_PASSE = construireClient(false);
+    private static final Validateur<AdministrateurRequestDTO> ADMIN = construireAdmin(true);
+    private static final Validateur<AdministrateurRequestDTO> ADMIN_SANS_MOT_DE_PASSE = construireAdmin(false);
+
+    private static final Validateur<VoitureRequestDTO> VOITURE = Validateur.<VoitureRequestDTO>pour(VoitureException::new)
+            .exiger(Objects::nonNull, "La voiture est null")
+            .renseigne(VoitureRequestDTO::marque, "La marque est obligatoire")
+            .renseigne(VoitureRequestDTO::modele, "Le modèle est obligatoire")
+            .renseigne(VoitureRequestDTO::couleur, "La couleur du véhicule est obligatoire")
+            .regle(dto -> dto.nbrPortes() == NombrePortes.TROIS || dto.nbrPortes() == NombrePortes.CINQ, "Le nombre de portes (3 ou 5) est obligatoire")
+            .renseigne(VoitureRequestDTO::carburant, "Le carburant est obligatoire")
+            .renseigne(VoitureRequestDTO::transmission, "Le type de transmission est obligatoire")
+            .renseigne(VoitureRequestDTO::clim, "La présence ou non de clim est obligatoire")
+            .regle(dto -> dto.bagages() > 0, "Le nombre de bagages doit être supérieur à 0")
+            .renseigne(VoitureRequestDTO::type, "Le type de voiture  est obligatoire")
+            .regle(dto -> dto.nbrPlaces() > 0 && dto.nbrPlaces() < 17, "Le nombre de passager doit être cohérent")
+            .construire();
+
+    private static final Validateur<MotoRequestDTO> MOTO = Validateur.<MotoRequestDTO>pour(MotoException::new)
+            .exiger(Objects::nonNull, "La moto est null")
+            .renseigne(MotoRequestDTO::marque, "La marque est obligatoire")
+            .renseigne(MotoRequestDTO::modele, "Le modèle est obligatoire")
+            .renseigne(MotoRequestDTO::couleur, "La couleur est obligatoire")
+            .regle(dto -> dto.nbrCylindres() > 0 && dto.nbrCylindres() <= 7, "Le nombre de cylindres doit être compris entre 1 et 6 ")
+            .regle(dto -> dto.cylindree() > 50, "Les cylindrées sont obligatoires. Ex: 50/125/250/300 etc")
+            .regle(dto -> dto.poids() > 0, "Le poids de la moto est obligatoire")
+            .regle(dto -> dto.puissance() > 0, "La puissance ne peut pas être inférieure à 0kW")
+            .regle(dto -> dto.hauteurSelle() > 0, "La hauteur de selle est obligatoire")
+            .renseigne(MotoRequestDTO::transmission, "La transmission (auto ou manuelle) est obligatoire")
+            .renseigne(MotoRequestDTO::type, "Le type est obligatoire")
+            .construire();
+
+    private static final Validateur<LocationRequestDTO> LOCATION = Validateur.<LocationRequestDTO>pour(LocationException::new)
+            .exiger(Objects::nonNull, "La location est null")
+            .renseigne(LocationRequestDTO::vehiculeId, "Le véhicule est obligatoire")
+            .renseigne(LocationRequestDTO::dateDebut, "La date de début est obligatoire")
+            .renseigne(LocationRequestDTO::dateFin, "La date de fin est obligatoire")
+            .regle(dto -> dto.dateDebut() == null || !dto.dateDebut().isBefore(LocalDate.now()), "La date de début ne peut pas être passée")
+            .regle(dto -> dto.dateDebut() == null || dto.dateFin() == null || dto.dateFin().isAfter(dto.dateDebut()),
+                    "La date de fin doit être postérieure à la date de début")
+            .construire();
+
+    private final ModeValidation mode;
+
+
+    public ValidationRequetes(@Value("${location.validation.mode:PREMIERE_ERREUR}") ModeValidation mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * @param avecMotDePasse {@code false} lorsque le mot de passe n'est pas modifié : la valeur enregistrée est un hachage.
+     * @throws ClientException          si une ou plusieurs règles ne sont pas respectées.
+     * @throws IllegalArgumentException si le client est mineur.
+     */
+    public void verifierClient(ClientRequestDTO clientRequestDTO, boolean avecMotDePasse) {
+        (avecMotDePasse ? CLIENT : CLIENT_SANS_MOT_DE_PASSE).verifier(clientRequestDTO, mode);
+    }
+
+    /**
+     * @param avecMotDePasse {@code false} lorsque le mot de passe n'est pas modifié : la valeur enregistrée est un hachage.
+     * @throws AdministrateurException si une ou plusieurs règles ne sont pas respectées.
+     */
+    public void verifierAdmin(AdministrateurRequestDTO adminRequestDTO, boolean avecMotDePasse) {
+        (avecMotDePasse ? ADMIN : ADMIN_SANS_MOT_DE_PASSE).verifier(adminRequestDTO, mode);
+    }
+
+    /**
+     * @throws VoitureException si une ou plusieurs règles ne sont pas respectées.
+     */
+    public void verifierVoiture(VoitureRequestDTO voitureRequestDTO) {
+        VOITURE.verifier(voitureRequestDTO, mode);
+    }
+
+    /**
+     * @throws MotoException si une ou plusieurs règles ne sont pas respectées.
+     */
+    public void verifierMoto(MotoRequestDTO motoRequestDTO) {
+        MOTO.verifier(motoRequestDTO, mode);
+    }
+
+    /**
+     * @throws LocationException si une ou plusieurs règles ne sont pas respectées.
+     */
+    public void verifierLocation(LocationRequestDTO locationRequestDTO) {
+        LOCATION.verifier(locationRequestDTO, mode);
+    }
+
+    /**
+     * @return toutes les violations des règles de {@link #verifierVoiture}, quel que soit le mode.
+     */
+    public List<String> violationsVoiture(VoitureRequestDTO voitureRequestDTO) {
+        return VOITURE.violations(voitureRequestDTO);
+    }
+
+    /**
+     * @return toutes les violations des règles de {@link #verifierMoto}, quel que soit le mode.
+     */
+    public List<String> violationsMoto(MotoRequestDTO motoRequestDTO) {
+        return MOTO.violations(motoRequestDTO);
+    }
+
+
+//************************************************************************************************************************
+//                                                      METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static Validateur<ClientRequestDTO> construireClient(boolean avecMotDePasse) {
+        Validateur.Constructeur<ClientRequestDTO> constructeur = Validateur.<ClientRequestDTO>pour(ClientException::new)
+                .exiger(Objects::nonNull, "Le client est null ")
+                .renseigne(ClientRequestDTO::nom, "Le nom est obligatoire ")
+                .renseigne(ClientRequestDTO::prenom, "Le prenom est obligatoire ")
+                .renseigne(ClientRequestDTO::dateNaissance, "Le date de Naissance est obligatoire ")
+                .regle(dto -> dto.dateNaissance() == null || !dto.dateNaissance().plusYears(18).isAfter(LocalDate.now()),
+                        "Vous devez être majeur pour vous inscrire", IllegalArgumentException::new);
+        if (avecMotDePasse)
+            constructeur.renseigne(ClientRequestDTO::password, "Le mot de passe est obligatoire ");
+        constructeur.renseigne(ClientRequestDTO::email, "L'email est obligatoire ")
+                .renseigne(ClientRequestDTO::adresse, "L'adresse est obligatoire ");
+        if (avecMotDePasse)
+            constructeur.motif(ClientRequestDTO::password, MOT_DE_PASSE, MESSAGE_MOT_DE_PASSE);
+        return constructeur.motif(ClientRequestDTO::email, EMAIL, MESSAGE_EMAIL).construire();
+    }
+
+    private static Validateur<AdministrateurRequestDTO> construireAdmin(boolean avecMotDePasse) {
+        Validateur.Constructeur<AdministrateurRequestDTO> constructeur = Validateur.<AdministrateurRequestDTO>pour(AdministrateurException::new)
+                .exiger(Objects::nonNull, "L'administrateur est null")
+                .renseigne(AdministrateurRequestDTO::nom, "Le nom est obligatoire ")
+                .renseigne(AdministrateurRequestDTO::prenom, "Le prénom est obligatoire")
+                .renseigne(AdministrateurRequestDTO::email, "L'email est obligatoire");
+        if (avecMotDePasse)
+            constructeur.renseigne(AdministrateurRequestDTO::password, "Le mot de passe est obligatoire");
+        constructeur.renseigne(AdministrateurRequestDTO::fonction, "La fonction est obligatoire");
+        if (avecMotDePasse)
+            constructeur.motif(AdministrateurRequestDTO::password, MOT_DE_PASSE, MESSAGE_MOT_DE_PASSE);
+        return constructeur.motif(AdministrateurRequestDTO::email, EMAIL, MESSAGE_EMAIL).construire();
+    }
+}
@@ -0,0 +1,131 @@
+package com.accenture.service.verrou;
+
+import com.accenture.exception.ReservationConflitException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Verrous en mémoire par véhicule, répartis sur un nombre fixe de bandes (puissance de 2) indexées par
+ * l'identifiant du véhicule : les demandes concurrentes sur un même véhicule attendent leur tour dans la JVM,
+ * dans l'ordre d'arrivée, au lieu de se bloquer sur la ligne en base ; celles sur des véhicules de bandes
+ * différentes s'exécutent en parallèle.
+ * Le verrou doit englober toute la transaction (lecture, insertion et commit) : le verrou de ligne en base reste
+ * nécessaire entre plusieurs instances de l'application.
+ * Avec {@code location.reservation.verrous=0}, seul le verrou en base est utilisé.
+ */
+
+@Component
+public class VerrousVehicules {
+
+    public static final String TIMER_ATTENTE = "location.reservation.verrou.attente";
+    public static final String RESUME_FILE = "location.reservation.verrou.file";
+    public static final String JAUGE_EN_ATTENTE = "location.reservation.verrou.en-attente";
+    public static final String JAUGE_FILE_MAX = "location.reservation.verrou.file.max";
+
+    private final ReentrantLock[] verrous;
+    private final int decalage;
+    private final Duration attenteMax;
+    private final Timer attente;
+    private final DistributionSummary file;
+
+
+    public VerrousVehicules(@Value("${location.reservation.verrous:256}") int nbVerrous,
+                            @Value("${location.reservation.attente-max:PT5S}") Duration attenteMax,
+                            MeterRegistry registry) {
+        int nbBandes = nbVerrous <= 0 ? 0 : Math.max(2, Integer.highestOneBit(nbVerrous - 1) << 1);
+        this.verrous = new ReentrantLock[nbBandes];
+        for (int i = 0; i < nbBandes; i++)
+            verrous[i] = new ReentrantLock(true);
+        this.decalage = 64 - Integer.numberOfTrailingZeros(Math.max(nbBandes, 1));
+        this.attenteMax = attenteMax;
+        this.attente = Timer.builder(TIMER_ATTENTE).publishPercentileHistogram().register(registry);
+        this.file = DistributionSummary.builder(RESUME_FILE).register(registry);
+        Gauge.builder(JAUGE_EN_ATTENTE, this, VerrousVehicules::nombreEnAttente).register(registry);
+        Gauge.builder(JAUGE_FILE_MAX, this, VerrousVehicules::fileMax).register(registry);
+    }
+
+    /**
+     * Exécute l'action en détenant le verrou de la bande du véhicule.
+     *
+     * @param vehiculeId identifiant du véhicule.
+     * @param action     traitement à sérialiser (typiquement une transaction complète).
+     * @return le résultat de l'action.
+     * @throws ReservationConflitException si le verrou n'a pas pu être obtenu dans le délai {@code location.reservation.attente-max}.
+     */
+    public <T> T executer(long vehiculeId, Supplier<T> action) {
+        if (verrous.length == 0)
+            return action.get();
+        ReentrantLock verrou = verrous[bande(vehiculeId)];
+        acquerir(verrou);
+        try {
+            return action.get();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public int nombreBandes() {
+        return verrous.length;
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    /**
+     * Hachage de Fibonacci : des identifiants consécutifs tombent dans des bandes différentes.
+     */
+    private int bande(long vehiculeId) {
+        return (int) ((vehiculeId * 0x9E3779B97F4A7C15L) >>> decalage);
+    }
+
+    /**
+     * {@code tryLock()} sans délai ignore l'équité et passerait devant la file : le chemin rapide utilise donc
+     * {@code tryLock(0, ...)}, qui échoue dès qu'une demande attend déjà.
+     */
+    private void acquerir(ReentrantLock verrou) {
+        try {
+            if (verrou.tryLock(0, TimeUnit.NANOSECONDS)) {
+                file.record(0);
+                attente.record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+            file.record(verrou.getQueueLength() + 1.0);
+            long debut = System.nanoTime();
+            try {
+                if (!verrou.tryLock(attenteMax.toNanos(), TimeUnit.NANOSECONDS))
+                    throw new ReservationConflitException("Le véhicule fait l'objet de trop de demandes simultanées, veuillez réessayer");
+            } finally {
+                attente.record(System.nanoTime() - debut, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Attente du verrou du véhicule interrompue", e);
+        }
+    }
+
+    private double nombreEnAttente() {
+        int total = 0;
+        for (ReentrantLock verrou : verrous)
+            total += verrou.getQueueLength();
+        return total;
+    }
+
+    private double fileMax() {
+        int max = 0;
+        for (ReentrantLock verrou : verrous)
+            max = Math.max(max, verrou.getQueueLength());
+        return max;
+    }
+}
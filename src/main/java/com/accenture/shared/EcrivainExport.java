@@ -0,0 +1,93 @@
+package com.accenture.shared;
+
+import com.accenture.shared.enumerations.FormatExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Écrit des lignes d'export (records) sur un flux de sortie, au format NDJSON (un objet JSON par ligne)
+ * ou CSV (une en-tête tirée des composants du record, puis une ligne par élément).
+ * Le flux est vidé régulièrement pour que le client reçoive les données au fil de l'eau
+ * sans que la réponse complète ne soit conservée en mémoire.
+ */
+public final class EcrivainExport<T extends Record> implements Flushable {
+
+    private static final int LIGNES_PAR_ENVOI = 500;
+
+    private final Writer writer;
+    private final FormatExport format;
+    private final ObjectMapper objectMapper;
+    private final RecordComponent[] colonnes;
+    private long nbLignes;
+
+    public EcrivainExport(OutputStream sortie, FormatExport format, ObjectMapper objectMapper, Class<T> type) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(sortie, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.colonnes = type.getRecordComponents();
+        if (format == FormatExport.CSV)
+            ecrireEnTete();
+    }
+
+    public void ecrire(T ligne) throws IOException {
+        if (format == FormatExport.CSV)
+            ecrireCsv(ligne);
+        else
+            writer.write(objectMapper.writeValueAsString(ligne));
+        writer.write('\n');
+        if (++nbLignes % LIGNES_PAR_ENVOI == 0)
+            writer.flush();
+    }
+
+    public long getNbLignes() {
+        return nbLignes;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private void ecrireEnTete() throws IOException {
+        for (int i = 0; i < colonnes.length; i++) {
+            if (i > 0)
+                writer.write(',');
+            writer.write(colonnes[i].getName());
+        }
+        writer.write('\n');
+    }
+
+    private void ecrireCsv(T ligne) throws IOException {
+        for (int i = 0; i < colonnes.length; i++) {
+            if (i > 0)
+                writer.write(',');
+            Object valeur = lire(colonnes[i], ligne);
+            if (valeur != null)
+                writer.write(echapper(valeur.toString()));
+        }
+    }
+
+    private static Object lire(RecordComponent colonne, Record ligne) {
+        try {
+            return colonne.getAccessor().invoke(ligne);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(STR."Impossible de lire la colonne \{colonne.getName()}", e);
+        }
+    }
+
+    private static String echapper(String valeur) {
+        if (valeur.indexOf(',') < 0 && valeur.indexOf('"') < 0 && valeur.indexOf('\n') < 0 && valeur.indexOf('\r') < 0)
+            return valeur;
+        return STR."\"\{valeur.replace("\"", "\"\"")}\"";
+    }
+}
@@ -1,5 +1,14 @@
 package com.accenture.shared;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
+import java.util.List;
+
+public record ErreurReponse(LocalDateTime temporalite, String type, String message,
+                            @JsonInclude(JsonInclude.Include.NON_EMPTY) List<String> violations) {
 
-public record ErreurReponse(LocalDateTime temporalite, String type, String message) {}
+    public ErreurReponse(LocalDateTime temporalite, String type, String message) {
+        this(temporalite, type, message, List.of());
+    }
+}
@@ -0,0 +1,118 @@
+package com.accenture.shared;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Lit un fichier CSV d'import (une en-tête portant les noms des composants du record, puis une ligne par élément),
+ * dans le format produit par {@link EcrivainExport}.
+ * Chaque ligne est convertie par Jackson ; une ligne illisible est renvoyée en erreur sans interrompre la lecture.
+ * Une cellule vide vaut {@code null} (ou 0 pour un type primitif).
+ */
+public final class LecteurImport {
+
+    private LecteurImport() {
+    }
+
+    /**
+     * @param entree       flux CSV encodé en UTF-8.
+     * @param type         record cible.
+     * @param objectMapper convertit chaque ligne (nom de colonne, valeur) en record.
+     * @return une {@link LigneImport} par ligne de données, dans l'ordre du fichier.
+     * @throws IllegalArgumentException si le fichier est vide ou si l'en-tête contient une colonne inconnue.
+     */
+    public static <T extends Record> List<LigneImport<T>> lireCsv(InputStream entree, Class<T> type, ObjectMapper objectMapper) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(entree, StandardCharsets.UTF_8));
+        List<String> enTete = lireLigne(reader);
+        if (enTete == null)
+            throw new IllegalArgumentException("Le fichier d'import est vide");
+        verifierEnTete(enTete, type);
+
+        List<LigneImport<T>> lignes = new ArrayList<>();
+        int numero = 0;
+        for (List<String> cellules = lireLigne(reader); cellules != null; cellules = lireLigne(reader)) {
+            if (cellules.size() == 1 && cellules.getFirst().isEmpty())
+                continue;
+            numero++;
+            if (cellules.size() != enTete.size()) {
+                lignes.add(LigneImport.invalide(numero, STR."\{cellules.size()} colonnes au lieu de \{enTete.size()}"));
+                continue;
+            }
+            Map<String, String> valeurs = new HashMap<>();
+            for (int i = 0; i < enTete.size(); i++)
+                valeurs.put(enTete.get(i), cellules.get(i).isEmpty() ? null : cellules.get(i));
+            try {
+                lignes.add(LigneImport.valide(numero, objectMapper.convertValue(valeurs, type)));
+            } catch (IllegalArgumentException e) {
+                lignes.add(LigneImport.invalide(numero, messageErreur(e)));
+            }
+        }
+        return lignes;
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static void verifierEnTete(List<String> enTete, Class<? extends Record> type) {
+        Set<String> colonnes = new HashSet<>();
+        for (RecordComponent composant : type.getRecordComponents())
+            colonnes.add(composant.getName());
+        for (String colonne : enTete)
+            if (!colonnes.contains(colonne))
+                throw new IllegalArgumentException(STR."Colonne inconnue dans l'en-tête : \{colonne}");
+    }
+
+    private static String messageErreur(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty())
+            return STR."Valeur invalide pour la colonne \{mapping.getPath().getLast().getFieldName()}";
+        return "Ligne illisible";
+    }
+
+    /**
+     * Lit une ligne CSV ; une valeur entre guillemets peut contenir des virgules, des sauts de ligne et des guillemets doublés.
+     *
+     * @return les cellules de la ligne, ou {@code null} en fin de fichier.
+     */
+    private static List<String> lireLigne(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c < 0)
+            return null;
+        List<String> cellules = new ArrayList<>();
+        StringBuilder cellule = new StringBuilder();
+        boolean entreGuillemets = false;
+        for (; c >= 0; c = reader.read()) {
+            if (entreGuillemets) {
+                if (c != '"') {
+                    cellule.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    cellule.append('"');
+                } else {
+                    reader.reset();
+                    entreGuillemets = false;
+                }
+            } else if (c == '"') {
+                entreGuillemets = true;
+            } else if (c == ',') {
+                cellules.add(cellule.toString());
+                cellule.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                cellule.append((char) c);
+            }
+        }
+        cellules.add(cellule.toString());
+        return cellules;
+    }
+}
@@ -0,0 +1,41 @@
+package com.accenture.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Ligne d'un import en masse : la valeur lue, ou l'erreur qui a empêché de la lire.
+ *
+ * @param numero : numéro de la ligne de données (à partir de 1, en-tête CSV exclue)
+ * @param valeur : valeur lue, {@code null} si la ligne est illisible
+ * @param erreur : raison pour laquelle la ligne n'a pas pu être lue, {@code null} sinon
+ */
+public record LigneImport<T>(int numero, T valeur, String erreur) {
+
+    public static <T> LigneImport<T> valide(int numero, T valeur) {
+        return new LigneImport<>(numero, valeur, null);
+    }
+
+    public static <T> LigneImport<T> invalide(int numero, String erreur) {
+        return new LigneImport<>(numero, null, erreur);
+    }
+
+    /**
+     * Numérote les éléments d'un import JSON dans leur ordre d'arrivée.
+     */
+    public static <T> List<LigneImport<T>> numeroter(List<T> valeurs) {
+        List<LigneImport<T>> lignes = new ArrayList<>(valeurs.size());
+        for (int i = 0; i < valeurs.size(); i++)
+            lignes.add(valide(i + 1, valeurs.get(i)));
+        return lignes;
+    }
+
+    /**
+     * @param regles renvoie les violations des règles de validation pour une valeur lue.
+     * @return l'erreur de lecture, ou les violations de la valeur (liste vide si la ligne est valide).
+     */
+    public List<String> violations(Function<T, List<String>> regles) {
+        return erreur != null ? List.of(erreur) : regles.apply(valeur);
+    }
+}
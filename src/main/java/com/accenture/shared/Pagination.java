@@ -0,0 +1,94 @@
+package com.accenture.shared;
+
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.service.dto.PageDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Outils communs de pagination : conversion des {@link Slice} en {@link PageDTO} et
+ * encodage / décodage des curseurs opaques utilisés pour la pagination par clé (identifiant).
+ */
+public final class Pagination {
+
+    public static final int TAILLE_MAX = 500;
+    private static final String CURSEUR_INVALIDE = "Le curseur n'est pas valide";
+
+    private Pagination() {
+    }
+
+    /**
+     * Convertit une {@link Slice} (ou une {@link Page} si le total a été calculé) en {@link PageDTO}.
+     */
+    public static <E, C> PageDTO<C> versPage(Slice<E> slice, Function<List<E>, C> convertisseur) {
+        Long total = slice instanceof Page<E> page ? page.getTotalElements() : null;
+        return new PageDTO<>(convertisseur.apply(slice.getContent()), slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+
+    /**
+     * Adapte un mapper d'élément en convertisseur de liste.
+     */
+    public static <E, D> Function<List<E>, List<D>> chacun(Function<E, D> mapper) {
+        return liste -> liste.stream().map(mapper).toList();
+    }
+
+    /**
+     * Limite de lecture pour une portion par curseur : un élément de plus que la taille demandée,
+     * afin de savoir s'il reste des éléments sans requête supplémentaire.
+     */
+    public static Limit limite(int taille) {
+        return Limit.of(tailleValide(taille) + 1);
+    }
+
+    /**
+     * Construit la portion à renvoyer à partir des lignes lues avec {@link #limite(int)}.
+     */
+    public static <E, C> CurseurDTO<C> versCurseur(List<E> lignes, int taille, ToLongFunction<E> identifiant, Function<List<E>, C> convertisseur) {
+        int tailleValide = tailleValide(taille);
+        boolean suite = lignes.size() > tailleValide;
+        List<E> portion = suite ? lignes.subList(0, tailleValide) : lignes;
+        String curseurSuivant = suite ? encoder(identifiant.applyAsLong(portion.getLast())) : null;
+        return new CurseurDTO<>(convertisseur.apply(portion), curseurSuivant);
+    }
+
+    /**
+     * Décode un curseur opaque ; un curseur absent correspond au début de la liste.
+     * Un curseur qui n'est pas en Base64, dont la longueur diffère de celle d'un identifiant ou qui désigne un
+     * identifiant négatif est rejeté (réponse 400).
+     *
+     * @throws IllegalArgumentException si le curseur n'est pas valide.
+     */
+    public static long decoder(String curseur) {
+        if (curseur == null || curseur.isBlank())
+            return 0L;
+        byte[] octets;
+        try {
+            octets = Base64.getUrlDecoder().decode(curseur);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(CURSEUR_INVALIDE, e);
+        }
+        if (octets.length != Long.BYTES)
+            throw new IllegalArgumentException(CURSEUR_INVALIDE);
+        long identifiant = ByteBuffer.wrap(octets).getLong();
+        if (identifiant < 0)
+            throw new IllegalArgumentException(CURSEUR_INVALIDE);
+        return identifiant;
+    }
+
+    public static String encoder(long identifiant) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(identifiant).array());
+    }
+
+    private static int tailleValide(int taille) {
+        if (taille <= 0)
+            throw new IllegalArgumentException("La taille doit être positive");
+        return Math.min(taille, TAILLE_MAX);
+    }
+}
@@ -0,0 +1,70 @@
+package com.accenture.shared;
+
+import com.accenture.service.dto.vehicules.MotoResponseDTO;
+import com.accenture.service.dto.vehicules.VehiculeDTO;
+import com.accenture.service.dto.vehicules.VoitureResponseDTO;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Forme résumée des collections pour les journaux : nombre d'éléments et premiers identifiants,
+ * au lieu du {@code toString()} complet de chaque élément.
+ * Le résumé n'est calculé que si le message est effectivement écrit (passé en paramètre {@code {}} de SLF4J).
+ */
+public final class ResumeLog {
+
+    public static final int IDENTIFIANTS_MAX = 10;
+
+    private ResumeLog() {
+    }
+
+    /**
+     * Résume une collection, par exemple {@code 42 éléments [ids 1, 2, 3, … +32]}.
+     */
+    public static <T> Object resume(Collection<T> elements, Function<T, ?> identifiant) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return resumer(elements, identifiant);
+            }
+        };
+    }
+
+    /**
+     * Résume un {@link VehiculeDTO} : motos et voitures séparément.
+     */
+    public static Object resume(VehiculeDTO vehicules) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return STR."motos : \{resumer(vehicules.motos(), MotoResponseDTO::id)}, voitures : \{resumer(vehicules.voitures(), VoitureResponseDTO::id)}";
+            }
+        };
+    }
+
+
+//************************************************************************************************************************
+//                                               METHODES PRIVEES
+//************************************************************************************************************************
+
+
+    private static <T> String resumer(Collection<T> elements, Function<T, ?> identifiant) {
+        if (elements == null)
+            return "null";
+        StringBuilder resume = new StringBuilder().append(elements.size()).append(" éléments");
+        if (elements.isEmpty())
+            return resume.toString();
+        resume.append(" [ids ");
+        Iterator<T> iterateur = elements.iterator();
+        for (int i = 0; i < IDENTIFIANTS_MAX && iterateur.hasNext(); i++) {
+            if (i > 0)
+                resume.append(", ");
+            resume.append(identifiant.apply(iterateur.next()));
+        }
+        if (elements.size() > IDENTIFIANTS_MAX)
+            resume.append(", … +").append(elements.size() - IDENTIFIANTS_MAX);
+        return resume.append(']').toString();
+    }
+}
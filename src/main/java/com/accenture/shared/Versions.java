@@ -0,0 +1,52 @@
+package com.accenture.shared;
+
+import com.accenture.exception.VersionObsoleteException;
+
+/**
+ * Outils communs du verrouillage optimiste exposé en HTTP : la version d'une entité ({@code @Version})
+ * est renvoyée dans l'en-tête {@code ETag} et attendue dans l'en-tête {@code If-Match} des requêtes PATCH.
+ */
+public final class Versions {
+
+    private Versions() {
+    }
+
+    /**
+     * Convertit une version en valeur d'ETag (forte, entre guillemets).
+     */
+    public static String etag(long version) {
+        return STR."\"\{version}\"";
+    }
+
+    /**
+     * Lit la version attendue dans un en-tête {@code If-Match}.
+     *
+     * @param ifMatch valeur de l'en-tête, éventuellement absente.
+     * @return la version attendue, ou {@code null} si l'en-tête est absent ou vaut {@code *} (pas de précondition).
+     * @throws IllegalArgumentException si l'en-tête ne contient pas une version.
+     */
+    public static Long versionAttendue(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*"))
+            return null;
+        String valeur = ifMatch.strip();
+        if (valeur.startsWith("W/"))
+            valeur = valeur.substring(2);
+        if (valeur.length() >= 2 && valeur.startsWith("\"") && valeur.endsWith("\""))
+            valeur = valeur.substring(1, valeur.length() - 1);
+        try {
+            return Long.parseLong(valeur);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(STR."En-tête If-Match invalide : \{ifMatch}");
+        }
+    }
+
+    /**
+     * Vérifie que la version lue en base correspond à la version attendue par le client.
+     *
+     * @throws VersionObsoleteException si la ressource a été modifiée depuis que le client l'a lue.
+     */
+    public static void verifier(Long versionAttendue, long versionActuelle) {
+        if (versionAttendue != null && versionAttendue != versionActuelle)
+            throw new VersionObsoleteException(STR."La ressource a été modifiée entre-temps (version \{versionActuelle}, attendue \{versionAttendue})");
+    }
+}
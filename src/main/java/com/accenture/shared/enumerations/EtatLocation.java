@@ -1,6 +1,30 @@
 package com.accenture.shared.enumerations;
 
+/**
+ * Cycle de vie d'une location : RESERVER → VALIDER → EN_COURS → RENDUE → CLOTUREE,
+ * une location pouvant être ANNULEE tant qu'elle n'a pas commencé.
+ * L'état est stocké par son nom (colonne {@code etat_location}, cf. {@code db/etats-locations.sql}) : l'ordre
+ * des valeurs peut changer, mais renommer une valeur impose de migrer les données et les scripts SQL.
+ */
 public enum EtatLocation {
     RESERVER,
-    VALDIDER,
+    VALIDER,
+    EN_COURS,
+    RENDUE,
+    CLOTUREE,
+    ANNULEE;
+
+    /**
+     * @param suivant état visé.
+     * @return {@code true} si une location dans cet état peut passer à l'état {@code suivant}.
+     */
+    public boolean peutPasserA(EtatLocation suivant) {
+        return switch (this) {
+            case RESERVER -> suivant == VALIDER || suivant == ANNULEE;
+            case VALIDER -> suivant == EN_COURS || suivant == ANNULEE;
+            case EN_COURS -> suivant == RENDUE;
+            case RENDUE -> suivant == CLOTUREE;
+            case CLOTUREE, ANNULEE -> false;
+        };
+    }
 }
@@ -0,0 +1,7 @@
+package com.accenture.shared.enumerations;
+
+public enum ModeValidation {
+
+    PREMIERE_ERREUR,
+    TOUTES_LES_ERREURS
+}
@@ -0,0 +1,7 @@
+package com.accenture.shared.enumerations;
+
+public enum Role {
+
+    CLIENT,
+    ADMINISTRATEUR
+}
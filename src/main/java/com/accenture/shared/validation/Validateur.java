@@ -0,0 +1,145 @@
+package com.accenture.shared.validation;
+
+import com.accenture.shared.enumerations.ModeValidation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Chaîne de règles de validation, construite une seule fois puis partagée entre les requêtes.
+ * Les expressions régulières sont compilées à la construction ; la validation d'un objet valide ne crée aucun objet.
+ * En mode {@link ModeValidation#PREMIERE_ERREUR}, la première règle violée lève l'exception ; en mode
+ * {@link ModeValidation#TOUTES_LES_ERREURS}, toutes les violations sont rassemblées dans une seule exception.
+ * Une règle déclarée avec {@link Constructeur#exiger} ou avec sa propre exception interrompt la validation dans les deux modes.
+ *
+ * @param <T> le type de l'objet validé.
+ */
+public final class Validateur<T> {
+
+    private final Regle<T>[] regles;
+    private final Function<List<String>, ? extends RuntimeException> exception;
+
+    private Validateur(List<Regle<T>> regles, Function<List<String>, ? extends RuntimeException> exception) {
+        @SuppressWarnings("unchecked")
+        Regle<T>[] tableau = regles.toArray(new Regle[0]);
+        this.regles = tableau;
+        this.exception = exception;
+    }
+
+    /**
+     * @param exception construit l'exception levée à partir de la liste des violations.
+     * @return un constructeur de {@link Validateur} vide.
+     */
+    public static <T> Constructeur<T> pour(Function<List<String>, ? extends RuntimeException> exception) {
+        return new Constructeur<>(exception);
+    }
+
+    /**
+     * Applique les règles dans leur ordre de déclaration.
+     *
+     * @param objet l'objet à valider, éventuellement {@code null}.
+     * @param mode  arrêt à la première violation ou collecte de toutes les violations.
+     * @throws RuntimeException l'exception de la règle ou du validateur si au moins une règle est violée.
+     */
+    public void verifier(T objet, ModeValidation mode) {
+        List<String> violations = null;
+        for (Regle<T> regle : regles) {
+            if (regle.condition.test(objet))
+                continue;
+            if (regle.exceptionPropre != null)
+                throw regle.exceptionPropre.apply(regle.message);
+            if (violations == null)
+                violations = new ArrayList<>(4);
+            violations.add(regle.message);
+            if (regle.bloquante || mode == ModeValidation.PREMIERE_ERREUR)
+                break;
+        }
+        if (violations != null)
+            throw exception.apply(violations);
+    }
+
+    /**
+     * Rassemble toutes les violations sans lever d'exception (import en masse, une ligne à la fois).
+     * Une règle bloquante ou à exception propre violée est rapportée et arrête la collecte.
+     *
+     * @return les messages des règles violées, liste vide si l'objet est valide.
+     */
+    public List<String> violations(T objet) {
+        List<String> violations = List.of();
+        for (Regle<T> regle : regles) {
+            if (regle.condition.test(objet))
+                continue;
+            if (violations.isEmpty())
+                violations = new ArrayList<>(4);
+            violations.add(regle.message);
+            if (regle.bloquante)
+                break;
+        }
+        return violations;
+    }
+
+
+    private record Regle<T>(Predicate<T> condition, String message, boolean bloquante,
+                            Function<String, ? extends RuntimeException> exceptionPropre) {
+    }
+
+
+    public static final class Constructeur<T> {
+
+        private final Function<List<String>, ? extends RuntimeException> exception;
+        private final List<Regle<T>> regles = new ArrayList<>();
+
+        private Constructeur(Function<List<String>, ? extends RuntimeException> exception) {
+            this.exception = exception;
+        }
+
+        /**
+         * Règle bloquante : si elle est violée, les règles suivantes ne sont pas évaluées (ex : objet {@code null}).
+         */
+        public Constructeur<T> exiger(Predicate<T> condition, String message) {
+            regles.add(new Regle<>(condition, message, true, null));
+            return this;
+        }
+
+        public Constructeur<T> regle(Predicate<T> condition, String message) {
+            regles.add(new Regle<>(condition, message, false, null));
+            return this;
+        }
+
+        /**
+         * Règle levant sa propre exception, quel que soit le mode.
+         */
+        public Constructeur<T> regle(Predicate<T> condition, String message, Function<String, ? extends RuntimeException> exceptionPropre) {
+            regles.add(new Regle<>(condition, message, true, exceptionPropre));
+            return this;
+        }
+
+        /**
+         * Le champ doit être renseigné (non {@code null} et, pour une chaîne, non vide).
+         */
+        public Constructeur<T> renseigne(Function<T, ?> champ, String message) {
+            return regle(objet -> switch (champ.apply(objet)) {
+                case null -> false;
+                case String chaine -> !chaine.isBlank();
+                default -> true;
+            }, message);
+        }
+
+        /**
+         * Le champ doit respecter le motif ; un champ {@code null} est laissé aux règles {@link #renseigne}.
+         */
+        public Constructeur<T> motif(Function<T, String> champ, Pattern motif, String message) {
+            return regle(objet -> {
+                String valeur = champ.apply(objet);
+                return valeur == null || motif.matcher(valeur).matches();
+            }, message);
+        }
+
+        public Validateur<T> construire() {
+            return new Validateur<>(regles, exception);
+        }
+    }
+}
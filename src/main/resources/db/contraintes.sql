@@ -0,0 +1,16 @@
+-- Interdit deux locations non annulees d'un meme vehicule sur des periodes qui se chevauchent ([date_debut, date_fin[),
+-- y compris entre transactions concurrentes. L'etat est compare par son nom (EtatLocation stocke en chaine) ; une
+-- contrainte creee avant l'annulation (sans clause WHERE) est remplacee. Le bloc est ecrit entre apostrophes
+-- (et non entre $$) pour que le script ne soit pas decoupe sur ses points-virgules internes.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+DO 'BEGIN
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''location_sans_chevauchement''
+               AND pg_get_constraintdef(oid) NOT LIKE ''%ANNULEE%'') THEN
+        ALTER TABLE location DROP CONSTRAINT location_sans_chevauchement;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''location_sans_chevauchement'') THEN
+        ALTER TABLE location ADD CONSTRAINT location_sans_chevauchement
+            EXCLUDE USING gist (vehicule_id WITH =, daterange(date_debut, date_fin) WITH &&)
+            WHERE (etat_location IS DISTINCT FROM ''ANNULEE'');
+    END IF;
+END';
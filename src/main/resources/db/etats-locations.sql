@@ -0,0 +1,18 @@
+-- etat_location etait stocke par rang (EtatLocation ordinal) : conversion en nom des bases existantes
+-- (ddl-auto=update ne change pas le type d'une colonne). La contrainte d'exclusion et le controle d'Hibernate
+-- portant sur les rangs sont supprimes ; contraintes.sql recree la premiere. Meme ecriture entre apostrophes
+-- que contraintes.sql.
+DO 'DECLARE
+    contrainte record;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = ''location''
+               AND column_name = ''etat_location'' AND data_type IN (''smallint'', ''integer'')) THEN
+        FOR contrainte IN SELECT conname FROM pg_constraint
+                          WHERE conrelid = ''location''::regclass AND contype IN (''c'', ''x'')
+                          AND pg_get_constraintdef(oid) LIKE ''%etat_location%'' LOOP
+            EXECUTE format(''ALTER TABLE location DROP CONSTRAINT %I'', contrainte.conname);
+        END LOOP;
+        ALTER TABLE location ALTER COLUMN etat_location TYPE varchar(255)
+            USING (ARRAY[''RESERVER'', ''VALIDER'', ''EN_COURS'', ''RENDUE'', ''CLOTUREE'', ''ANNULEE''])[etat_location + 1];
+    END IF;
+END';
@@ -0,0 +1,6 @@
+-- Index partiels servant les filtres ACTIF / INACTIF / HORSPARC / DANSLEPARC.
+-- Execute apres la mise a jour du schema par Hibernate (spring.jpa.defer-datasource-initialization).
+CREATE INDEX IF NOT EXISTS idx_vehicule_actif ON vehicule (id) WHERE actif = true;
+CREATE INDEX IF NOT EXISTS idx_vehicule_inactif ON vehicule (id) WHERE actif = false;
+CREATE INDEX IF NOT EXISTS idx_vehicule_hors_parc ON vehicule (id) WHERE retire_du_parc = true;
+CREATE INDEX IF NOT EXISTS idx_vehicule_dans_parc ON vehicule (id) WHERE retire_du_parc = false;
@@ -0,0 +1,9 @@
+-- km_parcourus etait une chaine : conversion en entier des bases existantes (ddl-auto=update ne change pas
+-- le type d'une colonne). Meme ecriture entre apostrophes que contraintes.sql.
+DO 'BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = ''location''
+               AND column_name = ''km_parcourus'' AND data_type = ''character varying'') THEN
+        ALTER TABLE location ALTER COLUMN km_parcourus TYPE integer
+            USING CAST(NULLIF(trim(km_parcourus), '''') AS integer);
+    END IF;
+END';
@@ -0,0 +1,3 @@
+-- Recale la sequence des vehicules (allouee par blocs de 50, cf. Vehicule.TAILLE_ALLOCATION) au-dessus des
+-- identifiants existants, dont ceux attribues par l'ancienne colonne IDENTITY. Ne fait jamais reculer la sequence.
+SELECT setval('vehicule_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM vehicule) + 50, (SELECT last_value FROM vehicule_seq)));
@@ -0,0 +1,117 @@
+package com.accenture;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.service.disponibilite.CalendrierDisponibilite;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.vehicules.CalendrierDTO;
+import com.accenture.service.dto.vehicules.CalendrierVehiculeDTO;
+import com.accenture.service.dto.vehicules.DisponibiliteJourDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.Filtre;
+import com.accenture.shared.enumerations.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CalendrierDisponibiliteTest {
+
+    @Mock
+    LocationDAO locationDaoMock;
+    @Mock
+    VehiculeDAO vehiculeDaoMock;
+
+    CalendrierDisponibilite calendrier;
+    LocalDate aujourdhui = LocalDate.now();
+
+    @BeforeEach
+    void init() {
+        calendrier = new CalendrierDisponibilite(locationDaoMock, vehiculeDaoMock, 30, Duration.ofMinutes(5));
+        Mockito.when(vehiculeDaoMock.trouverTousIndexes()).thenReturn(List.of(
+                new VehiculeIndexeDTO(1L, Type.CITADINE, false, true, false),
+                new VehiculeIndexeDTO(2L, Type.SUV, false, false, false),
+                new VehiculeIndexeDTO(3L, Type.ROADSTER, true, true, true)));
+        Mockito.when(locationDaoMock.trouverPeriodesEntre(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(List.of(
+                new PeriodeLocationDTO(10L, 1L, aujourdhui.plusDays(1), aujourdhui.plusDays(3)),
+                new PeriodeLocationDTO(11L, 2L, aujourdhui.minusDays(5), aujourdhui.plusDays(1))));
+    }
+
+    @DisplayName("La matrice indique les jours libres de chaque véhicule")
+    @Test
+    void testMatrice() {
+        CalendrierDTO dto = calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, null);
+        assertEquals(3, dto.vehicules().size());
+        assertEquals("1001", dto.vehicules().get(0).joursLibres());
+        assertEquals("0111", dto.vehicules().get(1).joursLibres());
+        assertEquals("1111", dto.vehicules().get(2).joursLibres());
+    }
+
+    @DisplayName("Le comptage par jour applique le type et le filtre")
+    @Test
+    void testComptageParJour() {
+        List<Integer> tous = calendrier.compterLibresParJour(aujourdhui, aujourdhui.plusDays(4), null, null).stream()
+                .map(DisponibiliteJourDTO::nbVehiculesLibres)
+                .toList();
+        assertEquals(List.of(2, 2, 2, 3), tous);
+        List<Integer> dansLeParc = calendrier.compterLibresParJour(aujourdhui, aujourdhui.plusDays(4), null, Filtre.DANSLEPARC).stream()
+                .map(DisponibiliteJourDTO::nbVehiculesLibres)
+                .toList();
+        assertEquals(List.of(1, 1, 1, 2), dansLeParc);
+        assertEquals(1, calendrier.compterLibresParJour(aujourdhui, aujourdhui.plusDays(1), Type.SUV, null).size());
+    }
+
+    @DisplayName("Les locations enregistrées ou retirées après la construction sont reportées sans reconstruire le calendrier")
+    @Test
+    void testMiseAJourLocations() {
+        calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, null);
+
+        calendrier.enregistrerLocation(new PeriodeLocationDTO(12L, 1L, aujourdhui.plusDays(2), aujourdhui.plusDays(4)));
+        calendrier.enregistrerLocation(new PeriodeLocationDTO(13L, 3L, aujourdhui, aujourdhui.plusDays(2)));
+        calendrier.retirerLocation(11L);
+        CalendrierDTO dto = calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, null);
+
+        assertEquals("1000", dto.vehicules().get(0).joursLibres());
+        assertEquals("1111", dto.vehicules().get(1).joursLibres());
+        assertEquals("0011", dto.vehicules().get(2).joursLibres());
+
+        calendrier.retirerLocation(10L);
+        assertEquals("1100", calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, null).vehicules().get(0).joursLibres());
+        Mockito.verify(locationDaoMock, Mockito.times(1)).trouverPeriodesEntre(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @DisplayName("Un véhicule ajouté, modifié ou supprimé après la construction est reporté sans reconstruire le calendrier")
+    @Test
+    void testMiseAJourVehicules() {
+        calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, null);
+
+        calendrier.enregistrerVehicule(new VehiculeIndexeDTO(4L, Type.SUV, false, true, false));
+        calendrier.enregistrerLocation(new PeriodeLocationDTO(14L, 4L, aujourdhui, aujourdhui.plusDays(1)));
+        calendrier.enregistrerVehicule(new VehiculeIndexeDTO(3L, Type.ROADSTER, true, true, false));
+        calendrier.retirerVehicule(1L);
+
+        CalendrierDTO dto = calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, null);
+        assertEquals(List.of(2L, 3L, 4L), dto.vehicules().stream().map(CalendrierVehiculeDTO::vehiculeId).toList());
+        assertEquals("0111", dto.vehicules().get(2).joursLibres());
+        assertEquals(2, calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), Type.SUV, null).vehicules().size());
+        assertEquals(3, calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(4), null, Filtre.DANSLEPARC).vehicules().size());
+        Mockito.verify(vehiculeDaoMock, Mockito.times(1)).trouverTousIndexes();
+    }
+
+    @DisplayName("Une période hors de l'horizon lève une IllegalArgumentException")
+    @Test
+    void testHorsHorizon() {
+        assertThrows(IllegalArgumentException.class, () -> calendrier.calculerMatrice(aujourdhui, aujourdhui.plusDays(31), null, null));
+    }
+}
@@ -10,6 +10,10 @@ import com.accenture.shared.enumerations.Permis;
 import com.accenture.service.ClientServiceImpl;
 import com.accenture.service.dto.utilisateurs.ClientResponseDTO;
 import com.accenture.service.mapper.ClientMapper;
+import com.accenture.service.motdepasse.HachageMotDePasse;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.shared.enumerations.ModeValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +21,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +38,10 @@ public class ClientServiceImplTest {
     ClientDAO daoMock;
     @Mock
     ClientMapper mapperMock;
+    @Spy
+    HachageMotDePasse hachageMotDePasse = new HachageMotDePasse(4, 1, 16, Duration.ofSeconds(5), 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    @Spy
+    ValidationRequetes validation = new ValidationRequetes(ModeValidation.PREMIERE_ERREUR);
     @InjectMocks
     ClientServiceImpl service;
 
@@ -66,18 +76,12 @@ public class ClientServiceImplTest {
             """)
     @Test
     void testTrouverTous() {
-        Client client1 = creeClient();
-        Client client2 = CreeClient2();
-
         ClientResponseDTO client1ClientResponseDTO = creerClient1ResponseDTO();
         ClientResponseDTO client2ClientResponseDTO = creerClient2ResponseDTO();
 
-        List<Client> clients = List.of(client1, client2);
         List<ClientResponseDTO> clientsDTO = List.of(client1ClientResponseDTO, client2ClientResponseDTO);
 
-        Mockito.when(daoMock.findAll()).thenReturn(clients);
-        Mockito.when(mapperMock.toClientResponseDTO(client1)).thenReturn(client1ClientResponseDTO);
-        Mockito.when(mapperMock.toClientResponseDTO(client2)).thenReturn(client2ClientResponseDTO);
+        Mockito.when(daoMock.trouverTousDTO()).thenReturn(clientsDTO);
         assertEquals(clientsDTO, service.trouverTous());
     }
 
@@ -287,6 +291,7 @@ public class ClientServiceImplTest {
         Client client = new Client();
         client.setPassword("Azerty@96");
         Mockito.when(daoMock.findByLogin("moicmama@gmail.com")).thenReturn(Optional.of(client));
+        Mockito.when(daoMock.save(client)).thenReturn(client);
 
         ClientResponseDTO responseDTO = creerClient1ResponseDTO();
         Mockito.when(mapperMock.toClientResponseDTO(client)).thenReturn(responseDTO);
@@ -297,6 +302,22 @@ public class ClientServiceImplTest {
     }
 
 
+    @DisplayName("Un mot de passe enregistré en clair est remplacé par son hachage à la connexion")
+    @Test
+    void testInfosClientsRehachage() {
+        Client client = new Client();
+        client.setPassword("Azerty@96");
+        Mockito.when(daoMock.findByLogin("moicmama@gmail.com")).thenReturn(Optional.of(client));
+        Mockito.when(daoMock.save(client)).thenReturn(client);
+
+        service.recupererinfosCompte("moicmama@gmail.com", "Azerty@96");
+
+        assertTrue(client.getPassword().startsWith(HachageMotDePasse.PREFIXE));
+        assertTrue(hachageMotDePasse.verifier("Azerty@96", client.getPassword()));
+        Mockito.verify(daoMock).save(client);
+    }
+
+
 
 //***********************************************************************************************************************
 //                                                 METHODES SUPP Compte
@@ -309,6 +330,7 @@ public class ClientServiceImplTest {
         client.setLogin("moicmama@gmail.com");
         client.setPassword("Azerty@96");
         Mockito.when(daoMock.findByLogin("moicmama@gmail.com")).thenReturn(Optional.of(client));
+        Mockito.when(daoMock.save(client)).thenReturn(client);
 
         ClientResponseDTO responseDTO = creerClient1ResponseDTO();
         Mockito.when(mapperMock.toClientResponseDTO(client)).thenReturn(responseDTO);
@@ -479,13 +501,13 @@ public class ClientServiceImplTest {
     private static ClientResponseDTO creerClient1ResponseDTO() {
         return new ClientResponseDTO(1, "Lucas", "Marion", "moicmama@gmail.com",
                 new AdresseDTO("75 rue du moulin Soline", "44115", "Basse Goulaine"),
-                LocalDate.of(1996, 7, 20), Permis.B1, LocalDate.now());
+                LocalDate.of(1996, 7, 20), Permis.B1, LocalDate.now(), 0L);
     }
 
     private static ClientResponseDTO creerClient2ResponseDTO() {
         return new ClientResponseDTO(2, "Marigonez", "Mélodie", "melodie.marigonez@hotmail.com",
                 new AdresseDTO("75 rue du moulin Soline", "44115", "Basse Goulaine"),
-                LocalDate.of(1999, 7, 27), Permis.B1, LocalDate.now());
+                LocalDate.of(1999, 7, 27), Permis.B1, LocalDate.now(), 0L);
     }
 
     private static ClientRequestDTO creerClient1RequestDTO() {
@@ -0,0 +1,25 @@
+package com.accenture;
+
+import com.accenture.configuration.CompteurRequetesSql;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompteurRequetesSqlTest {
+
+    CompteurRequetesSql compteur = new CompteurRequetesSql();
+
+    @DisplayName("Les instructions sont comptées entre demarrer et arreter, sans modifier le SQL")
+    @Test
+    void testComptage() {
+        compteur.inspect("select 1");
+        CompteurRequetesSql.demarrer();
+        assertEquals("select 2", compteur.inspect("select 2"));
+        compteur.inspect("select 3");
+        assertEquals(2, CompteurRequetesSql.nombre());
+        assertEquals(2, CompteurRequetesSql.arreter());
+        compteur.inspect("select 4");
+        assertEquals(0, CompteurRequetesSql.nombre());
+    }
+}
@@ -0,0 +1,84 @@
+package com.accenture;
+
+import com.accenture.repository.entity.utilisateurs.Location;
+import com.accenture.repository.entity.vehicules.Moto;
+import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.disponibilite.CalendrierDisponibilite;
+import com.accenture.service.disponibilite.DisponibiliteListener;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.EtatLocation;
+import com.accenture.shared.enumerations.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDate;
+
+@ExtendWith(MockitoExtension.class)
+public class DisponibiliteListenerTest {
+
+    @Mock
+    ObjectProvider<IndexDisponibilite> indexProviderMock;
+    @Mock
+    ObjectProvider<CalendrierDisponibilite> calendrierProviderMock;
+    @Mock
+    IndexDisponibilite indexMock;
+    @Mock
+    CalendrierDisponibilite calendrierMock;
+
+    DisponibiliteListener listener;
+
+    @BeforeEach
+    void init() {
+        Mockito.when(indexProviderMock.getIfAvailable()).thenReturn(indexMock);
+        Mockito.when(calendrierProviderMock.getIfAvailable()).thenReturn(calendrierMock);
+        listener = new DisponibiliteListener(indexProviderMock, calendrierProviderMock);
+    }
+
+    @DisplayName("Un véhicule enregistré est indexé avec son type, sa catégorie et ses statuts")
+    @Test
+    void testEnregistrementVehicule() {
+        Moto moto = new Moto();
+        moto.setId(4L);
+        moto.setType(Type.ROADSTER);
+        moto.setActif(true);
+        moto.setRetireDuParc(false);
+
+        listener.apresEnregistrement(moto);
+
+        Mockito.verify(indexMock).enregistrerVehicule(new VehiculeIndexeDTO(4L, Type.ROADSTER, true, true, false));
+        Mockito.verify(calendrierMock).enregistrerVehicule(new VehiculeIndexeDTO(4L, Type.ROADSTER, true, true, false));
+        Mockito.verify(calendrierMock, Mockito.never()).invalider();
+    }
+
+    @DisplayName("Une location enregistrée est indexée et reportée dans le calendrier, une location annulée en est retirée")
+    @Test
+    void testEnregistrementLocation() {
+        Voiture voiture = new Voiture();
+        voiture.setId(2L);
+        Location location = new Location();
+        location.setId(10L);
+        location.setVehicule(voiture);
+        location.setDateDebut(LocalDate.of(2025, 3, 1));
+        location.setDateFin(LocalDate.of(2025, 3, 4));
+
+        PeriodeLocationDTO periode = new PeriodeLocationDTO(10L, 2L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 4));
+
+        listener.apresEnregistrement(location);
+        Mockito.verify(indexMock).enregistrerLocation(periode);
+        Mockito.verify(calendrierMock).enregistrerLocation(periode);
+
+        location.setEtatLocation(EtatLocation.ANNULEE);
+        listener.apresEnregistrement(location);
+        Mockito.verify(indexMock).retirerLocation(10L);
+        Mockito.verify(calendrierMock).retirerLocation(10L);
+        Mockito.verify(calendrierMock, Mockito.never()).invalider();
+    }
+}
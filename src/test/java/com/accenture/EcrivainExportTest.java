@@ -0,0 +1,51 @@
+package com.accenture;
+
+import com.accenture.service.dto.utilisateurs.ClientExportDTO;
+import com.accenture.shared.EcrivainExport;
+import com.accenture.shared.enumerations.FormatExport;
+import com.accenture.shared.enumerations.Permis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EcrivainExportTest {
+
+    ClientExportDTO client = new ClientExportDTO(1L, "Dupont", "Jean, \"JJ\"", "jean@mail.fr",
+            LocalDate.of(1990, 1, 1), LocalDate.of(2025, 1, 1), Permis.B, false, "1 rue des Lilas", "44000", null);
+
+    @DisplayName("L'export CSV écrit l'en-tête puis échappe les valeurs contenant des virgules ou des guillemets")
+    @Test
+    void testCsv() throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        EcrivainExport<ClientExportDTO> ecrivain = new EcrivainExport<>(sortie, FormatExport.CSV, new ObjectMapper(), ClientExportDTO.class);
+        ecrivain.ecrire(client);
+        ecrivain.flush();
+        String[] lignes = sortie.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,nom,prenom,email,dateNaissance,dateInscription,permis,desactive,rue,codePostal,ville", lignes[0]);
+        assertEquals("1,Dupont,\"Jean, \"\"JJ\"\"\",jean@mail.fr,1990-01-01,2025-01-01,B,false,1 rue des Lilas,44000,", lignes[1]);
+    }
+
+    @DisplayName("L'export NDJSON écrit un objet JSON par ligne, sans mot de passe")
+    @Test
+    void testNdjson() throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        EcrivainExport<ClientExportDTO> ecrivain = new EcrivainExport<>(sortie, FormatExport.NDJSON, objectMapper, ClientExportDTO.class);
+        ecrivain.ecrire(client);
+        ecrivain.ecrire(client);
+        ecrivain.flush();
+        String[] lignes = sortie.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lignes.length);
+        assertTrue(lignes[0].startsWith("{\"id\":1,"));
+        assertFalse(lignes[0].contains("password"));
+        assertEquals(2, ecrivain.getNbLignes());
+    }
+}
@@ -0,0 +1,115 @@
+package com.accenture;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.dto.PeriodeLocationDTO;
+import com.accenture.service.dto.VerificationIndexDTO;
+import com.accenture.service.dto.vehicules.VehiculeIndexeDTO;
+import com.accenture.shared.enumerations.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IndexDisponibiliteTest {
+
+    @Mock
+    LocationDAO locationDaoMock;
+    @Mock
+    VehiculeDAO vehiculeDaoMock;
+    @InjectMocks
+    IndexDisponibilite index;
+
+    @BeforeEach
+    void construireIndex() {
+        Mockito.when(vehiculeDaoMock.trouverTousIndexes()).thenReturn(List.of(
+                new VehiculeIndexeDTO(1L, Type.CITADINE, false, true, false),
+                new VehiculeIndexeDTO(2L, Type.SUV, false, true, false),
+                new VehiculeIndexeDTO(3L, Type.ROADSTER, true, true, false)));
+        Mockito.when(locationDaoMock.trouverToutesLesPeriodes()).thenReturn(List.of(
+                new PeriodeLocationDTO(10L, 1L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10)),
+                new PeriodeLocationDTO(11L, 3L, LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 6))));
+        index.reconstruire();
+    }
+
+    @DisplayName("Un véhicule dont la location chevauche la période n'est pas disponible")
+    @Test
+    void testChevauchement() {
+        List<Long> libres = index.trouverVehiculesLibres(LocalDate.of(2025, 3, 8), LocalDate.of(2025, 3, 12), null, true, true);
+        assertEquals(List.of(2L, 3L), libres.stream().sorted().toList());
+    }
+
+    @DisplayName("Une location qui se termine le jour du début de la période ne bloque pas le véhicule")
+    @Test
+    void testBornesNonIncluses() {
+        List<Long> libres = index.trouverVehiculesLibres(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12), null, true, true);
+        assertTrue(libres.contains(1L));
+    }
+
+    @DisplayName("Le filtre sur le type et la catégorie est appliqué")
+    @Test
+    void testFiltreTypeEtCategorie() {
+        assertEquals(List.of(2L), index.trouverVehiculesLibres(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 2), Type.SUV, true, true));
+        assertEquals(List.of(3L), index.trouverVehiculesLibres(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 2), null, true, false));
+    }
+
+    @DisplayName("Une location ajoutée, déplacée puis supprimée est prise en compte")
+    @Test
+    void testMiseAJour() {
+        LocalDate debut = LocalDate.of(2025, 5, 1);
+        LocalDate fin = LocalDate.of(2025, 5, 3);
+        index.enregistrerLocation(new PeriodeLocationDTO(12L, 2L, debut, fin));
+        assertFalse(index.trouverVehiculesLibres(debut, fin, null, true, true).contains(2L));
+
+        index.enregistrerLocation(new PeriodeLocationDTO(12L, 2L, debut.plusMonths(1), fin.plusMonths(1)));
+        assertTrue(index.trouverVehiculesLibres(debut, fin, null, true, true).contains(2L));
+
+        index.retirerLocation(12L);
+        assertTrue(index.trouverVehiculesLibres(debut.plusMonths(1), fin.plusMonths(1), null, true, true).contains(2L));
+    }
+
+    @DisplayName("Les mises à jour reçues pendant une reconstruction ne sont pas perdues")
+    @Test
+    void testMiseAJourPendantReconstruction() {
+        LocalDate debut = LocalDate.of(2025, 3, 2);
+        LocalDate fin = LocalDate.of(2025, 3, 4);
+        Mockito.when(locationDaoMock.trouverToutesLesPeriodes()).thenAnswer(invocation -> {
+            index.enregistrerLocation(new PeriodeLocationDTO(20L, 2L, debut, fin));
+            index.retirerLocation(10L);
+            index.enregistrerVehicule(new VehiculeIndexeDTO(4L, Type.SUV, false, true, false));
+            return List.of(
+                    new PeriodeLocationDTO(10L, 1L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10)),
+                    new PeriodeLocationDTO(11L, 3L, LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 6)));
+        });
+
+        index.reconstruire();
+
+        List<Long> libres = index.trouverVehiculesLibres(debut, fin, null, true, true);
+        assertEquals(List.of(1L, 3L, 4L), libres.stream().sorted().toList());
+    }
+
+    @DisplayName("La vérification signale une location présente en base mais absente de l'index")
+    @Test
+    void testVerification() {
+        PeriodeLocationDTO nouvelle = new PeriodeLocationDTO(13L, 2L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 2));
+        Mockito.when(locationDaoMock.trouverToutesLesPeriodes()).thenReturn(List.of(
+                new PeriodeLocationDTO(10L, 1L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10)),
+                new PeriodeLocationDTO(11L, 3L, LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 6)),
+                nouvelle));
+        VerificationIndexDTO verification = index.verifier();
+        assertFalse(verification.coherent());
+        assertEquals(List.of(13L), verification.locationsManquantes());
+        assertTrue(verification.locationsEnTrop().isEmpty());
+    }
+}
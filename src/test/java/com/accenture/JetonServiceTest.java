@@ -0,0 +1,52 @@
+package com.accenture;
+
+import com.accenture.exception.AccesRefuseException;
+import com.accenture.service.dto.utilisateurs.JetonDTO;
+import com.accenture.service.jeton.JetonService;
+import com.accenture.service.jeton.SessionUtilisateur;
+import com.accenture.shared.enumerations.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JetonServiceTest {
+
+    JetonService jetonService = new JetonService("", Duration.ofMinutes(30));
+
+    @DisplayName("Un jeton émis est vérifié sans base de données et restitue la session")
+    @Test
+    void testEmettreEtVerifier() {
+        JetonDTO jeton = jetonService.emettre(Role.CLIENT, 42L, "client42@generation.fr");
+        SessionUtilisateur session = jetonService.verifier(jeton.jeton()).orElseThrow();
+        assertEquals(Role.CLIENT, session.role());
+        assertEquals(42L, session.id());
+        assertEquals("client42@generation.fr", session.login());
+        assertEquals(42L, session.idPour(Role.CLIENT, 42L));
+        assertThrows(AccesRefuseException.class, () -> session.idPour(Role.CLIENT, 43L));
+        assertThrows(AccesRefuseException.class, () -> session.idPour(Role.ADMINISTRATEUR, null));
+    }
+
+    @DisplayName("Un jeton modifié, signé avec une autre clé ou expiré est refusé")
+    @Test
+    void testJetonsInvalides() {
+        String jeton = jetonService.emettre(Role.CLIENT, 42L, "client42@generation.fr").jeton();
+        String modifie = (jeton.charAt(0) == 'A' ? 'B' : 'A') + jeton.substring(1);
+        assertTrue(jetonService.verifier(modifie).isEmpty());
+        assertTrue(new JetonService("", Duration.ofMinutes(30)).verifier(jeton).isEmpty());
+        assertTrue(jetonService.verifier("pas-un-jeton").isEmpty());
+
+        JetonService expire = new JetonService("", Duration.ofSeconds(-1));
+        assertTrue(expire.verifier(expire.emettre(Role.CLIENT, 42L, "client42@generation.fr").jeton()).isEmpty());
+    }
+
+    @DisplayName("Un jeton révoqué est refusé")
+    @Test
+    void testRevocation() {
+        String jeton = jetonService.emettre(Role.ADMINISTRATEUR, 1L, "admin@location.fr").jeton();
+        jetonService.revoquer(jetonService.verifier(jeton).orElseThrow());
+        assertTrue(jetonService.verifier(jeton).isEmpty());
+    }
+}
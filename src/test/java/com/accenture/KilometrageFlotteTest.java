@@ -0,0 +1,76 @@
+package com.accenture;
+
+import com.accenture.repository.KilometrageMensuelDAO;
+import com.accenture.repository.KilometrageVehiculeDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.entity.vehicules.KilometrageVehicule;
+import com.accenture.repository.entity.vehicules.Voiture;
+import com.accenture.service.dto.vehicules.KilometrageDTO;
+import com.accenture.service.dto.vehicules.KilometrageMensuelDTO;
+import com.accenture.service.kilometrage.KilometrageFlotte;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class KilometrageFlotteTest {
+
+    @Mock
+    KilometrageVehiculeDAO kilometrageVehiculeDaoMock;
+    @Mock
+    KilometrageMensuelDAO kilometrageMensuelDaoMock;
+    @Mock
+    VehiculeDAO vehiculeDaoMock;
+    @InjectMocks
+    KilometrageFlotte kilometrageFlotte;
+
+    @DisplayName("Le kilométrage d'un véhicule combine son compteur, son cumul et le détail mensuel")
+    @Test
+    void testTrouver() {
+        Voiture voiture = new Voiture();
+        voiture.setKilometrage(15000);
+        List<KilometrageMensuelDTO> parMois = List.of(new KilometrageMensuelDTO(1L, LocalDate.of(2025, 3, 1), 420, 2));
+        Mockito.when(vehiculeDaoMock.findById(1L)).thenReturn(Optional.of(voiture));
+        Mockito.when(kilometrageVehiculeDaoMock.findById(1L)).thenReturn(Optional.of(new KilometrageVehicule(1L, 420, 2)));
+        Mockito.when(kilometrageMensuelDaoMock.trouverParVehicule(1L)).thenReturn(parMois);
+
+        assertEquals(new KilometrageDTO(1L, 15000, 420, 2, parMois), kilometrageFlotte.trouver(1L));
+    }
+
+    @DisplayName("Un véhicule sans location clôturée a un cumul nul")
+    @Test
+    void testTrouverSansCumul() {
+        Mockito.when(vehiculeDaoMock.findById(2L)).thenReturn(Optional.of(new Voiture()));
+        Mockito.when(kilometrageVehiculeDaoMock.findById(2L)).thenReturn(Optional.empty());
+        Mockito.when(kilometrageMensuelDaoMock.trouverParVehicule(2L)).thenReturn(List.of());
+
+        KilometrageDTO dto = kilometrageFlotte.trouver(2L);
+        assertEquals(0, dto.kmTotal());
+        assertTrue(dto.parMois().isEmpty());
+    }
+
+    @DisplayName("Un véhicule inexistant lève une EntityNotFoundException")
+    @Test
+    void testTrouverInexistant() {
+        Mockito.when(vehiculeDaoMock.findById(3L)).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> kilometrageFlotte.trouver(3L));
+    }
+
+    @DisplayName("La recherche mensuelle est ramenée au premier jour du mois")
+    @Test
+    void testTrouverMois() {
+        kilometrageFlotte.trouverMois(LocalDate.of(2025, 3, 17));
+        Mockito.verify(kilometrageMensuelDaoMock).trouverParMois(LocalDate.of(2025, 3, 1));
+    }
+}
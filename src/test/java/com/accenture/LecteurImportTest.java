@@ -0,0 +1,54 @@
+package com.accenture;
+
+import com.accenture.service.dto.vehicules.MotoRequestDTO;
+import com.accenture.shared.LecteurImport;
+import com.accenture.shared.LigneImport;
+import com.accenture.shared.enumerations.Transmission;
+import com.accenture.shared.enumerations.Type;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LecteurImportTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Chaque ligne CSV est convertie ; une ligne illisible est rapportée sans interrompre la lecture")
+    @Test
+    void testLireCsv() throws IOException {
+        String csv = """
+                marque,modele,couleur,nbrCylindres,cylindree,poids,puissance,hauteurSelle,transmission,type,tarifJournee
+                Yamaha,"MT-07, ""édition""",noire,2,689,184,54,805,MANUEL,ROADSTER,60
+                Honda,CB500,rouge,deux,471,192,35,785,MANUEL,ROADSTER,45
+                Ducati,Monster,rouge,2,937
+                """;
+        List<LigneImport<MotoRequestDTO>> lignes = lire(csv);
+
+        assertEquals(3, lignes.size());
+        MotoRequestDTO moto = lignes.getFirst().valeur();
+        assertEquals("MT-07, \"édition\"", moto.modele());
+        assertEquals(689, moto.cylindree());
+        assertEquals(Transmission.MANUEL, moto.transmission());
+        assertEquals(Type.ROADSTER, moto.type());
+        assertEquals("Valeur invalide pour la colonne nbrCylindres", lignes.get(1).erreur());
+        assertEquals(3, lignes.get(2).numero());
+        assertNotNull(lignes.get(2).erreur());
+    }
+
+    @DisplayName("Une colonne inconnue dans l'en-tête lève une IllegalArgumentException")
+    @Test
+    void testColonneInconnue() {
+        assertThrows(IllegalArgumentException.class, () -> lire("marque,immatriculation\nYamaha,AB-123-CD\n"));
+    }
+
+    private List<LigneImport<MotoRequestDTO>> lire(String csv) throws IOException {
+        return LecteurImport.lireCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MotoRequestDTO.class, objectMapper);
+    }
+}
@@ -0,0 +1,63 @@
+package com.accenture;
+
+import com.accenture.configuration.MetriquesServices;
+import com.accenture.exception.VoitureException;
+import com.accenture.repository.VoitureDAO;
+import com.accenture.service.VoitureService;
+import com.accenture.service.VoitureServiceImpl;
+import com.accenture.service.mapper.VoitureMapper;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.shared.enumerations.ModeValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MetriquesServicesTest {
+
+    @Mock
+    VoitureDAO daoMock;
+    @Mock
+    VoitureMapper mapperMock;
+
+    SimpleMeterRegistry registry;
+    VoitureService service;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory fabrique = new AspectJProxyFactory(new VoitureServiceImpl(daoMock, mapperMock, new ValidationRequetes(ModeValidation.PREMIERE_ERREUR)));
+        fabrique.addAspect(new MetriquesServices(registry));
+        service = fabrique.getProxy();
+    }
+
+    @DisplayName("Un appel de service réussi est chronométré avec l'exception \"aucune\"")
+    @Test
+    void testAppelReussi() {
+        Mockito.when(daoMock.trouverTousDTO()).thenReturn(List.of());
+        service.trouverTous();
+        assertEquals(1, registry.get(MetriquesServices.TIMER_SERVICE)
+                .tags("classe", "VoitureServiceImpl", "methode", "trouverTous", "exception", "aucune")
+                .timer().count());
+    }
+
+    @DisplayName("Un appel de service en erreur est chronométré et compté par type d'exception")
+    @Test
+    void testAppelEnErreur() {
+        assertThrows(VoitureException.class, () -> service.ajouter(null));
+        assertEquals(1, registry.get(MetriquesServices.COMPTEUR_ERREURS)
+                .tags("classe", "VoitureServiceImpl", "methode", "ajouter", "exception", "VoitureException")
+                .counter().count());
+        assertEquals(1, registry.get(MetriquesServices.TIMER_SERVICE).tag("exception", "VoitureException").timer().count());
+    }
+}
@@ -0,0 +1,75 @@
+package com.accenture;
+
+import com.accenture.controller.advice.ApplicationControllerAdvice;
+import com.accenture.service.dto.CurseurDTO;
+import com.accenture.shared.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaginationTest {
+
+    @DisplayName("Un curseur encodé puis décodé redonne l'identifiant")
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 42L, 1_000_000_007L, Long.MAX_VALUE})
+    void testAllerRetour(long identifiant) {
+        assertEquals(identifiant, Pagination.decoder(Pagination.encoder(identifiant)));
+    }
+
+    @DisplayName("Un curseur absent correspond au début de la liste")
+    @Test
+    void testCurseurAbsent() {
+        assertEquals(0L, Pagination.decoder(null));
+        assertEquals(0L, Pagination.decoder(" "));
+    }
+
+    @DisplayName("Un curseur mal formé ou altéré lève une IllegalArgumentException")
+    @Test
+    void testCurseurInvalide() {
+        Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+        assertThrows(IllegalArgumentException.class, () -> Pagination.decoder("@@@@"));
+        assertThrows(IllegalArgumentException.class, () -> Pagination.decoder(base64.encodeToString(new byte[4])));
+        assertThrows(IllegalArgumentException.class, () -> Pagination.decoder(base64.encodeToString(new byte[Long.BYTES + 1])));
+        assertThrows(IllegalArgumentException.class, () -> Pagination.decoder(
+                base64.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(-5L).array())));
+    }
+
+    @DisplayName("Un curseur invalide produit une réponse 400")
+    @Test
+    void testCurseurInvalideMauvaiseRequete() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> Pagination.decoder("@@@@"));
+        ApplicationControllerAdvice advice = new ApplicationControllerAdvice(new SimpleMeterRegistry());
+        assertEquals(HttpStatus.BAD_REQUEST, advice.gestionIllegalArgumentException(ex).getStatusCode());
+    }
+
+    @DisplayName("La taille demandée doit être positive et est plafonnée à TAILLE_MAX")
+    @Test
+    void testBornesTaille() {
+        assertThrows(IllegalArgumentException.class, () -> Pagination.limite(0));
+        assertThrows(IllegalArgumentException.class, () -> Pagination.limite(-1));
+        assertEquals(2, Pagination.limite(1).max());
+        assertEquals(Pagination.TAILLE_MAX + 1, Pagination.limite(Pagination.TAILLE_MAX).max());
+        assertEquals(Pagination.TAILLE_MAX + 1, Pagination.limite(10_000).max());
+    }
+
+    @DisplayName("Le curseur suivant désigne le dernier élément renvoyé, et n'est présent que s'il reste des éléments")
+    @Test
+    void testCurseurSuivant() {
+        CurseurDTO<List<Long>> premiere = Pagination.versCurseur(List.of(1L, 2L, 3L), 2, Long::longValue, Pagination.chacun(id -> id));
+        assertEquals(List.of(1L, 2L), premiere.contenu());
+        assertEquals(2L, Pagination.decoder(premiere.curseurSuivant()));
+
+        CurseurDTO<List<Long>> derniere = Pagination.versCurseur(List.of(3L), 2, Long::longValue, Pagination.chacun(id -> id));
+        assertEquals(List.of(3L), derniere.contenu());
+        assertNull(derniere.curseurSuivant());
+    }
+}
@@ -0,0 +1,28 @@
+package com.accenture;
+
+import com.accenture.shared.ResumeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResumeLogTest {
+
+    @DisplayName("Le résumé d'une grande collection est limité aux premiers identifiants")
+    @Test
+    void testResumeLimite() {
+        List<Integer> elements = IntStream.rangeClosed(1, 25).boxed().toList();
+        assertEquals("25 éléments [ids 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, … +15]",
+                ResumeLog.resume(elements, Function.identity()).toString());
+    }
+
+    @DisplayName("Le résumé d'une collection vide ne contient que le nombre d'éléments")
+    @Test
+    void testResumeVide() {
+        assertEquals("0 éléments", ResumeLog.resume(List.<Integer>of(), Function.identity()).toString());
+    }
+}
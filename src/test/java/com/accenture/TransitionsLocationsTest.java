@@ -0,0 +1,112 @@
+package com.accenture;
+
+import com.accenture.repository.LocationDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.service.cycle.TransitionsLocations;
+import com.accenture.service.disponibilite.CalendrierDisponibilite;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.kilometrage.KilometrageFlotte;
+import com.accenture.shared.enumerations.EtatLocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransitionsLocationsTest {
+
+    @Mock
+    LocationDAO locationDaoMock;
+    @Mock
+    VehiculeDAO vehiculeDaoMock;
+    @Mock
+    KilometrageFlotte kilometrageMock;
+    @Mock
+    PlatformTransactionManager transactionManagerMock;
+    @Mock
+    ObjectProvider<IndexDisponibilite> indexMock;
+    @Mock
+    ObjectProvider<CalendrierDisponibilite> calendrierMock;
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    TransitionsLocations transitions;
+    LocalDate jour = LocalDate.of(2025, 6, 1);
+
+    @BeforeEach
+    void init() {
+        transitions = new TransitionsLocations(locationDaoMock, vehiculeDaoMock, kilometrageMock, transactionManagerMock, indexMock, calendrierMock, registry, 2);
+    }
+
+    @DisplayName("Les locations rendues sont clôturées par lots, leurs kilomètres ajoutés aux véhicules et aux cumuls")
+    @Test
+    void testClotureParLots() {
+        Mockito.when(locationDaoMock.verrouillerLot(ArgumentMatchers.anyString(), ArgumentMatchers.eq(jour), ArgumentMatchers.eq(2)))
+                .thenReturn(List.of());
+        Mockito.when(locationDaoMock.verrouillerLot(EtatLocation.RENDUE.name(), jour, 2))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        Map<String, Long> lignes = transitions.executer(jour);
+
+        assertEquals(Map.of(TransitionsLocations.EXPIRATION, 0L, TransitionsLocations.DEMARRAGE, 0L, TransitionsLocations.CLOTURE, 3L), lignes);
+        Mockito.verify(vehiculeDaoMock).ajouterKilometrage(List.of(1L, 2L));
+        Mockito.verify(vehiculeDaoMock).ajouterKilometrage(List.of(3L));
+        Mockito.verify(kilometrageMock).cumuler(List.of(1L, 2L));
+        Mockito.verify(kilometrageMock).cumuler(List.of(3L));
+        Mockito.verify(locationDaoMock).changerEtat(List.of(3L), EtatLocation.CLOTUREE.name());
+        assertEquals(2, registry.get(TransitionsLocations.TIMER_LOT).tag("transition", TransitionsLocations.CLOTURE).timer().count());
+        assertEquals(3.0, registry.get(TransitionsLocations.COMPTEUR_LIGNES).tag("transition", TransitionsLocations.CLOTURE).counter().count());
+    }
+
+    @DisplayName("Les réservations expirées sont annulées et retirées de l'index de disponibilité")
+    @Test
+    void testExpiration() {
+        IndexDisponibilite index = Mockito.mock(IndexDisponibilite.class);
+        Mockito.when(indexMock.getIfAvailable()).thenReturn(index);
+        Mockito.when(locationDaoMock.verrouillerLot(ArgumentMatchers.anyString(), ArgumentMatchers.eq(jour), ArgumentMatchers.eq(2)))
+                .thenReturn(List.of());
+        Mockito.when(locationDaoMock.verrouillerLot(EtatLocation.RESERVER.name(), jour, 2)).thenReturn(List.of(7L));
+
+        transitions.executer(jour);
+
+        Mockito.verify(locationDaoMock).changerEtat(List.of(7L), EtatLocation.ANNULEE.name());
+        Mockito.verify(index).retirerLocation(7L);
+        Mockito.verifyNoInteractions(vehiculeDaoMock, kilometrageMock);
+    }
+
+    @DisplayName("Une location clôturée ou annulée ne change plus d'état")
+    @Test
+    void testEtatsFinaux() {
+        assertTrue(EtatLocation.RESERVER.peutPasserA(EtatLocation.ANNULEE));
+        assertFalse(EtatLocation.EN_COURS.peutPasserA(EtatLocation.ANNULEE));
+        for (EtatLocation etat : EtatLocation.values()) {
+            assertFalse(EtatLocation.CLOTUREE.peutPasserA(etat));
+            assertFalse(EtatLocation.ANNULEE.peutPasserA(etat));
+        }
+    }
+
+    @DisplayName("Les scripts SQL désignent les états par des noms qui existent dans EtatLocation")
+    @Test
+    void testEtatsDesScriptsSql() throws IOException {
+        try (InputStream script = getClass().getResourceAsStream("/db/contraintes.sql")) {
+            assertNotNull(script);
+            String contraintes = new String(script.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(contraintes.contains(STR."''\{EtatLocation.ANNULEE.name()}''"));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.accenture;
+
+import com.accenture.exception.ClientException;
+import com.accenture.exception.VoitureException;
+import com.accenture.service.dto.utilisateurs.AdresseDTO;
+import com.accenture.service.dto.utilisateurs.ClientRequestDTO;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.shared.enumerations.ModeValidation;
+import com.accenture.shared.enumerations.Permis;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationRequetesTest {
+
+    ClientRequestDTO clientInvalide = new ClientRequestDTO("Dupont", " ", "jean.dupont-mail.fr", "motdepasse",
+            new AdresseDTO("1 rue des Lilas", "44000", "Nantes"), LocalDate.of(1990, 1, 1), Permis.B);
+
+    @DisplayName("En mode première erreur, seule la première violation est renvoyée")
+    @Test
+    void testPremiereErreur() {
+        ValidationRequetes validation = new ValidationRequetes(ModeValidation.PREMIERE_ERREUR);
+        ClientException ex = assertThrows(ClientException.class, () -> validation.verifierClient(clientInvalide, true));
+        assertEquals(List.of("Le prenom est obligatoire "), ex.getViolations());
+    }
+
+    @DisplayName("En mode toutes les erreurs, les violations sont renvoyées ensemble dans l'ordre des règles")
+    @Test
+    void testToutesLesErreurs() {
+        ValidationRequetes validation = new ValidationRequetes(ModeValidation.TOUTES_LES_ERREURS);
+        ClientException ex = assertThrows(ClientException.class, () -> validation.verifierClient(clientInvalide, true));
+        assertEquals(3, ex.getViolations().size());
+        assertEquals("Le prenom est obligatoire ", ex.getViolations().getFirst());
+        assertEquals("L'email doit contenir un @ et un nom de domaine valide", ex.getViolations().getLast());
+    }
+
+    @DisplayName("Le mot de passe n'est pas contrôlé lorsqu'il n'est pas modifié, et un objet null interrompt la validation")
+    @Test
+    void testSansMotDePasseEtNull() {
+        ValidationRequetes validation = new ValidationRequetes(ModeValidation.TOUTES_LES_ERREURS);
+        ClientRequestDTO sansMotDePasse = new ClientRequestDTO("Dupont", "Jean", "jean.dupont@mail.fr", null,
+                new AdresseDTO("1 rue des Lilas", "44000", "Nantes"), LocalDate.of(1990, 1, 1), Permis.B);
+        assertDoesNotThrow(() -> validation.verifierClient(sansMotDePasse, false));
+        VoitureException ex = assertThrows(VoitureException.class, () -> validation.verifierVoiture(null));
+        assertEquals(List.of("La voiture est null"), ex.getViolations());
+    }
+}
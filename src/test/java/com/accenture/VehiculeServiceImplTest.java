@@ -0,0 +1,69 @@
+package com.accenture;
+
+import com.accenture.repository.MotoDAO;
+import com.accenture.repository.VehiculeDAO;
+import com.accenture.repository.VoitureDAO;
+import com.accenture.service.VehiculeServiceImpl;
+import com.accenture.service.disponibilite.IndexDisponibilite;
+import com.accenture.service.mapper.MotoMapper;
+import com.accenture.service.mapper.VoitureMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VehiculeServiceImplTest {
+
+    @Mock
+    VehiculeDAO vehiculeDaoMock;
+    @Mock
+    MotoDAO motoDaoMock;
+    @Mock
+    VoitureDAO voitureDaoMock;
+    @Mock
+    MotoMapper motoMapperMock;
+    @Mock
+    VoitureMapper voitureMapperMock;
+    @Mock
+    IndexDisponibilite indexMock;
+
+    VehiculeServiceImpl service;
+
+    @BeforeEach
+    void init() {
+        service = new VehiculeServiceImpl(vehiculeDaoMock, motoDaoMock, voitureDaoMock, motoMapperMock, voitureMapperMock, Optional.of(indexMock));
+    }
+
+    @DisplayName("Les véhicules libres trouvés par l'index sont chargés par lots d'identifiants")
+    @Test
+    @SuppressWarnings("unchecked")
+    void testChargementParLots() {
+        LocalDate debut = LocalDate.of(2025, 3, 1);
+        LocalDate fin = debut.plusDays(3);
+        List<Long> libres = LongStream.rangeClosed(1, 2 * VehiculeServiceImpl.TAILLE_LOT_IDS + 500).boxed().toList();
+        Mockito.when(indexMock.trouverVehiculesLibres(debut, fin, null, true, true)).thenReturn(libres);
+        List<Integer> tailles = new ArrayList<>();
+        Mockito.when(vehiculeDaoMock.findAllById(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            tailles.add(((List<Long>) invocation.getArgument(0)).size());
+            return List.of();
+        });
+
+        service.rechercherParDateEtTypeEtCategorie(debut, fin, true, true, null);
+
+        assertEquals(List.of(1000, 1000, 500), tailles);
+        Mockito.verifyNoInteractions(motoDaoMock, voitureDaoMock);
+    }
+}
@@ -0,0 +1,53 @@
+package com.accenture;
+
+import com.accenture.exception.ReservationConflitException;
+import com.accenture.service.verrou.VerrousVehicules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerrousVehiculesTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @DisplayName("Le nombre de bandes est arrondi à la puissance de 2 supérieure, 0 désactive les verrous")
+    @Test
+    void testNombreBandes() {
+        assertEquals(256, new VerrousVehicules(200, Duration.ofSeconds(1), registry).nombreBandes());
+        assertEquals(0, new VerrousVehicules(0, Duration.ofSeconds(1), new SimpleMeterRegistry()).nombreBandes());
+    }
+
+    @DisplayName("Une demande qui attend trop longtemps le verrou d'un véhicule lève une ReservationConflitException")
+    @Test
+    void testAttenteMaximale() throws Exception {
+        VerrousVehicules verrous = new VerrousVehicules(16, Duration.ofMillis(50), registry);
+        CountDownLatch detenu = new CountDownLatch(1);
+        CountDownLatch liberer = new CountDownLatch(1);
+        try (ExecutorService executeur = Executors.newSingleThreadExecutor()) {
+            Future<Boolean> premiere = executeur.submit(() -> verrous.executer(1L, () -> {
+                detenu.countDown();
+                try {
+                    return liberer.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertTrue(detenu.await(5, TimeUnit.SECONDS));
+            assertThrows(ReservationConflitException.class, () -> verrous.executer(1L, () -> true));
+            liberer.countDown();
+            assertTrue(premiere.get());
+        }
+        assertTrue(verrous.executer(1L, () -> true));
+        assertEquals(3, registry.get(VerrousVehicules.TIMER_ATTENTE).timer().count());
+        assertEquals(1.0, registry.get(VerrousVehicules.RESUME_FILE).summary().max());
+    }
+}
@@ -1,12 +1,16 @@
 package com.accenture;
 
+import com.accenture.exception.VersionObsoleteException;
 import com.accenture.exception.VoitureException;
 import com.accenture.repository.VoitureDAO;
 import com.accenture.repository.entity.vehicules.Voiture;
 import com.accenture.service.VoitureServiceImpl;
+import com.accenture.service.dto.RapportImportDTO;
 import com.accenture.service.dto.vehicules.VoitureRequestDTO;
 import com.accenture.service.dto.vehicules.VoitureResponseDTO;
 import com.accenture.service.mapper.VoitureMapper;
+import com.accenture.service.validation.ValidationRequetes;
+import com.accenture.shared.LigneImport;
 import com.accenture.shared.enumerations.*;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -31,6 +36,9 @@ public class VoitureServiceImplTest {
     @Mock
     VoitureMapper mapperMock;
 
+    @Spy
+    ValidationRequetes validation = new ValidationRequetes(ModeValidation.PREMIERE_ERREUR);
+
     @InjectMocks
     VoitureServiceImpl service;
 
@@ -60,17 +68,12 @@ public class VoitureServiceImplTest {
     @DisplayName("Doit renvoyer une liste de VoitureResponseDTO correspondant aux voitures existantes dans la base de données")
     @Test
     void testTrouverTous() {
-        Voiture voiture1 = creeVoiture();
-        Voiture voiture2 = creeVoiture2();
         VoitureResponseDTO v1 = voitureResponseDTO();
         VoitureResponseDTO v2 = voiture2ResponseDTO();
 
-        List<Voiture> voitures = List.of(voiture1, voiture2);
         List<VoitureResponseDTO> dto = List.of(v1, v2);
 
-        Mockito.when(daoMock.findAll()).thenReturn(voitures);
-        Mockito.when(mapperMock.toVoitureResponseDTO(voiture1)).thenReturn(v1);
-        Mockito.when(mapperMock.toVoitureResponseDTO(voiture2)).thenReturn(v2);
+        Mockito.when(daoMock.trouverTousDTO()).thenReturn(dto);
 
         assertEquals(dto, service.trouverTous());
     }
@@ -143,7 +146,7 @@ public class VoitureServiceImplTest {
     @Test
     void testAjouterNombreDePlaces() {
         VoitureResponseDTO voiture = new VoitureResponseDTO(1, "Seat", "Arona", "rouge", Type.SUV,
-                12, Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.D1, 50, 1400, true, false);
+                12, Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.D1, 50, 1400, true, false, 0L);
         assertEquals(Permis.D1, voiture.permis());
     }
 
@@ -358,6 +361,18 @@ public class VoitureServiceImplTest {
     }
 
 
+    @DisplayName("Modifier une voiture avec une version obsolète lève une VersionObsoleteException, sans enregistrement")
+    @Test
+    void testModifierVersionObsolete() {
+        Voiture voitureExistante = creeVoiture();
+        voitureExistante.setVersion(3);
+        Mockito.when(daoMock.findById(1L)).thenReturn(Optional.of(voitureExistante));
+
+        assertThrows(VersionObsoleteException.class, () -> service.modifier(1L, 2L, voitureRequestDTO()));
+        Mockito.verify(daoMock, Mockito.never()).save(Mockito.any());
+    }
+
+
     @DisplayName("Modifier une voiture avec une marque null, exception levée")
     @Test
     void testModifierMarqueNull() {
@@ -451,7 +466,7 @@ public class VoitureServiceImplTest {
 
         VoitureResponseDTO responseDto = new VoitureResponseDTO(1,
                 "Renault", "Twingo", "rose", Type.SUV, 7, Carburant.DIESEL, NombrePortes.CINQ, false, Transmission.AUTO, 11,
-                Permis.B1, 100, 4, false, true);
+                Permis.B1, 100, 4, false, true, 0L);
 
 
         Mockito.when(daoMock.findById(1L)).thenReturn(Optional.of(vraieVoiture));
@@ -484,17 +499,10 @@ public class VoitureServiceImplTest {
     @DisplayName("Filtrer les voitures actives (actif=true) et vérifier que le résultat contient uniquement des voitures actives")
     @Test
     void testfiltreActifFonctionne() {
-        Voiture v1 = creeVoiture();
-        Voiture v2 = creeVoiture2();
-
-        List<Voiture> voitures = List.of(v1, v2);
-
-
         VoitureResponseDTO dto = new VoitureResponseDTO(1, "Seat", "Arona", "Rouge", Type.SUV, 5,
-                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.B, 50, 1400, true, false);
+                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.B, 50, 1400, true, false, 0L);
 
-        Mockito.when(daoMock.findAll()).thenReturn(voitures);
-        Mockito.when(mapperMock.toVoitureResponseDTO(v1)).thenReturn(dto);
+        Mockito.when(daoMock.trouverDTOParActif(true)).thenReturn(List.of(dto));
 
 
         List<VoitureResponseDTO> result = service.filtrer(Filtre.ACTIF);
@@ -506,15 +514,10 @@ public class VoitureServiceImplTest {
     @DisplayName("Filtrer les voitures inactives (actif=false) et vérifier que le résultat contient uniquement des voitures inactives")
     @Test
     void testfiltreActifInactif() {
-        Voiture v1 = creeVoiture();
-        Voiture v2 = creeVoiture2();
-
-        List<Voiture> voitures = List.of(v1, v2);
         VoitureResponseDTO dto2 = new VoitureResponseDTO(2, "Peugeot", "208", "Jaune", Type.CITADINE, 11,
-                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.B, 50, 1400, false, false);
+                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.B, 50, 1400, false, false, 0L);
 
-        Mockito.when(daoMock.findAll()).thenReturn(voitures);
-        Mockito.when(mapperMock.toVoitureResponseDTO(v2)).thenReturn(dto2);
+        Mockito.when(daoMock.trouverDTOParActif(false)).thenReturn(List.of(dto2));
 
 
         List<VoitureResponseDTO> result = service.filtrer(Filtre.INACTIF);
@@ -525,40 +528,27 @@ public class VoitureServiceImplTest {
     @DisplayName("Filtrer les voitures retirées du parc (retireDuParc=true) et vérifier que le résultat contient uniquement des voitures retirées du parc")
     @Test
     void testfiltreHorsDuParcFonctionne() {
-        Voiture v1 = creeVoiture();
-        v1.setActif(false);
-        v1.setRetireDuParc(false);
-        Voiture v2 = creeVoiture2();
-        v2.setActif(false);
-        v2.setRetireDuParc(false);
-        List<Voiture> voitures = List.of(v1, v2);
-        Mockito.when(daoMock.findAll()).thenReturn(voitures);
+        VoitureResponseDTO dto = new VoitureResponseDTO(3, "Renault", "Clio", "Bleu", Type.CITADINE, 7,
+                Carburant.DIESEL, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.B, 45, 1200, false, true, 0L);
+
+        Mockito.when(daoMock.trouverDTOParRetireDuParc(true)).thenReturn(List.of(dto));
+
         List<VoitureResponseDTO> result = service.filtrer(Filtre.HORSPARC);
-        assertEquals(0, result.size());
+        assertEquals(List.of(dto), result);
         assertTrue(result.stream().allMatch(VoitureResponseDTO::retireDuParc));
+        Mockito.verify(daoMock).trouverDTOParRetireDuParc(true);
     }
 
 
     @DisplayName("Filtrer les voitures dans le parc (retireDuParc=false) et vérifier que le résultat contient uniquement des voitures non retirées du parc")
     @Test
     void testfiltreDansLeParc() {
-        Voiture v1 = creeVoiture();
-        v1.setActif(false);
-        v1.setRetireDuParc(false);
-        Voiture v2 = creeVoiture2();
-        v2.setActif(false);
-        v2.setRetireDuParc(false);
-
-        List<Voiture> voitures = List.of(v1, v2);
-
         VoitureResponseDTO dto = new VoitureResponseDTO(1, "Seat", "Arona", "Rouge", Type.SUV, 5,
-                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.B, 50, 1400, false, false);
+                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.B, 50, 1400, false, false, 0L);
         VoitureResponseDTO dto2 = new VoitureResponseDTO(2, "Peugeot", "208", "Jaune", Type.CITADINE, 11,
-                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.B, 50, 1400, false, false);
+                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.B, 50, 1400, false, false, 0L);
 
-        Mockito.when(daoMock.findAll()).thenReturn(voitures);
-        Mockito.when(mapperMock.toVoitureResponseDTO(v1)).thenReturn(dto);
-        Mockito.when(mapperMock.toVoitureResponseDTO(v2)).thenReturn(dto2);
+        Mockito.when(daoMock.trouverDTOParRetireDuParc(false)).thenReturn(List.of(dto, dto2));
 
         List<VoitureResponseDTO> result = service.filtrer(Filtre.DANSLEPARC);
         assertEquals(2, result.size());
@@ -566,6 +556,28 @@ public class VoitureServiceImplTest {
     }
 
 
+    @DisplayName("L'import enregistre les voitures valides et rapporte les lignes rejetées avec toutes leurs violations")
+    @Test
+    void testImporter() {
+        VoitureRequestDTO valide = new VoitureRequestDTO("Seat", "Arona", "rouge", Type.SUV,
+                5, Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, 50, 1400, true, false);
+        VoitureRequestDTO invalide = new VoitureRequestDTO(" ", "Arona", "rouge", Type.SUV,
+                5, Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 0, 50, 1400, true, false);
+        Voiture voiture = new Voiture();
+        Mockito.when(mapperMock.toVoiture(valide)).thenReturn(voiture);
+
+        RapportImportDTO rapport = service.importer(List.of(LigneImport.valide(1, valide), LigneImport.valide(2, invalide),
+                LigneImport.invalide(3, "Ligne illisible")));
+
+        assertEquals(3, rapport.nbLignes());
+        assertEquals(1, rapport.nbImportes());
+        assertEquals(List.of(2, 3), rapport.erreurs().stream().map(RapportImportDTO.ErreurImportDTO::ligne).toList());
+        assertEquals(2, rapport.erreurs().getFirst().violations().size());
+        assertEquals(Permis.B, voiture.getPermis());
+        Mockito.verify(daoMock).saveAll(List.of(voiture));
+    }
+
+
 //************************************************************************************************************************
 //                                                      METHODE PRIVEE
 //************************************************************************************************************************
@@ -590,7 +602,7 @@ public class VoitureServiceImplTest {
 
     private static VoitureResponseDTO voitureResponseDTO() {
         return new VoitureResponseDTO(1, "Seat", "Arona", "Rouge", Type.SUV, 5,
-                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.B, 50, 1400, true, false);
+                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 5, Permis.B, 50, 1400, true, false, 0L);
     }
 
     private static Voiture creeVoiture2() {
@@ -612,7 +624,7 @@ public class VoitureServiceImplTest {
 
     private static VoitureResponseDTO voiture2ResponseDTO() {
         return new VoitureResponseDTO(2, "Peugeot", "208", "Jaune", Type.CITADINE, 11,
-                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.D1, 50, 1400, false, false);
+                Carburant.ESSENCE, NombrePortes.CINQ, true, Transmission.MANUEL, 3, Permis.D1, 50, 1400, false, false, 0L);
     }
 
 